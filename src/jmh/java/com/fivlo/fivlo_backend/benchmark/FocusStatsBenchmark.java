@@ -0,0 +1,125 @@
+package com.fivlo.fivlo_backend.benchmark;
+
+import com.fivlo.fivlo_backend.domain.pomodoro.service.FocusStats;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 월간 AI 분석 통계 계산 벤치마크
+ * - legacyGrouping: 헬퍼마다 Collectors.groupingBy로 다시 그룹핑하던 기존 방식
+ * - focusStats: FocusStats 단일 순회 후 원시 배열 조회
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class FocusStatsBenchmark {
+
+    record SyntheticSession(LocalDateTime createdAt, Integer durationInSeconds, Boolean isCycleCompleted, String goalName) {
+    }
+
+    @Param({"1000", "10000"})
+    private int sessionCount;
+
+    private List<SyntheticSession> sessions;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        String[] goals = {"공부", "운동", "독서", "코딩", "청소", "글쓰기"};
+        LocalDateTime monthStart = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+        sessions = new ArrayList<>(sessionCount);
+        for (int i = 0; i < sessionCount; i++) {
+            LocalDateTime createdAt = monthStart
+                    .plusDays(random.nextInt(31))
+                    .plusHours(random.nextInt(24))
+                    .plusMinutes(random.nextInt(60));
+            sessions.add(new SyntheticSession(
+                    createdAt,
+                    300 + random.nextInt(1500),
+                    random.nextInt(100) < 70,
+                    goals[random.nextInt(goals.length)]));
+        }
+    }
+
+    @Benchmark
+    public void focusStats(Blackhole bh) {
+        FocusStats stats = new FocusStats();
+        for (SyntheticSession s : sessions) {
+            stats.add(s.createdAt(), s.durationInSeconds(), s.isCycleCompleted(), s.goalName());
+        }
+
+        for (int hour = 0; hour < FocusStats.HOURS; hour++) {
+            bh.consume(stats.getHourSessionCount(hour));
+            bh.consume(stats.getHourSuccessRate(hour, 0.0));
+            bh.consume(stats.getHourAverageFocusMinutes(hour));
+        }
+        for (DayOfWeek day : DayOfWeek.values()) {
+            bh.consume(stats.getDaySuccessRate(day));
+            bh.consume(stats.getDayAverageFocusMinutes(day));
+        }
+        for (FocusStats.ActivityStats activity : stats.getActivities()) {
+            bh.consume(activity.getBestHour(9));
+        }
+        bh.consume(stats.getTotalDurationSeconds());
+        bh.consume(stats.getSuccessRate());
+    }
+
+    @Benchmark
+    public void legacyGrouping(Blackhole bh) {
+        // analyzeOptimalStartTime / analyzeLowConcentrationTime: 시간대별 그룹핑 (각각 수행)
+        for (int pass = 0; pass < 2; pass++) {
+            Map<Integer, List<SyntheticSession>> byHour = sessions.stream()
+                    .collect(Collectors.groupingBy(s -> s.createdAt().getHour()));
+            for (List<SyntheticSession> hourSessions : byHour.values()) {
+                bh.consume(successRate(hourSessions));
+                bh.consume(averageMinutes(hourSessions));
+            }
+        }
+
+        // analyzeOptimalDays: 요일별 그룹핑
+        Map<DayOfWeek, List<SyntheticSession>> byDay = sessions.stream()
+                .collect(Collectors.groupingBy(s -> s.createdAt().getDayOfWeek()));
+        for (List<SyntheticSession> daySessions : byDay.values()) {
+            bh.consume(successRate(daySessions));
+            bh.consume(averageMinutes(daySessions));
+        }
+
+        // analyzeActivitySuggestions: 활동별 → 시간대별 그룹핑
+        Map<String, List<SyntheticSession>> byActivity = sessions.stream()
+                .collect(Collectors.groupingBy(SyntheticSession::goalName));
+        for (List<SyntheticSession> activitySessions : byActivity.values()) {
+            Map<Integer, List<SyntheticSession>> activityByHour = activitySessions.stream()
+                    .collect(Collectors.groupingBy(s -> s.createdAt().getHour()));
+            bh.consume(activityByHour.entrySet().stream()
+                    .max(Map.Entry.comparingByValue((a, b) -> Double.compare(successRate(a), successRate(b))))
+                    .map(Map.Entry::getKey)
+                    .orElse(9));
+        }
+
+        // generateOverallAnalysisComment: 전체 합계
+        bh.consume(sessions.stream().mapToInt(SyntheticSession::durationInSeconds).sum());
+        bh.consume(successRate(sessions));
+    }
+
+    private static double successRate(List<SyntheticSession> sessions) {
+        return sessions.stream()
+                .mapToDouble(s -> s.isCycleCompleted() ? 1.0 : 0.0)
+                .average().orElse(0.0) * 100;
+    }
+
+    private static int averageMinutes(List<SyntheticSession> sessions) {
+        return (int) sessions.stream()
+                .mapToInt(SyntheticSession::durationInSeconds)
+                .average().orElse(0.0) / 60;
+    }
+}
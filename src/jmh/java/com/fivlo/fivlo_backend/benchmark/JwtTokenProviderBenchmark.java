@@ -0,0 +1,62 @@
+package com.fivlo.fivlo_backend.benchmark;
+
+import com.fivlo.fivlo_backend.config.JwtConfig;
+import com.fivlo.fivlo_backend.security.JwtTokenProvider;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청마다 JwtFilter에서 실행되는 토큰 검증 벤치마크 (HS256 서명 검증 + Claims 파싱)
+ * - validateToken → getUserIdFromToken: 기존처럼 토큰을 두 번 파싱
+ * - parseVerifiedClaims → getUserId: 한 번 파싱한 Claims 재사용
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        // @Value 주입 없이 설정값만 고정
+        JwtConfig jwtConfig = new JwtConfig() {
+            @Override
+            public String getJwtKeyId() {
+                return "bench";
+            }
+
+            @Override
+            public Map<String, String> getJwtKeyring() {
+                return Map.of("bench", "benchmark-secret-key-that-is-at-least-256-bits-long!!");
+            }
+
+            @Override
+            public Long getJwtExpiration() {
+                return 3_600_000L;
+            }
+
+            @Override
+            public Long getJwtRefreshExpiration() {
+                return 1_209_600_000L;
+            }
+        };
+        tokenProvider = new JwtTokenProvider(jwtConfig);
+        accessToken = tokenProvider.generateAccessToken(12345L);
+    }
+
+    @Benchmark
+    public Long validateThenGetUserId() {
+        return tokenProvider.validateToken(accessToken) ? tokenProvider.getUserIdFromToken(accessToken) : null;
+    }
+
+    @Benchmark
+    public Long parseVerifiedClaimsOnce() {
+        return tokenProvider.parseVerifiedClaims(accessToken)
+                .map(tokenProvider::getUserId)
+                .orElse(null);
+    }
+}
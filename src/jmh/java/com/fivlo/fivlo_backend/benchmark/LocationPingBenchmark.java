@@ -0,0 +1,56 @@
+package com.fivlo.fivlo_backend.benchmark;
+
+import com.fivlo.fivlo_backend.domain.user.notification.service.LocationPingIngestor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 위치 ping 접수 벤치마크 (LocationPingIngestor.offer)
+ * 요청 스레드가 직접 실행하는 경로 - 여러 요청 스레드가 같은 대기열에 동시에 기록하고,
+ * flush 사이에 같은 사용자의 ping이 다시 들어오면 최신 좌표로 병합된다.
+ * 측정 중에는 flush하지 않으므로 워밍업 이후는 병합 경로(flush 주기 안에 ping을 여러 번 보내는 사용자)를 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class LocationPingBenchmark {
+
+    private static final int COORDINATE_COUNT = 1024;
+
+    @Param({"100", "10000"})
+    private int userCount;
+
+    private LocationPingIngestor ingestor;
+    private BigDecimal[] latitudes;
+    private BigDecimal[] longitudes;
+
+    @Setup
+    public void setUp() {
+        // offer()는 평가 서비스/실행기를 쓰지 않으므로 비워 둠 (실행기는 게이지 등록용)
+        ingestor = new LocationPingIngestor(null, new ThreadPoolTaskExecutor(), new SimpleMeterRegistry(),
+                Integer.MAX_VALUE, 100);
+
+        // 서울 시청 기준 반경 수 km 안의 좌표 (DB와 같은 BigDecimal 정밀도)
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        latitudes = new BigDecimal[COORDINATE_COUNT];
+        longitudes = new BigDecimal[COORDINATE_COUNT];
+        for (int i = 0; i < COORDINATE_COUNT; i++) {
+            latitudes[i] = BigDecimal.valueOf(37.5 + random.nextDouble() * 0.1).setScale(7, RoundingMode.HALF_UP);
+            longitudes[i] = BigDecimal.valueOf(126.9 + random.nextDouble() * 0.1).setScale(7, RoundingMode.HALF_UP);
+        }
+    }
+
+    @Benchmark
+    public boolean offer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int coordinate = random.nextInt(COORDINATE_COUNT);
+        return ingestor.offer((long) random.nextInt(userCount), latitudes[coordinate], longitudes[coordinate]);
+    }
+}
@@ -0,0 +1,56 @@
+package com.fivlo.fivlo_backend.benchmark;
+
+import com.fivlo.fivlo_backend.domain.reminder.entity.ForgettingPreventionReminder;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 오늘 울릴 알림 필터링 벤치마크 (ForgettingPreventionReminder.isActiveOnDay)
+ * ReminderService의 요일 필터처럼 사용자의 알림 목록 전체에 대해 반복 호출
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ReminderDayBenchmark {
+
+    private static final String[] DAYS = {"MON", "TUE", "WED", "THU", "FRI", "SAT", "SUN"};
+
+    @Param({"10", "1000"})
+    private int reminderCount;
+
+    private List<ForgettingPreventionReminder> reminders;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        reminders = new ArrayList<>(reminderCount);
+        for (int i = 0; i < reminderCount; i++) {
+            List<String> days = new ArrayList<>();
+            for (String day : DAYS) {
+                if (random.nextBoolean()) {
+                    days.add(day);
+                }
+            }
+            reminders.add(ForgettingPreventionReminder.builder()
+                    .title("알림 " + i)
+                    .alarmTime(LocalTime.of(random.nextInt(24), random.nextInt(60)))
+                    .repetitionDays(String.join(",", days))
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public void isActiveOnDay(Blackhole bh) {
+        for (String day : DAYS) {
+            for (ForgettingPreventionReminder reminder : reminders) {
+                bh.consume(reminder.isActiveOnDay(day));
+            }
+        }
+    }
+}
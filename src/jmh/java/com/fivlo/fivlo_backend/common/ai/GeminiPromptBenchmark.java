@@ -0,0 +1,83 @@
+package com.fivlo.fivlo_backend.common.ai;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gemini 요청/응답 전후 CPU 구간 벤치마크 (GeminiService의 패키지 전용 정적 헬퍼를 직접 호출)
+ * - extractFirstJson: 그대로 온 JSON / 마크다운 펜스 / 앞뒤 설명이 붙은 긴 응답
+ * - 프롬프트 빌더: 타임어택, Task 추천(DEFINITE), 월간 분석(약 4KB 분석 데이터)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class GeminiPromptBenchmark {
+
+    @Param({"ko", "en"})
+    private String languageCode;
+
+    private String plainJson;
+    private String fencedJson;
+    private String noisyJson;
+    private String analysisData;
+
+    @Setup
+    public void setUp() {
+        StringBuilder steps = new StringBuilder("{\"recommended_steps\": [");
+        for (int i = 0; i < 5; i++) {
+            if (i > 0) {
+                steps.append(", ");
+            }
+            steps.append("{\"content\": \"단계 ").append(i + 1)
+                    .append(" - \\\"따옴표\\\"와 {중괄호} 포함\", \"duration_in_seconds\": 120}");
+        }
+        steps.append("]}");
+
+        plainJson = steps.toString();
+        fencedJson = "```json\n" + plainJson + "\n```";
+        noisyJson = "다음은 요청하신 단계입니다. 각 단계는 [참고] 항목을 고려했습니다.\n".repeat(20)
+                + plainJson + "\n추가 설명: 필요하면 {시간}을 조정하세요.";
+
+        StringBuilder data = new StringBuilder("{\"sessions\": [");
+        for (int i = 0; i < 60; i++) {
+            if (i > 0) {
+                data.append(',');
+            }
+            data.append("{\"goal\":\"공부\",\"hour\":").append(i % 24)
+                    .append(",\"day\":\"MONDAY\",\"duration\":1500,\"completed\":true}");
+        }
+        analysisData = data.append("]}").toString();
+    }
+
+    @Benchmark
+    public String extractFirstJsonPlain() {
+        return GeminiService.extractFirstJson(plainJson);
+    }
+
+    @Benchmark
+    public String extractFirstJsonFenced() {
+        return GeminiService.extractFirstJson(fencedJson);
+    }
+
+    @Benchmark
+    public String extractFirstJsonNoisy() {
+        return GeminiService.extractFirstJson(noisyJson);
+    }
+
+    @Benchmark
+    public String buildTimeAttackPrompt() {
+        return GeminiService.buildTimeAttackPrompt("time_attack.goal.outingPrep", 30, 1800, languageCode);
+    }
+
+    @Benchmark
+    public String buildTaskRecommendationPrompt() {
+        return GeminiService.buildTaskRecommendationPrompt(
+                "토익 900점 달성", "DEFINITE", "2025-03-01", "2025-05-31", languageCode);
+    }
+
+    @Benchmark
+    public String buildMonthlyAnalysisPrompt() {
+        return GeminiService.buildMonthlyAnalysisPrompt(analysisData, languageCode);
+    }
+}
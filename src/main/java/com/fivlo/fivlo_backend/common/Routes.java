@@ -72,6 +72,7 @@ public class Routes {
     public static final String TIME_ATTACK_BASE = API_BASE + "/time-attack";
     public static final String TIME_ATTACK_GOALS = TIME_ATTACK_BASE + "/goals";
     public static final String TIME_ATTACK_RECOMMEND_STEPS = TIME_ATTACK_BASE + "/recommend-steps";
+    public static final String TIME_ATTACK_RECOMMEND_STEPS_STREAM = TIME_ATTACK_RECOMMEND_STEPS + "/stream";
     public static final String TIME_ATTACK_SESSIONS = TIME_ATTACK_BASE + "/sessions";
     
     // API 48: 마지막 추천 단계 조회 (AI 캐싱용)
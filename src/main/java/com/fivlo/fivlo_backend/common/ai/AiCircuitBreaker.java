@@ -0,0 +1,210 @@
+package com.fivlo.fivlo_backend.common.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 호출 작업(operation)별 서킷 브레이커
+ * - CLOSED: 최근 N회 호출의 실패율 또는 느린 호출 비율이 임계값을 넘으면 OPEN
+ * - OPEN: 일정 시간 동안 호출 차단 (호출 측은 캐시/기본 템플릿으로 대체)
+ * - HALF_OPEN: 제한된 수의 시험 호출 결과로 CLOSED 복귀 또는 다시 OPEN
+ * 상태는 fivlo.ai.circuit.state 게이지(0=CLOSED, 1=OPEN, 2=HALF_OPEN), 전이는 fivlo.ai.circuit.transitions 카운터로 노출한다.
+ */
+@Component
+public class AiCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiCircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final MeterRegistry meterRegistry;
+    private final int windowSize;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallThresholdNanos;
+    private final double slowCallRateThreshold;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+
+    private final Map<String, Breaker> breakers = new ConcurrentHashMap<>();
+
+    public AiCircuitBreaker(MeterRegistry meterRegistry,
+                            @Value("${ai.circuit-breaker.window-size:20}") int windowSize,
+                            @Value("${ai.circuit-breaker.minimum-calls:10}") int minimumCalls,
+                            @Value("${ai.circuit-breaker.failure-rate-threshold:50}") double failureRateThreshold,
+                            @Value("${ai.circuit-breaker.slow-call-threshold-ms:8000}") long slowCallThresholdMs,
+                            @Value("${ai.circuit-breaker.slow-call-rate-threshold:80}") double slowCallRateThreshold,
+                            @Value("${ai.circuit-breaker.open-duration-seconds:30}") long openDurationSeconds,
+                            @Value("${ai.circuit-breaker.half-open-calls:3}") int halfOpenCalls) {
+        this.meterRegistry = meterRegistry;
+        this.windowSize = windowSize;
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowCallThresholdMs);
+        this.slowCallRateThreshold = slowCallRateThreshold;
+        this.openDurationNanos = TimeUnit.SECONDS.toNanos(openDurationSeconds);
+        this.halfOpenCalls = halfOpenCalls;
+    }
+
+    /**
+     * 호출 허용 여부 (OPEN이면 false, 오픈 시간이 지나면 HALF_OPEN으로 전환 후 시험 호출 허용)
+     */
+    public boolean tryAcquire(String operation) {
+        return breaker(operation).tryAcquire();
+    }
+
+    public void onSuccess(String operation, long durationNanos) {
+        breaker(operation).record(false, durationNanos >= slowCallThresholdNanos);
+    }
+
+    public void onFailure(String operation, long durationNanos) {
+        breaker(operation).record(true, durationNanos >= slowCallThresholdNanos);
+    }
+
+    public State getState(String operation) {
+        return breaker(operation).state;
+    }
+
+    private Breaker breaker(String operation) {
+        return breakers.computeIfAbsent(operation, Breaker::new);
+    }
+
+    /**
+     * 작업 하나의 브레이커 (링 버퍼 기반 슬라이딩 윈도우)
+     */
+    private final class Breaker {
+
+        private final String operation;
+        private final boolean[] failures = new boolean[windowSize];
+        private final boolean[] slowCalls = new boolean[windowSize];
+        private final Counter rejectedCounter;
+
+        private volatile State state = State.CLOSED;
+        private int index;
+        private int recorded;
+        private int failureCount;
+        private int slowCount;
+        private long openedAt;
+        private int halfOpenPermits;
+        private int halfOpenRecorded;
+        private int halfOpenFailures;
+
+        private Breaker(String operation) {
+            this.operation = operation;
+            Gauge.builder("fivlo.ai.circuit.state", this, breaker -> breaker.state.ordinal())
+                    .tag("operation", operation)
+                    .description("AI 서킷 상태 (0=CLOSED, 1=OPEN, 2=HALF_OPEN)")
+                    .register(meterRegistry);
+            this.rejectedCounter = Counter.builder("fivlo.ai.circuit.rejected")
+                    .tag("operation", operation)
+                    .description("서킷 오픈으로 차단된 AI 호출 수")
+                    .register(meterRegistry);
+        }
+
+        private synchronized boolean tryAcquire() {
+            if (state == State.OPEN) {
+                if (System.nanoTime() - openedAt < openDurationNanos) {
+                    rejectedCounter.increment();
+                    return false;
+                }
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.HALF_OPEN) {
+                // 시험 호출 결과가 기록되지 않은 채(로컬 포화 등) 오래 머물면 시험 허가를 다시 내준다
+                if (halfOpenPermits >= halfOpenCalls && System.nanoTime() - openedAt >= openDurationNanos) {
+                    openedAt = System.nanoTime();
+                    halfOpenPermits = halfOpenRecorded;
+                }
+                if (halfOpenPermits >= halfOpenCalls) {
+                    rejectedCounter.increment();
+                    return false;
+                }
+                halfOpenPermits++;
+            }
+            return true;
+        }
+
+        private synchronized void record(boolean failure, boolean slow) {
+            if (state == State.HALF_OPEN) {
+                halfOpenRecorded++;
+                if (failure || slow) {
+                    halfOpenFailures++;
+                }
+                if (halfOpenFailures > 0) {
+                    transitionTo(State.OPEN);
+                } else if (halfOpenRecorded >= halfOpenCalls) {
+                    transitionTo(State.CLOSED);
+                }
+                return;
+            }
+            if (state == State.OPEN) {
+                return; // 오픈 직전에 시작된 호출의 결과는 무시
+            }
+
+            if (recorded == windowSize) {
+                if (failures[index]) failureCount--;
+                if (slowCalls[index]) slowCount--;
+            } else {
+                recorded++;
+            }
+            failures[index] = failure;
+            slowCalls[index] = slow;
+            if (failure) failureCount++;
+            if (slow) slowCount++;
+            index = (index + 1) % windowSize;
+
+            if (recorded < minimumCalls) {
+                return;
+            }
+            double failureRate = failureCount * 100.0 / recorded;
+            double slowRate = slowCount * 100.0 / recorded;
+            if (failureRate >= failureRateThreshold || slowRate >= slowCallRateThreshold) {
+                logger.warn("AI 서킷 오픈 - operation: {}, 실패율: {}%, 느린 호출 비율: {}%",
+                        operation, String.format("%.1f", failureRate), String.format("%.1f", slowRate));
+                transitionTo(State.OPEN);
+            }
+        }
+
+        private void transitionTo(State next) {
+            State previous = state;
+            if (previous == next) {
+                return;
+            }
+            state = next;
+            switch (next) {
+                case OPEN -> openedAt = System.nanoTime();
+                case HALF_OPEN -> {
+                    openedAt = System.nanoTime();
+                    halfOpenPermits = 0;
+                    halfOpenRecorded = 0;
+                    halfOpenFailures = 0;
+                }
+                case CLOSED -> {
+                    index = 0;
+                    recorded = 0;
+                    failureCount = 0;
+                    slowCount = 0;
+                }
+            }
+            Counter.builder("fivlo.ai.circuit.transitions")
+                    .tag("operation", operation)
+                    .tag("from", previous.name())
+                    .tag("to", next.name())
+                    .description("AI 서킷 상태 전이 수")
+                    .register(meterRegistry)
+                    .increment();
+            logger.info("AI 서킷 상태 전이 - operation: {}, {} -> {}", operation, previous, next);
+        }
+    }
+}
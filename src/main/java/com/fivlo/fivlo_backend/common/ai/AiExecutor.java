@@ -0,0 +1,158 @@
+package com.fivlo.fivlo_backend.common.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * AI(Gemini) 실행 서브시스템
+ * - submit(): 모델 호출 작업을 전용 풀(aiTaskExecutor, "ai-" 스레드)에서 실행 (공용 ForkJoinPool 사용 금지)
+ * - submitRequest(): 여러 AI 호출을 기다리며 조합하는 요청 단위 작업을 별도 풀(aiRequestExecutor)에서 실행
+ *   (조합 작업이 모델 호출 풀을 점유한 채 같은 풀의 하위 작업을 기다리며 굶는 것을 방지)
+ * - callUpstream(): 실제 모델 HTTP 호출을 세마포어로 감싸 동기/비동기 경로를 합친 동시 호출 수를 제한
+ * 큐 적체(대기 작업 수, 대기 시간)와 세마포어 대기를 메트릭으로 노출한다.
+ */
+@Component
+public class AiExecutor {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiExecutor.class);
+
+    private final ThreadPoolTaskExecutor aiTaskExecutor;
+    private final ThreadPoolTaskExecutor aiRequestExecutor;
+    private final Semaphore upstreamPermits;
+    private final long permitTimeoutMs;
+
+    private final Timer taskQueueWaitTimer;
+    private final Timer requestQueueWaitTimer;
+    private final Timer permitWaitTimer;
+    private final Counter taskRejectedCounter;
+    private final Counter requestRejectedCounter;
+    private final Counter permitTimeoutCounter;
+
+    public AiExecutor(@Qualifier("aiTaskExecutor") ThreadPoolTaskExecutor aiTaskExecutor,
+                      @Qualifier("aiRequestExecutor") ThreadPoolTaskExecutor aiRequestExecutor,
+                      MeterRegistry meterRegistry,
+                      @Value("${ai.executor.max-concurrency:6}") int maxConcurrency,
+                      @Value("${ai.executor.permit-timeout-ms:10000}") long permitTimeoutMs) {
+        this.aiTaskExecutor = aiTaskExecutor;
+        this.aiRequestExecutor = aiRequestExecutor;
+        this.upstreamPermits = new Semaphore(maxConcurrency, true);
+        this.permitTimeoutMs = permitTimeoutMs;
+
+        registerPoolGauges(meterRegistry, aiTaskExecutor, "task");
+        registerPoolGauges(meterRegistry, aiRequestExecutor, "request");
+        Gauge.builder("fivlo.ai.upstream.waiting", upstreamPermits, Semaphore::getQueueLength)
+                .description("모델 호출 허가를 기다리는 스레드 수")
+                .register(meterRegistry);
+        Gauge.builder("fivlo.ai.upstream.permits.available", upstreamPermits, Semaphore::availablePermits)
+                .description("남은 모델 동시 호출 허가 수")
+                .register(meterRegistry);
+
+        this.taskQueueWaitTimer = queueWaitTimer(meterRegistry, "task");
+        this.requestQueueWaitTimer = queueWaitTimer(meterRegistry, "request");
+        this.permitWaitTimer = Timer.builder("fivlo.ai.upstream.permit.wait")
+                .description("모델 호출 허가 획득까지 대기 시간")
+                .register(meterRegistry);
+        this.taskRejectedCounter = rejectedCounter(meterRegistry, "task");
+        this.requestRejectedCounter = rejectedCounter(meterRegistry, "request");
+        this.permitTimeoutCounter = Counter.builder("fivlo.ai.upstream.permit.timeout")
+                .description("허가 대기 시간 초과로 실패한 모델 호출 수")
+                .register(meterRegistry);
+    }
+
+    private static void registerPoolGauges(MeterRegistry meterRegistry, ThreadPoolTaskExecutor executor, String pool) {
+        Gauge.builder("fivlo.ai.executor.queue.depth", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .tag("pool", pool)
+                .description("AI 실행기 큐에서 대기 중인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("fivlo.ai.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .tag("pool", pool)
+                .description("AI 실행기에서 실행 중인 작업 수")
+                .register(meterRegistry);
+    }
+
+    private static Timer queueWaitTimer(MeterRegistry meterRegistry, String pool) {
+        return Timer.builder("fivlo.ai.executor.queue.wait")
+                .tag("pool", pool)
+                .description("AI 작업 제출부터 실행 시작까지 대기 시간")
+                .register(meterRegistry);
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String pool) {
+        return Counter.builder("fivlo.ai.executor.rejected")
+                .tag("pool", pool)
+                .description("큐 포화로 거절된 AI 작업 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 모델 호출 작업을 전용 풀에서 비동기 실행
+     * 큐가 가득 차면 예외를 던지지 않고 실패한 future를 반환한다.
+     */
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        return submit(aiTaskExecutor, taskQueueWaitTimer, taskRejectedCounter, task);
+    }
+
+    /**
+     * 여러 AI 호출을 조합하는 요청 단위 작업을 비동기 실행 (컨트롤러 비동기 응답용)
+     */
+    public <T> CompletableFuture<T> submitRequest(Supplier<T> task) {
+        return submit(aiRequestExecutor, requestQueueWaitTimer, requestRejectedCounter, task);
+    }
+
+    private <T> CompletableFuture<T> submit(ThreadPoolTaskExecutor executor, Timer queueWaitTimer,
+                                            Counter rejectedCounter, Supplier<T> task) {
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                queueWaitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return task.get();
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            logger.warn("AI 작업 제출 실패 (실행기 포화) - pool: {}, queueDepth: {}",
+                    executor.getThreadNamePrefix(), executor.getThreadPoolExecutor().getQueue().size());
+            return CompletableFuture.failedFuture(
+                    new AiUnavailableException("AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", e));
+        }
+    }
+
+    /**
+     * 모델 호출을 동시 호출 허가 범위 안에서 실행
+     */
+    public <T> T callUpstream(Supplier<T> call) {
+        long waitStart = System.nanoTime();
+        boolean acquired;
+        try {
+            acquired = upstreamPermits.tryAcquire(permitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI 호출 대기 중 인터럽트되었습니다", e);
+        } finally {
+            permitWaitTimer.record(System.nanoTime() - waitStart, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            permitTimeoutCounter.increment();
+            throw new AiUnavailableException("AI 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+        try {
+            return call.get();
+        } finally {
+            upstreamPermits.release();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.fivlo.fivlo_backend.common.ai;
+
+import java.util.function.Consumer;
+
+/**
+ * 생성형 모델 호출 추상화
+ * - GeminiModelClient: 실제 Gemini (Google Gen AI SDK), 기본 프로필
+ * - LocalAiModelClient: 부하 테스트용 로컬 대역 ("ai-local" 프로필), 쿼터/네트워크 없이 캐시·single-flight·서킷 동작 측정
+ * 캐시/재시도/서킷 브레이커는 GeminiService가 담당하고, 구현체는 모델 호출 1회만 책임진다.
+ */
+public interface AiModelClient {
+
+    /**
+     * 응답 형식 (생성 설정 선택용)
+     */
+    enum ResponseFormat {
+        JSON, TEXT
+    }
+
+    /**
+     * 캐시 키에 들어가는 모델명 (구현체가 바뀌면 캐시도 자연히 분리)
+     */
+    String modelName();
+
+    /**
+     * 단건 호출
+     *
+     * @param operation 버전을 제외한 프롬프트 템플릿 이름 (예: "time-attack")
+     * @return 모델 응답 텍스트 (없으면 null)
+     */
+    String generate(String operation, String prompt, ResponseFormat format);
+
+    /**
+     * 스트리밍 호출 - 응답 조각이 도착할 때마다 onChunk 호출
+     */
+    void generateStream(String operation, String prompt, ResponseFormat format, Consumer<String> onChunk);
+}
@@ -0,0 +1,435 @@
+package com.fivlo.fivlo_backend.common.ai;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AI 응답 2단 캐시
+ * - L1: Caffeine near-cache (응답 크기 기준 가중치 상한, 자주 쓰이는 응답만 메모리에 유지)
+ * - L2: Redis (hard TTL 24시간, 모든 노드 공유)
+ * L1 만료 시각은 Redis TTL에 맞춘다 (Redis에서 승격할 때는 남은 TTL을 그대로 사용).
+ * 한 노드가 Redis 값을 새로 쓰거나 지우면 pub/sub으로 다른 노드의 L1 항목을 무효화한다.
+ *
+ * stale-while-revalidate: soft TTL이 지난 항목은 stale로 표시해 그대로 응답하고 호출 측이 백그라운드에서 갱신한다.
+ * (항목의 나이는 Redis 남은 TTL로 계산하므로 값 형식은 그대로 문자열)
+ * 네거티브 캐시: 모델 오류/파싱 불가 응답은 짧은 TTL로 기록해 같은 프롬프트가 모델을 반복 호출하지 않게 한다.
+ */
+@Component
+public class AiResponseCache implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiResponseCache.class);
+
+    public static final String INVALIDATION_CHANNEL = "ai:cache:invalidate";
+    private static final String INVALIDATE_ALL = "*";
+    private static final String MESSAGE_SEPARATOR = "|";
+
+    // 서킷 오픈/호출 실패 시 대체 응답용 사본 (정상 TTL보다 길게 보관)
+    private static final String STALE_KEY_SUFFIX = ":stale";
+    // 실패한 프롬프트 기록 (짧은 TTL)
+    private static final String NEGATIVE_KEY_SUFFIX = ":neg";
+    // 백그라운드 갱신 중복 방지 리스 (노드 간)
+    private static final String REFRESH_KEY_SUFFIX = ":refresh";
+
+    // String 객체/엔트리 고정 오버헤드 추정치 (바이트)
+    private static final int ENTRY_OVERHEAD_BYTES = 96;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final Cache<String, LocalEntry> localCache;
+    private final Duration ttl;
+    private final Duration softTtl;
+    private final Duration staleTtl;
+    private final Duration negativeTtl;
+    private final Duration refreshLease;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Counter localHitCounter;
+    private final Counter localMissCounter;
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final Counter staleHitCounter;
+    private final Counter staleMissCounter;
+    private final Counter softExpiredCounter;
+    private final Counter negativeHitCounter;
+    private final Counter negativeWriteCounter;
+    private final Counter invalidationSentCounter;
+    private final Counter invalidationReceivedCounter;
+
+    public AiResponseCache(RedisTemplate<String, Object> redisTemplate,
+                           @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> stringRedisTemplate,
+                           MeterRegistry meterRegistry,
+                           @Value("${ai.cache.ttl-hours:24}") long ttlHours,
+                           @Value("${ai.cache.soft-ttl-hours:6}") long softTtlHours,
+                           @Value("${ai.cache.stale-ttl-hours:168}") long staleTtlHours,
+                           @Value("${ai.cache.negative-ttl-seconds:60}") long negativeTtlSeconds,
+                           @Value("${ai.cache.refresh-lease-seconds:30}") long refreshLeaseSeconds,
+                           @Value("${ai.cache.local.max-bytes:33554432}") long localMaxBytes) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.ttl = Duration.ofHours(ttlHours);
+        this.softTtl = Duration.ofHours(Math.min(ttlHours, softTtlHours));
+        this.staleTtl = Duration.ofHours(Math.max(ttlHours, staleTtlHours));
+        this.negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+        this.refreshLease = Duration.ofSeconds(refreshLeaseSeconds);
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumWeight(localMaxBytes)
+                .weigher((String key, LocalEntry entry) -> entry.weight(key))
+                .expireAfter(new Expiry<String, LocalEntry>() {
+                    @Override
+                    public long expireAfterCreate(String key, LocalEntry entry, long currentTime) {
+                        return entry.remainingNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, LocalEntry entry, long currentTime, long currentDuration) {
+                        return entry.remainingNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, LocalEntry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "aiResponseCache");
+
+        this.localHitCounter = tierCounter(meterRegistry, "local", "hit");
+        this.localMissCounter = tierCounter(meterRegistry, "local", "miss");
+        this.redisHitCounter = tierCounter(meterRegistry, "redis", "hit");
+        this.redisMissCounter = tierCounter(meterRegistry, "redis", "miss");
+        this.staleHitCounter = tierCounter(meterRegistry, "stale", "hit");
+        this.staleMissCounter = tierCounter(meterRegistry, "stale", "miss");
+        this.softExpiredCounter = Counter.builder("fivlo.ai.cache.soft-expired")
+                .description("soft TTL이 지나 stale 상태로 응답한 AI 캐시 조회 수")
+                .register(meterRegistry);
+        this.negativeHitCounter = tierCounter(meterRegistry, "negative", "hit");
+        this.negativeWriteCounter = Counter.builder("fivlo.ai.cache.negative.writes")
+                .description("네거티브 캐시에 기록된 AI 실패 수")
+                .register(meterRegistry);
+        this.invalidationSentCounter = Counter.builder("fivlo.ai.cache.invalidations")
+                .tag("direction", "sent")
+                .description("다른 노드로 보낸 AI 캐시 무효화 메시지 수")
+                .register(meterRegistry);
+        this.invalidationReceivedCounter = Counter.builder("fivlo.ai.cache.invalidations")
+                .tag("direction", "received")
+                .description("다른 노드에서 받은 AI 캐시 무효화 메시지 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter tierCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("fivlo.ai.cache.requests")
+                .tag("tier", tier)
+                .tag("result", result)
+                .description("AI 응답 캐시 계층별 조회 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * L1 → L2 순서로 조회한 값 (soft TTL 경과 여부와 무관)
+     */
+    public String get(String cacheKey) {
+        CachedResponse cached = lookup(cacheKey);
+        return cached != null ? cached.value() : null;
+    }
+
+    /**
+     * L1 → L2 순서로 조회, L2 적중 시 남은 TTL로 L1에 승격
+     * soft TTL이 지난 항목은 stale=true로 반환한다 (hard TTL까지는 응답에 사용 가능).
+     */
+    public CachedResponse lookup(String cacheKey) {
+        LocalEntry local = localCache.getIfPresent(cacheKey);
+        if (local != null) {
+            localHitCounter.increment();
+            return toCachedResponse(local);
+        }
+        localMissCounter.increment();
+
+        try {
+            Object cached = redisTemplate.opsForValue().get(cacheKey);
+            if (!(cached instanceof String value)) {
+                redisMissCounter.increment();
+                return null;
+            }
+            redisHitCounter.increment();
+
+            Long remainingMillis = redisTemplate.getExpire(cacheKey, TimeUnit.MILLISECONDS);
+            long expiresInMillis = remainingMillis != null && remainingMillis > 0 ? remainingMillis : ttl.toMillis();
+            // 남은 TTL에서 (hard - soft) 구간을 빼면 fresh 상태로 남은 시간
+            long freshForMillis = expiresInMillis - (ttl.toMillis() - softTtl.toMillis());
+            LocalEntry entry = LocalEntry.of(value, Duration.ofMillis(expiresInMillis), Duration.ofMillis(Math.max(0L, freshForMillis)));
+            localCache.put(cacheKey, entry);
+            return toCachedResponse(entry);
+        } catch (Exception e) {
+            logger.warn("Failed to get cached response for key: {}", cacheKey, e);
+            return null;
+        }
+    }
+
+    /**
+     * 통계/승격 없이 현재 상태만 확인 (사전 계산 커버리지 점검용)
+     */
+    public CachedResponse peek(String cacheKey) {
+        LocalEntry local = localCache.getIfPresent(cacheKey);
+        if (local != null) {
+            return new CachedResponse(local.value(), local.isStale());
+        }
+        try {
+            Object cached = redisTemplate.opsForValue().get(cacheKey);
+            if (!(cached instanceof String value)) {
+                return null;
+            }
+            Long remainingMillis = redisTemplate.getExpire(cacheKey, TimeUnit.MILLISECONDS);
+            long expiresInMillis = remainingMillis != null && remainingMillis > 0 ? remainingMillis : ttl.toMillis();
+            return new CachedResponse(value, expiresInMillis <= ttl.toMillis() - softTtl.toMillis());
+        } catch (Exception e) {
+            logger.warn("Failed to peek cached response for key: {}", cacheKey, e);
+            return null;
+        }
+    }
+
+    private CachedResponse toCachedResponse(LocalEntry entry) {
+        boolean stale = entry.isStale();
+        if (stale) {
+            softExpiredCounter.increment();
+        }
+        return new CachedResponse(entry.value(), stale);
+    }
+
+    /**
+     * 최근 실패한 프롬프트인지 조회 (실패 사유 반환, 없으면 null)
+     */
+    public String getNegative(String cacheKey) {
+        try {
+            Object reason = redisTemplate.opsForValue().get(cacheKey + NEGATIVE_KEY_SUFFIX);
+            if (reason instanceof String value) {
+                negativeHitCounter.increment();
+                return value;
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to get negative cache entry for key: {}", cacheKey, e);
+        }
+        return null;
+    }
+
+    /**
+     * 모델 오류/파싱 불가 응답을 짧은 TTL로 기록
+     */
+    public void putNegative(String cacheKey, String reason) {
+        try {
+            redisTemplate.opsForValue().set(cacheKey + NEGATIVE_KEY_SUFFIX, reason != null ? reason : "", negativeTtl);
+            negativeWriteCounter.increment();
+        } catch (Exception e) {
+            logger.warn("Failed to write negative cache entry for key: {}", cacheKey, e);
+        }
+    }
+
+    /**
+     * stale 항목의 백그라운드 갱신 권한 획득 (모든 노드 통틀어 한 곳만 갱신)
+     */
+    public boolean tryAcquireRefresh(String cacheKey) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(cacheKey + REFRESH_KEY_SUFFIX, nodeId, refreshLease));
+        } catch (Exception e) {
+            logger.warn("Failed to acquire refresh lease for key: {}", cacheKey, e);
+            return false;
+        }
+    }
+
+    public void releaseRefresh(String cacheKey) {
+        try {
+            stringRedisTemplate.delete(cacheKey + REFRESH_KEY_SUFFIX);
+        } catch (Exception e) {
+            // 리스 TTL이 지나면 자연히 풀림
+            logger.debug("Failed to release refresh lease for key: {}", cacheKey, e);
+        }
+    }
+
+    /**
+     * 만료된 응답의 사본 조회 (AI를 사용할 수 없을 때의 대체 응답용, L1은 거치지 않음)
+     */
+    public String getStale(String cacheKey) {
+        try {
+            Object cached = redisTemplate.opsForValue().get(cacheKey + STALE_KEY_SUFFIX);
+            if (cached instanceof String value) {
+                staleHitCounter.increment();
+                return value;
+            }
+        } catch (Exception e) {
+            logger.warn("Failed to get stale response for key: {}", cacheKey, e);
+        }
+        staleMissCounter.increment();
+        return null;
+    }
+
+    /**
+     * L1/L2(+대체용 사본) 기록 후 다른 노드의 L1 무효화
+     */
+    public void put(String cacheKey, String response) {
+        localCache.put(cacheKey, LocalEntry.of(response, ttl, softTtl));
+        try {
+            redisTemplate.opsForValue().set(cacheKey, response, ttl);
+            redisTemplate.opsForValue().set(cacheKey + STALE_KEY_SUFFIX, response, staleTtl);
+            redisTemplate.delete(cacheKey + NEGATIVE_KEY_SUFFIX);
+            logger.debug("Cached AI response with key: {}, TTL: {}h", cacheKey, ttl.toHours());
+        } catch (Exception e) {
+            logger.warn("Failed to cache AI response for key: {}", cacheKey, e);
+        }
+        publishInvalidation(cacheKey);
+    }
+
+    /**
+     * 캐시 항목 삭제 (모든 노드의 L1 포함)
+     */
+    public void evict(String cacheKey) {
+        localCache.invalidate(cacheKey);
+        try {
+            redisTemplate.delete(List.of(cacheKey, cacheKey + STALE_KEY_SUFFIX, cacheKey + NEGATIVE_KEY_SUFFIX));
+        } catch (Exception e) {
+            logger.warn("Failed to evict AI response for key: {}", cacheKey, e);
+        }
+        publishInvalidation(cacheKey);
+    }
+
+    /**
+     * 모든 노드의 L1 비우기 (Redis는 TTL로 정리)
+     */
+    public void invalidateLocalAll() {
+        localCache.invalidateAll();
+        publishInvalidation(INVALIDATE_ALL);
+    }
+
+    private void publishInvalidation(String cacheKey) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, nodeId + MESSAGE_SEPARATOR + cacheKey);
+            invalidationSentCounter.increment();
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 L1은 TTL까지 이전 값을 볼 수 있음
+            logger.warn("AI 캐시 무효화 메시지 발행 실패 - key: {}, error: {}", cacheKey, e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 ("{nodeId}|{cacheKey}")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+        if (nodeId.equals(body.substring(0, separator))) {
+            return; // 내가 보낸 메시지
+        }
+
+        String cacheKey = body.substring(separator + 1);
+        if (INVALIDATE_ALL.equals(cacheKey)) {
+            localCache.invalidateAll();
+        } else {
+            localCache.invalidate(cacheKey);
+        }
+        invalidationReceivedCounter.increment();
+    }
+
+    /**
+     * 계층별 캐시 통계 (/api/v1/metrics/ai-cache)
+     */
+    public Map<String, Object> getStatistics() {
+        long localHits = (long) localHitCounter.count();
+        long localMisses = (long) localMissCounter.count();
+        long redisHits = (long) redisHitCounter.count();
+        long redisMisses = (long) redisMissCounter.count();
+        long lookups = localHits + localMisses;
+
+        Map<String, Object> local = new HashMap<>();
+        local.put("hits", localHits);
+        local.put("misses", localMisses);
+        local.put("hitRate", percent(localHits, lookups));
+        local.put("entries", localCache.estimatedSize());
+        local.put("weightBytes", localCache.policy().eviction()
+                .map(eviction -> eviction.weightedSize().orElse(0L))
+                .orElse(0L));
+        local.put("evictions", localCache.stats().evictionCount());
+
+        Map<String, Object> redis = new HashMap<>();
+        redis.put("hits", redisHits);
+        redis.put("misses", redisMisses);
+        redis.put("hitRate", percent(redisHits, redisHits + redisMisses));
+
+        Map<String, Object> stale = new HashMap<>();
+        stale.put("hits", (long) staleHitCounter.count());
+        stale.put("misses", (long) staleMissCounter.count());
+        stale.put("softExpiredServed", (long) softExpiredCounter.count());
+
+        Map<String, Object> negative = new HashMap<>();
+        negative.put("hits", (long) negativeHitCounter.count());
+        negative.put("writes", (long) negativeWriteCounter.count());
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("local", local);
+        stats.put("redis", redis);
+        stats.put("stale", stale);
+        stats.put("negative", negative);
+        stats.put("overallHitRate", percent(localHits + redisHits, lookups));
+        stats.put("invalidationsSent", (long) invalidationSentCounter.count());
+        stats.put("invalidationsReceived", (long) invalidationReceivedCounter.count());
+        return stats;
+    }
+
+    private static String percent(long part, long total) {
+        return String.format("%.1f%%", total > 0 ? (double) part / total * 100.0 : 0.0);
+    }
+
+    /**
+     * 캐시 조회 결과 (stale = soft TTL 경과, 호출 측이 백그라운드 갱신)
+     */
+    public record CachedResponse(String value, boolean stale) {
+    }
+
+    /**
+     * L1 항목: 값 + Redis TTL에 맞춘 만료 시각 + soft TTL 경과 시각
+     */
+    private record LocalEntry(String value, long expiresAtNanos, long freshUntilNanos) {
+
+        static LocalEntry of(String value, Duration expiresIn, Duration freshFor) {
+            long now = System.nanoTime();
+            return new LocalEntry(value, now + expiresIn.toNanos(), now + freshFor.toNanos());
+        }
+
+        long remainingNanos() {
+            return Math.max(0L, expiresAtNanos - System.nanoTime());
+        }
+
+        boolean isStale() {
+            return System.nanoTime() - freshUntilNanos >= 0;
+        }
+
+        int weight(String key) {
+            long bytes = ENTRY_OVERHEAD_BYTES + 2L * (key.length() + (value != null ? value.length() : 0));
+            return (int) Math.min(Integer.MAX_VALUE, bytes);
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.fivlo.fivlo_backend.common.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * AI 호출 single-flight (동일 캐시 키 요청 병합)
+ * - 인스턴스 내부: 같은 캐시 키로 동시에 들어온 요청은 하나의 upstream 호출 결과를 공유
+ * - 인스턴스 간: Redis 리스 키(SET NX PX)를 잡은 노드만 모델을 호출하고,
+ *   나머지 노드는 리스가 풀리거나 결과가 캐시에 기록될 때까지 캐시를 폴링
+ * Redis 장애 시에는 리스 없이 바로 호출한다 (가용성 우선).
+ */
+@Component
+public class AiSingleFlight {
+
+    private static final Logger logger = LoggerFactory.getLogger(AiSingleFlight.class);
+
+    private static final String LEASE_KEY_PREFIX = "lock:";
+
+    // 내가 잡은 리스일 때만 삭제 (만료 후 다른 노드가 잡은 리스를 지우지 않도록)
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Duration leaseTtl;
+    private final long waitTimeoutMs;
+    private final long pollIntervalMs;
+
+    private final ConcurrentHashMap<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+
+    private final Counter leaderCounter;
+    private final Counter coalescedCounter;
+    private final Counter leaseWaitCounter;
+    private final Counter leaseTimeoutCounter;
+
+    public AiSingleFlight(@Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${ai.single-flight.lease-seconds:30}") long leaseSeconds,
+                          @Value("${ai.single-flight.wait-timeout-ms:20000}") long waitTimeoutMs,
+                          @Value("${ai.single-flight.poll-interval-ms:200}") long pollIntervalMs) {
+        this.redisTemplate = redisTemplate;
+        this.leaseTtl = Duration.ofSeconds(leaseSeconds);
+        this.waitTimeoutMs = waitTimeoutMs;
+        this.pollIntervalMs = pollIntervalMs;
+
+        this.leaderCounter = outcomeCounter(meterRegistry, "leader", "AI upstream을 직접 호출한 요청 수");
+        this.coalescedCounter = outcomeCounter(meterRegistry, "coalesced", "같은 인스턴스의 진행 중 호출에 합류한 요청 수");
+        this.leaseWaitCounter = outcomeCounter(meterRegistry, "lease_wait", "다른 노드의 리스로 캐시 결과를 기다린 요청 수");
+        this.leaseTimeoutCounter = outcomeCounter(meterRegistry, "lease_timeout", "리스 대기 시간 초과로 직접 호출한 요청 수");
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, String outcome, String description) {
+        return Counter.builder("fivlo.ai.singleflight")
+                .tag("outcome", outcome)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시 미스 이후 호출
+     * @param cacheKey    AI 응답 캐시 키 (병합 단위)
+     * @param cacheLookup 캐시 조회 (다른 노드가 기록한 결과 확인용)
+     * @param loader      모델 호출 + 캐시 기록
+     */
+    public String execute(String cacheKey, Supplier<String> cacheLookup, Supplier<String> loader) {
+        CompletableFuture<String> mine = new CompletableFuture<>();
+        CompletableFuture<String> existing = inFlight.putIfAbsent(cacheKey, mine);
+        if (existing != null) {
+            coalescedCounter.increment();
+            return await(existing, cacheKey);
+        }
+
+        try {
+            String result = loadWithLease(cacheKey, cacheLookup, loader);
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, mine);
+        }
+    }
+
+    private String loadWithLease(String cacheKey, Supplier<String> cacheLookup, Supplier<String> loader) {
+        String leaseKey = LEASE_KEY_PREFIX + cacheKey;
+        String token = UUID.randomUUID().toString();
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMs);
+        boolean waited = false;
+        while (true) {
+            if (tryAcquire(leaseKey, token)) {
+                try {
+                    // 리스를 잡기 직전에 다른 노드가 결과를 기록했을 수 있으므로 한 번 더 확인
+                    if (waited) {
+                        String cached = cacheLookup.get();
+                        if (cached != null) {
+                            return cached;
+                        }
+                    }
+                    leaderCounter.increment();
+                    return loader.get();
+                } finally {
+                    release(leaseKey, token);
+                }
+            }
+
+            if (!waited) {
+                leaseWaitCounter.increment();
+                waited = true;
+            }
+            if (System.nanoTime() >= deadline) {
+                // 리스 보유 노드가 응답하지 않으면 직접 호출 (요청 실패보다 중복 호출이 낫다)
+                leaseTimeoutCounter.increment();
+                logger.warn("AI single-flight 리스 대기 시간 초과, 직접 호출 - key: {}", cacheKey);
+                return loader.get();
+            }
+
+            sleepQuietly(pollIntervalMs);
+            String cached = cacheLookup.get();
+            if (cached != null) {
+                return cached;
+            }
+        }
+    }
+
+    private boolean tryAcquire(String leaseKey, String token) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(leaseKey, token, leaseTtl));
+        } catch (Exception e) {
+            logger.warn("AI single-flight 리스 획득 실패, 리스 없이 진행 - key: {}, error: {}", leaseKey, e.getMessage());
+            return true;
+        }
+    }
+
+    private void release(String leaseKey, String token) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(leaseKey), token);
+        } catch (Exception e) {
+            // 해제 실패 시 리스 TTL 만료로 정리됨
+            logger.warn("AI single-flight 리스 해제 실패 - key: {}, error: {}", leaseKey, e.getMessage());
+        }
+    }
+
+    private String await(CompletableFuture<String> future, String cacheKey) {
+        try {
+            return future.get(waitTimeoutMs + leaseTtl.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new RuntimeException(cause);
+        } catch (TimeoutException e) {
+            throw new AiUnavailableException("AI 응답 대기 시간이 초과되었습니다 - key: " + cacheKey, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI 응답 대기 중 인터럽트되었습니다", e);
+        }
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("AI 응답 대기 중 인터럽트되었습니다", e);
+        }
+    }
+}
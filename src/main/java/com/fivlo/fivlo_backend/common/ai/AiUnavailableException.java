@@ -0,0 +1,16 @@
+package com.fivlo.fivlo_backend.common.ai;
+
+/**
+ * AI 응답을 얻을 수 없는 상태 (서킷 오픈, 재시도 소진, 실행기 포화)
+ * 호출 측은 이 예외를 받으면 기본 템플릿 등 결정적인 대체 응답을 사용한다.
+ */
+public class AiUnavailableException extends RuntimeException {
+
+    public AiUnavailableException(String message) {
+        super(message);
+    }
+
+    public AiUnavailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
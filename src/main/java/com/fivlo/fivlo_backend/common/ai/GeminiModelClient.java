@@ -0,0 +1,61 @@
+package com.fivlo.fivlo_backend.common.ai;
+
+import com.google.genai.Client;
+import com.google.genai.ResponseStream;
+import com.google.genai.types.GenerateContentConfig;
+import com.google.genai.types.GenerateContentResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Consumer;
+
+/** 실제 Gemini 모델 호출 (Google Gen AI SDK) */
+@Component
+@Profile("!ai-local")
+public class GeminiModelClient implements AiModelClient {
+
+    // 생성 설정 (GeminiService의 캐시 키 설정 서명과 함께 변경)
+    private static final GenerateContentConfig JSON_CONFIG = GenerateContentConfig.builder()
+            .responseMimeType("application/json") // JSON만 달라!
+            .temperature(0.3f)  //  속도 개선 (기본값: 1.0)
+            .build();
+    private static final GenerateContentConfig TEXT_CONFIG = GenerateContentConfig.builder()
+            .build(); // JSON 강제 없음
+
+    private final Client client;
+    private final String model;
+
+    public GeminiModelClient(Client client, String genaiModelName) {
+        this.client = client;
+        this.model = genaiModelName; // 예: gemini-2.5-flash
+    }
+
+    @Override
+    public String modelName() {
+        return model;
+    }
+
+    @Override
+    public String generate(String operation, String prompt, ResponseFormat format) {
+        // 공식 시그니처: (model, contents, config)
+        GenerateContentResponse res = client.models.generateContent(model, prompt, configOf(format));
+        return res.text();
+    }
+
+    @Override
+    public void generateStream(String operation, String prompt, ResponseFormat format, Consumer<String> onChunk) {
+        try (ResponseStream<GenerateContentResponse> stream =
+                     client.models.generateContentStream(model, prompt, configOf(format))) {
+            for (GenerateContentResponse chunk : stream) {
+                String part = chunk.text();
+                if (part != null && !part.isEmpty()) {
+                    onChunk.accept(part);
+                }
+            }
+        }
+    }
+
+    private static GenerateContentConfig configOf(ResponseFormat format) {
+        return format == ResponseFormat.JSON ? JSON_CONFIG : TEXT_CONFIG;
+    }
+}
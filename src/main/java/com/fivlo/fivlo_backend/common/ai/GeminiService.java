@@ -1,32 +1,55 @@
 package com.fivlo.fivlo_backend.common.ai;
 
-import com.google.genai.Client;
-import com.google.genai.types.GenerateContentConfig;
-import com.google.genai.types.GenerateContentResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fivlo.fivlo_backend.common.ai.AiModelClient.ResponseFormat;
+import com.google.genai.errors.ApiException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.Map;
 import java.util.HashMap;
 
-/** Gemini AI 서비스 (Google Gen AI SDK) */
+/** Gemini AI 서비스 (모델 호출은 AiModelClient 구현체 - 기본 Gemini, "ai-local" 프로필은 로컬 대역) */
 @Service
 public class GeminiService {
 
     private static final Logger logger = LoggerFactory.getLogger(GeminiService.class);
     
     // Redis 캐싱 설정
-    private static final String CACHE_KEY_PREFIX = "ai:gemini:";
-    private static final Duration CACHE_TTL = Duration.ofHours(24); // 24시간 캐시
+    private static final String CACHE_KEY_PREFIX = "ai:gemini:"; // TTL/계층은 AiResponseCache에서 관리
 
-    private final Client client;
+    // 프롬프트 템플릿 id (문구를 바꾸면 버전을 올려 기존 캐시와 분리)
+    private static final String TEMPLATE_TASK_RECOMMENDATION = "task-recommendation:v1";
+    private static final String TEMPLATE_TIME_ATTACK = "time-attack:v1";
+    private static final String TEMPLATE_MONTHLY_ANALYSIS = "monthly-analysis:v1";
+    private static final String TEMPLATE_RAW_JSON = "raw-json:v1";
+    private static final String TEMPLATE_RAW_TEXT = "raw-text:v1";
+
+    // 생성 설정 서명 (캐시 키에 포함, GeminiModelClient의 생성 설정을 바꾸면 서명도 함께 변경)
+    private static final String JSON_CONFIG_SIGNATURE = "json-t0.3";
+    private static final String TEXT_CONFIG_SIGNATURE = "text";
+
+    private final AiModelClient modelClient;
     private final String model;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final AiResponseCache aiResponseCache;
+    private final AiSingleFlight aiSingleFlight;
+    private final AiExecutor aiExecutor;
+    private final AiCircuitBreaker circuitBreaker;
+    private final ObjectMapper objectMapper;
+
+    // 재시도 설정 (full jitter 백오프, 전체 마감 시간 안에서만 재시도)
+    private final int maxAttempts;
+    private final long baseBackoffMs;
+    private final long maxBackoffMs;
+    private final long retryDeadlineNanos;
     
     // 성능 측정용 카운터
     private final AtomicLong cacheHits = new AtomicLong(0);
@@ -34,114 +57,352 @@ public class GeminiService {
     private final AtomicLong totalAiCallTime = new AtomicLong(0);
     private final AtomicLong aiCallCount = new AtomicLong(0);
 
-    public GeminiService(Client client, String genaiModelName, RedisTemplate<String, Object> redisTemplate) {
-        this.client = client;
-        this.model = genaiModelName; // 예: gemini-2.5-flash
-        this.redisTemplate = redisTemplate;
+    public GeminiService(AiModelClient modelClient, AiResponseCache aiResponseCache,
+                         AiSingleFlight aiSingleFlight, AiExecutor aiExecutor, AiCircuitBreaker circuitBreaker,
+                         ObjectMapper objectMapper,
+                         @Value("${ai.retry.max-attempts:3}") int maxAttempts,
+                         @Value("${ai.retry.base-backoff-ms:200}") long baseBackoffMs,
+                         @Value("${ai.retry.max-backoff-ms:2000}") long maxBackoffMs,
+                         @Value("${ai.retry.deadline-ms:20000}") long retryDeadlineMs) {
+        this.modelClient = modelClient;
+        this.model = modelClient.modelName(); // 예: gemini-2.5-flash
+        this.aiResponseCache = aiResponseCache;
+        this.aiSingleFlight = aiSingleFlight;
+        this.aiExecutor = aiExecutor;
+        this.circuitBreaker = circuitBreaker;
+        this.objectMapper = objectMapper;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseBackoffMs = baseBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.retryDeadlineNanos = TimeUnit.MILLISECONDS.toNanos(retryDeadlineMs);
     }
 
     /** 
      * 동기 호출 (Redis 캐싱 지원)
-     * 프롬프트 기반으로 캐시 키를 생성하여 중복 호출 방지
+     * 템플릿 없이 렌더링된 프롬프트만 있는 경우 프롬프트 전체를 파라미터로 하는 키를 사용
      */
     public String generateContent(String prompt) {
+        if (prompt == null) throw new IllegalArgumentException("prompt is null");
+        return generateContent(PromptKey.of(TEMPLATE_RAW_JSON, null, prompt), prompt);
+    }
+
+    /**
+     * 동기 호출 (Redis 캐싱 지원)
+     * 템플릿/언어/파라미터로 만든 PromptKey 기준으로 캐시하여 중복 호출 방지
+     */
+    public String generateContent(PromptKey promptKey, String prompt) {
+        if (prompt == null) throw new IllegalArgumentException("prompt is null");
+
+        // 1. 캐시 키 생성 (모델 + 템플릿 + 언어 + 생성 설정 + 파라미터 다이제스트)
+        String cacheKey = promptKey.toCacheKey(CACHE_KEY_PREFIX, model, JSON_CONFIG_SIGNATURE);
         try {
-            if (prompt == null) throw new IllegalArgumentException("prompt is null");
-            
-            // 1. 캐시 키 생성 (프롬프트 해시 기반)
-            String cacheKey = generateCacheKey(prompt);
-            
-            // 2. 캐시에서 먼저 조회
-            String cachedResponse = getCachedResponse(cacheKey);
-            if (cachedResponse != null) {
+            // 2. 캐시에서 먼저 조회 (soft TTL이 지났으면 stale 값을 즉시 반환하고 백그라운드 갱신)
+            AiResponseCache.CachedResponse cached = aiResponseCache.lookup(cacheKey);
+            if (cached != null) {
                 cacheHits.incrementAndGet();
-                logger.info(" Cache HIT - 즉시 응답 (캐시에서 반환)");
-                return cachedResponse;
+                if (cached.stale()) {
+                    logger.info(" Cache HIT (stale) - 즉시 응답 후 백그라운드 갱신");
+                    refreshInBackground(cacheKey, () -> callJsonModel(promptKey.getOperation(), cacheKey, prompt));
+                } else {
+                    logger.info(" Cache HIT - 즉시 응답 (캐시에서 반환)");
+                }
+                return cached.value();
             }
+
+            // 최근 실패한 프롬프트는 네거티브 캐시 TTL 동안 모델을 다시 호출하지 않음
+            rejectIfRecentlyFailed(cacheKey);
             
-            // 3. 캐시 미스 - 실제 AI 호출
+            // 3. 캐시 미스 - 같은 키의 동시 요청은 한 번만 AI 호출 (인스턴스 내 병합 + Redis 리스)
             cacheMisses.incrementAndGet();
-            long aiStartTime = System.currentTimeMillis();
             logger.info(" Cache MISS - AI 호출 시작...");
+            return aiSingleFlight.execute(cacheKey,
+                    () -> getCachedResponse(cacheKey),
+                    () -> callJsonModel(promptKey.getOperation(), cacheKey, prompt));
+
+        } catch (AiUnavailableException e) {
+            // 서킷 오픈/재시도 소진 - 만료된 이전 응답이 있으면 그것으로 대체, 없으면 호출 측 기본 템플릿으로
+            return staleOrThrow(cacheKey, e);
+        } catch (Exception e) {
+            logger.error("Error generating content with Gemini", e);
+            throw new RuntimeException("AI 콘텐츠 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * JSON 응답 모델 호출 후 캐시에 저장 (single-flight 리더만 실행)
+     */
+    private String callJsonModel(String operation, String cacheKey, String prompt) {
+        long aiStartTime = System.currentTimeMillis();
+
+        // JSON만 생성하도록 모델에 강제 + 속도 최적화
+        String text = invokeModel(operation, cacheKey, prompt, ResponseFormat.JSON);
+
+        long aiCallTime = System.currentTimeMillis() - aiStartTime;
+        totalAiCallTime.addAndGet(aiCallTime);
+        aiCallCount.incrementAndGet();
+        logger.info(" AI 응답 완료 - 소요 시간: {}ms", aiCallTime);
+
+        // 혹시라도 모델이 앞뒤로 설명/마크다운을 섞어 보내면 첫 번째 JSON만 추출
+        String response = extractFirstJson(text);
+        if (!isParsableJson(response)) {
+            // 파싱 불가 응답은 캐시하지 않고 짧게 실패로 기록 (같은 프롬프트 반복 호출 방지)
+            aiResponseCache.putNegative(cacheKey, "unparsable JSON");
+            throw new AiUnavailableException("AI 응답을 JSON으로 해석할 수 없습니다 - operation: " + operation);
+        }
+        
+        // 4. 응답을 캐시에 저장
+        cacheResponse(cacheKey, response);
+        
+        return response;
+    }
 
-            // JSON만 생성하도록 모델에 강제 + 속도 최적화
-            GenerateContentConfig cfg = GenerateContentConfig.builder()
-                    .responseMimeType("application/json") // JSON만 달라!
-                    .temperature(0.3f)  //  속도 개선 (기본값: 1.0)
-                    .build();
+    /**
+     * 모델 호출 (서킷 브레이커 + 지터 재시도)
+     * - 작업(템플릿)별 서킷이 열려 있으면 호출하지 않고 즉시 AiUnavailableException
+     * - 일시적 오류(5xx/429/타임아웃)만 full jitter 백오프로 재시도하며, 전체 마감 시간을 넘기지 않음
+     * - 개별 호출의 하드 타임아웃은 Gen AI 클라이언트 HTTP 옵션(gemini.timeout-ms)으로 보장
+     * - 모델 오류로 끝나면 네거티브 캐시에 기록 (서킷 차단/로컬 포화는 기록하지 않음)
+     */
+    private String invokeModel(String operation, String cacheKey, String prompt, ResponseFormat format) {
+        long deadline = System.nanoTime() + retryDeadlineNanos;
+        RuntimeException lastError = null;
 
-            // 공식 시그니처: (model, contents, config)
-            GenerateContentResponse res = client.models.generateContent(model, prompt, cfg);
-            String text = res.text();
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            if (!circuitBreaker.tryAcquire(operation)) {
+                throw new AiUnavailableException("AI 서킷이 열려 있습니다 - operation: " + operation, lastError);
+            }
+
+            long callStart = System.nanoTime();
+            try {
+                String text = aiExecutor.callUpstream(() -> modelClient.generate(operation, prompt, format));
+                circuitBreaker.onSuccess(operation, System.nanoTime() - callStart);
+                return text;
+            } catch (AiUnavailableException e) {
+                throw e; // 로컬 실행기 포화는 모델 장애가 아니므로 서킷에 기록하지 않음
+            } catch (RuntimeException e) {
+                circuitBreaker.onFailure(operation, System.nanoTime() - callStart);
+                lastError = e;
+                if (!isRetryable(e)) {
+                    aiResponseCache.putNegative(cacheKey, e.getMessage());
+                    throw e;
+                }
+            }
 
-            long aiCallTime = System.currentTimeMillis() - aiStartTime;
-            totalAiCallTime.addAndGet(aiCallTime);
-            aiCallCount.incrementAndGet();
-            logger.info(" AI 응답 완료 - 소요 시간: {}ms", aiCallTime);
+            if (attempt == maxAttempts) {
+                break;
+            }
+            long backoffMs = backoffMillis(attempt);
+            if (System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(backoffMs) >= deadline) {
+                break;
+            }
+            logger.warn("AI 호출 실패, {}ms 후 재시도 ({}/{}) - operation: {}, error: {}",
+                    backoffMs, attempt, maxAttempts, operation, lastError.getMessage());
+            try {
+                Thread.sleep(backoffMs);
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        aiResponseCache.putNegative(cacheKey, lastError != null ? lastError.getMessage() : "interrupted");
+        throw new AiUnavailableException("AI 호출 재시도 소진 - operation: " + operation, lastError);
+    }
 
-            // 혹시라도 모델이 앞뒤로 설명/마크다운을 섞어 보내면 첫 번째 JSON만 추출
-            String response = extractFirstJson(text);
-            
-            // 4. 응답을 캐시에 저장
-            cacheResponse(cacheKey, response);
-            
-            return response;
+    /**
+     * soft TTL이 지난 항목을 백그라운드에서 갱신 (노드 간 한 곳만, 최근 실패한 프롬프트는 건너뜀)
+     * 갱신이 실패해도 hard TTL까지는 기존 값으로 계속 응답한다.
+     */
+    private void refreshInBackground(String cacheKey, Supplier<String> loader) {
+        if (aiResponseCache.getNegative(cacheKey) != null || !aiResponseCache.tryAcquireRefresh(cacheKey)) {
+            return;
+        }
+        aiExecutor.submit(loader)
+                .whenComplete((response, e) -> {
+                    aiResponseCache.releaseRefresh(cacheKey);
+                    if (e != null) {
+                        logger.warn("AI 캐시 백그라운드 갱신 실패 - key: {}, error: {}", cacheKey, e.getMessage());
+                    }
+                });
+    }
+
+    /**
+     * 네거티브 캐시에 기록된 프롬프트면 모델을 호출하지 않고 AiUnavailableException
+     */
+    private void rejectIfRecentlyFailed(String cacheKey) {
+        String failure = aiResponseCache.getNegative(cacheKey);
+        if (failure != null) {
+            throw new AiUnavailableException("최근 실패한 AI 요청입니다. 잠시 후 다시 시도해주세요: " + failure);
+        }
+    }
 
+    private boolean isParsableJson(String response) {
+        if (response == null || response.isBlank()) {
+            return false;
+        }
+        try {
+            objectMapper.readTree(response);
+            return true;
         } catch (Exception e) {
-            logger.error("Error generating content with Gemini", e);
-            throw new RuntimeException("AI 콘텐츠 생성 중 오류가 발생했습니다: " + e.getMessage(), e);
+            return false;
         }
     }
 
-    /** 비동기 호출 */
-    public CompletableFuture<String> generateContentAsync(String prompt) {
-        return CompletableFuture.supplyAsync(() -> generateContent(prompt));
+    /**
+     * 재시도 가능한 오류인지 (요청 자체가 잘못된 4xx는 다시 보내도 실패하므로 제외, 429는 재시도)
+     */
+    private boolean isRetryable(RuntimeException e) {
+        if (e instanceof ApiException apiException) {
+            int code = apiException.code();
+            return code == 429 || code >= 500 || code <= 0;
+        }
+        return true; // 타임아웃/연결 오류 등
+    }
+
+    /**
+     * full jitter 백오프: [0, min(max, base * 2^(attempt-1))] 구간의 임의 값
+     */
+    private long backoffMillis(int attempt) {
+        long exponential = baseBackoffMs << Math.min(attempt - 1, 20);
+        long cap = Math.min(maxBackoffMs, exponential);
+        return cap > 0 ? ThreadLocalRandom.current().nextLong(cap + 1) : 0L;
+    }
+
+    /**
+     * AI를 사용할 수 없을 때 만료된 이전 응답으로 대체 (없으면 예외를 그대로 전달)
+     */
+    private String staleOrThrow(String cacheKey, AiUnavailableException e) {
+        String stale = aiResponseCache.getStale(cacheKey);
+        if (stale != null) {
+            logger.warn("AI 사용 불가 - 이전 응답으로 대체: {}", e.getMessage());
+            return stale;
+        }
+        logger.warn("AI 사용 불가 - 대체할 이전 응답 없음: {}", e.getMessage());
+        throw e;
     }
 
+    /**
+     * 스트리밍 호출 (JSON 응답)
+     * 모델이 보내는 조각을 도착 즉시 onChunk로 전달하고, 완료되면 전체 응답을 일반 호출과 같은 키로 캐시한다.
+     * - 캐시 적중 시 캐시된 전체 응답을 한 번에 onChunk로 전달
+     * - 이미 일부 조각을 전달했을 수 있으므로 재시도하지 않음 (실패 시 서킷 기록 후 AiUnavailableException)
+     * - onChunk는 모델 스트림을 읽는 스레드에서 호출되므로 예외를 던지지 않아야 한다.
+     *
+     * @return 전체 응답 (첫 번째 JSON)
+     */
+    public String generateContentStream(PromptKey promptKey, String prompt, Consumer<String> onChunk) {
+        if (prompt == null) throw new IllegalArgumentException("prompt is null");
+        String cacheKey = promptKey.toCacheKey(CACHE_KEY_PREFIX, model, JSON_CONFIG_SIGNATURE);
+        String operation = promptKey.getOperation();
+        boolean[] delivered = {false};
 
-    /** 일반 텍스트 응답용 동기 호출 (집중도 분석용) - 언어별 지원 + Redis 캐싱 */
-    public String generatePlainText(String prompt, String languageCode) {
         try {
-            if (prompt == null) throw new IllegalArgumentException("prompt is null");
-            
-            // 1. 언어 코드를 포함한 캐시 키 생성 (언어별 다른 응답)
-            String cacheKey = generateCacheKeyWithLanguage(prompt, languageCode);
-            
-            // 2. 캐시에서 먼저 조회
-            String cachedResponse = getCachedResponse(cacheKey);
-            if (cachedResponse != null) {
-                logger.debug("Cache HIT for plain text, prompt preview: {}, language: {}", 
-                           prompt.substring(0, Math.min(50, prompt.length())), languageCode);
-                return cachedResponse;
+            AiResponseCache.CachedResponse cached = aiResponseCache.lookup(cacheKey);
+            if (cached != null) {
+                cacheHits.incrementAndGet();
+                if (cached.stale()) {
+                    refreshInBackground(cacheKey, () -> callJsonModel(operation, cacheKey, prompt));
+                }
+                onChunk.accept(cached.value());
+                return cached.value();
             }
-            
-            // 3. 캐시 미스 - 실제 AI 호출
-            logger.debug("Cache MISS - Generating plain text, prompt preview: {}, language: {}", 
-                        prompt.substring(0, Math.min(100, prompt.length())), languageCode);
+            rejectIfRecentlyFailed(cacheKey);
+            cacheMisses.incrementAndGet();
+            return streamJsonModel(operation, cacheKey, prompt, chunk -> {
+                delivered[0] = true;
+                onChunk.accept(chunk);
+            });
+
+        } catch (AiUnavailableException e) {
+            if (delivered[0]) {
+                throw e; // 이미 일부 조각을 전달했으면 이전 응답을 이어 붙일 수 없음
+            }
+            String fallback = staleOrThrow(cacheKey, e);
+            onChunk.accept(fallback);
+            return fallback;
+        }
+    }
+
+    private String streamJsonModel(String operation, String cacheKey, String prompt, Consumer<String> onChunk) {
+        if (!circuitBreaker.tryAcquire(operation)) {
+            throw new AiUnavailableException("AI 서킷이 열려 있습니다 - operation: " + operation);
+        }
+
+        long aiStartTime = System.currentTimeMillis();
+        long callStart = System.nanoTime();
+        StringBuilder text = new StringBuilder();
+        try {
+            aiExecutor.callUpstream(() -> {
+                modelClient.generateStream(operation, prompt, ResponseFormat.JSON, part -> {
+                    text.append(part);
+                    onChunk.accept(part);
+                });
+                return null;
+            });
+            circuitBreaker.onSuccess(operation, System.nanoTime() - callStart);
+        } catch (AiUnavailableException e) {
+            throw e; // 로컬 실행기 포화
+        } catch (RuntimeException e) {
+            circuitBreaker.onFailure(operation, System.nanoTime() - callStart);
+            aiResponseCache.putNegative(cacheKey, e.getMessage());
+            throw new AiUnavailableException("AI 스트리밍 호출 실패 - operation: " + operation, e);
+        }
+
+        long aiCallTime = System.currentTimeMillis() - aiStartTime;
+        totalAiCallTime.addAndGet(aiCallTime);
+        aiCallCount.incrementAndGet();
+        logger.info(" AI 스트리밍 응답 완료 - 소요 시간: {}ms, 길이: {}", aiCallTime, text.length());
+
+        String response = extractFirstJson(text.toString());
+        if (!isParsableJson(response)) {
+            aiResponseCache.putNegative(cacheKey, "unparsable JSON");
+            throw new AiUnavailableException("AI 응답을 JSON으로 해석할 수 없습니다 - operation: " + operation);
+        }
+        cacheResponse(cacheKey, response);
+        return response;
+    }
 
-            // 일반 텍스트 응답을 위한 설정 (JSON 강제 없음)
-            GenerateContentConfig cfg = GenerateContentConfig.builder()
-                    .build(); // JSON 강제 제거
+    /** 비동기 호출 (AI 전용 실행기 사용) */
+    public CompletableFuture<String> generateContentAsync(String prompt) {
+        return aiExecutor.submit(() -> generateContent(prompt));
+    }
+
+
+    /** 일반 텍스트 응답용 동기 호출 (집중도 분석용) - 언어별 지원 + Redis 캐싱 */
+    public String generatePlainText(String prompt, String languageCode) {
+        if (prompt == null) throw new IllegalArgumentException("prompt is null");
+        return generatePlainText(PromptKey.of(TEMPLATE_RAW_TEXT, languageCode, prompt), prompt);
+    }
 
-            GenerateContentResponse res = client.models.generateContent(model, prompt, cfg);
-            String text = res.text();
-            logger.debug("Generated plain text length: {}", (text != null ? text.length() : 0));
+    /** 일반 텍스트 응답용 동기 호출 - 호출자가 템플릿/파라미터로 만든 PromptKey 기준 캐싱 */
+    public String generatePlainText(PromptKey promptKey, String prompt) {
+        String languageCode = promptKey.getLanguage();
+        if (prompt == null) throw new IllegalArgumentException("prompt is null");
 
-            if (text == null || text.trim().isEmpty()) {
-                // 언어별 기본 메시지
-                String defaultMessage = getDefaultErrorMessage(languageCode);
-                // 기본 메시지도 캐시 (에러 응답 중복 방지)
-                cacheResponse(cacheKey, defaultMessage);
-                return defaultMessage;
+        // 1. 캐시 키 생성 (언어가 키에 포함되므로 언어별 다른 응답)
+        String cacheKey = promptKey.toCacheKey(CACHE_KEY_PREFIX, model, TEXT_CONFIG_SIGNATURE);
+        try {
+            // 2. 캐시에서 먼저 조회 (soft TTL이 지났으면 stale 값을 즉시 반환하고 백그라운드 갱신)
+            AiResponseCache.CachedResponse cached = aiResponseCache.lookup(cacheKey);
+            if (cached != null) {
+                logger.debug("Cache HIT for plain text, prompt preview: {}, language: {}, stale: {}",
+                           prompt.substring(0, Math.min(50, prompt.length())), languageCode, cached.stale());
+                if (cached.stale()) {
+                    refreshInBackground(cacheKey, () -> callTextModel(promptKey.getOperation(), cacheKey, prompt));
+                }
+                return cached.value();
             }
 
-            String response = text.trim();
-            
-            // 4. 응답을 캐시에 저장
-            cacheResponse(cacheKey, response);
+            rejectIfRecentlyFailed(cacheKey);
             
-            return response;
+            // 3. 캐시 미스 - 같은 키의 동시 요청은 한 번만 AI 호출
+            logger.debug("Cache MISS - Generating plain text, prompt preview: {}, language: {}", 
+                        prompt.substring(0, Math.min(100, prompt.length())), languageCode);
+            return aiSingleFlight.execute(cacheKey,
+                    () -> getCachedResponse(cacheKey),
+                    () -> callTextModel(promptKey.getOperation(), cacheKey, prompt));
 
+        } catch (AiUnavailableException e) {
+            return staleOrThrow(cacheKey, e);
         } catch (Exception e) {
             logger.error("Error generating plain text with Gemini", e);
             // 언어별 에러 메시지
@@ -150,6 +411,28 @@ public class GeminiService {
         }
     }
     
+    /**
+     * 일반 텍스트 모델 호출 후 캐시에 저장 (single-flight 리더만 실행)
+     */
+    private String callTextModel(String operation, String cacheKey, String prompt) {
+        // 일반 텍스트 응답을 위한 설정 (JSON 강제 없음)
+        String text = invokeModel(operation, cacheKey, prompt, ResponseFormat.TEXT);
+        logger.debug("Generated plain text length: {}", (text != null ? text.length() : 0));
+
+        if (text == null || text.trim().isEmpty()) {
+            // 빈 응답은 정상 캐시에 넣지 않고 실패로 기록 (같은 프롬프트 재호출 보류, stale 사본이 있으면 그것으로 응답)
+            aiResponseCache.putNegative(cacheKey, "empty response");
+            throw new AiUnavailableException("AI 응답이 비어 있습니다 - operation: " + operation);
+        }
+
+        String response = text.trim();
+        
+        // 4. 응답을 캐시에 저장
+        cacheResponse(cacheKey, response);
+        
+        return response;
+    }
+    
     /** 기존 메서드 호환성 유지 (기본값: 한국어) */
     public String generatePlainText(String prompt) {
         return generatePlainText(prompt, "ko");
@@ -160,19 +443,26 @@ public class GeminiService {
     public String analyzeGoalAndRecommendTasks(String goalContent, String goalType, String startDate, String endDate, String languageCode) {
         // 언어별 프롬프트 생성
         String prompt = buildTaskRecommendationPrompt(goalContent, goalType, startDate, endDate, languageCode);
+        PromptKey promptKey = PromptKey.of(TEMPLATE_TASK_RECOMMENDATION, promptLanguage(languageCode),
+                goalContent, goalType, startDate, endDate);
         
-        return generateContent(prompt);
+        return generateContent(promptKey, prompt);
     }
     
     // 기존 메서드 호환성 유지 (기본값: 한국어)
     public String analyzeGoalAndRecommendTasks(String goalContent, String goalType, String startDate, String endDate) {
         return analyzeGoalAndRecommendTasks(goalContent, goalType, startDate, endDate, "ko");
     }
+
+    /** 비동기 Task 추천 (AI 전용 실행기 사용) */
+    public CompletableFuture<String> analyzeGoalAndRecommendTasksAsync(String goalContent, String goalType, String startDate, String endDate, String languageCode) {
+        return aiExecutor.submit(() -> analyzeGoalAndRecommendTasks(goalContent, goalType, startDate, endDate, languageCode));
+    }
     
     /**
      * 언어별 Task 추천 프롬프트 생성
      */
-    private String buildTaskRecommendationPrompt(String goalContent, String goalType, String startDate, String endDate, String languageCode) {
+    static String buildTaskRecommendationPrompt(String goalContent, String goalType, String startDate, String endDate, String languageCode) {
         StringBuilder prompt = new StringBuilder();
 
         // Task 개수 계산 (DEFINITE 타입일 경우 기간에 따라 조정)
@@ -270,19 +560,63 @@ public class GeminiService {
         
         // 언어별 프롬프트 생성
         String prompt = buildTimeAttackPrompt(goalName, totalMinutes, totalDurationInSeconds, languageCode);
+        PromptKey promptKey = timeAttackPromptKey(goalName, totalDurationInSeconds, languageCode);
         
-        return generateContent(prompt);
+        return generateContent(promptKey, prompt);
+    }
+
+    /**
+     * 타임어택 단계 추천 캐시가 fresh 상태인지 (soft TTL 이내, 통계에 영향 없음)
+     */
+    public boolean hasFreshTimeAttackSteps(String goalName, Integer totalDurationInSeconds, String languageCode) {
+        String cacheKey = timeAttackPromptKey(goalName, totalDurationInSeconds, languageCode)
+                .toCacheKey(CACHE_KEY_PREFIX, model, JSON_CONFIG_SIGNATURE);
+        AiResponseCache.CachedResponse cached = aiResponseCache.peek(cacheKey);
+        return cached != null && !cached.stale();
+    }
+
+    /**
+     * 캐시와 무관하게 타임어택 단계 추천을 새로 생성해 캐시에 기록 (사전 계산/야간 갱신용)
+     */
+    public String refreshTimeAttackSteps(String goalName, Integer totalDurationInSeconds, String languageCode) {
+        int totalMinutes = Math.max(0, (totalDurationInSeconds != null ? totalDurationInSeconds : 0) / 60);
+        String prompt = buildTimeAttackPrompt(goalName, totalMinutes, totalDurationInSeconds, languageCode);
+        PromptKey promptKey = timeAttackPromptKey(goalName, totalDurationInSeconds, languageCode);
+        String cacheKey = promptKey.toCacheKey(CACHE_KEY_PREFIX, model, JSON_CONFIG_SIGNATURE);
+
+        return callJsonModel(promptKey.getOperation(), cacheKey, prompt);
+    }
+
+    private PromptKey timeAttackPromptKey(String goalName, Integer totalDurationInSeconds, String languageCode) {
+        return PromptKey.of(TEMPLATE_TIME_ATTACK, promptLanguage(languageCode), goalName, totalDurationInSeconds);
     }
     
     // 기존 메서드 호환성 유지 (기본값: 한국어)
     public String recommendTimeAttackSteps(String goalName, Integer totalDurationInSeconds) {
         return recommendTimeAttackSteps(goalName, totalDurationInSeconds, "ko");
     }
+
+    /**
+     * 타임어택 단계 추천 스트리밍 (일반 호출과 같은 프롬프트/캐시 키)
+     */
+    public String streamTimeAttackSteps(String goalName, Integer totalDurationInSeconds, String languageCode,
+                                        Consumer<String> onChunk) {
+        int totalMinutes = Math.max(0, (totalDurationInSeconds != null ? totalDurationInSeconds : 0) / 60);
+        String prompt = buildTimeAttackPrompt(goalName, totalMinutes, totalDurationInSeconds, languageCode);
+        PromptKey promptKey = timeAttackPromptKey(goalName, totalDurationInSeconds, languageCode);
+
+        return generateContentStream(promptKey, prompt, onChunk);
+    }
+
+    /** 비동기 타임어택 단계 추천 (AI 전용 실행기 사용) */
+    public CompletableFuture<String> recommendTimeAttackStepsAsync(String goalName, Integer totalDurationInSeconds, String languageCode) {
+        return aiExecutor.submit(() -> recommendTimeAttackSteps(goalName, totalDurationInSeconds, languageCode));
+    }
     
     /**
      * 언어별 타임어택 프롬프트 생성
      */
-    private String buildTimeAttackPrompt(String goalName, int totalMinutes, int totalDurationInSeconds, String languageCode) {
+    static String buildTimeAttackPrompt(String goalName, int totalMinutes, int totalDurationInSeconds, String languageCode) {
         StringBuilder prompt = new StringBuilder();
         
         if ("en".equalsIgnoreCase(languageCode)) {
@@ -320,19 +654,25 @@ public class GeminiService {
     public String generateMonthlyAnalysisSuggestions(String analysisData, String languageCode) {
         // 언어별 프롬프트 생성
         String prompt = buildMonthlyAnalysisPrompt(analysisData, languageCode);
+        PromptKey promptKey = PromptKey.of(TEMPLATE_MONTHLY_ANALYSIS, promptLanguage(languageCode), analysisData);
         
-        return generateContent(prompt);
+        return generateContent(promptKey, prompt);
     }
     
     // 기존 메서드 호환성 유지 (기본값: 한국어)
     public String generateMonthlyAnalysisSuggestions(String analysisData) {
         return generateMonthlyAnalysisSuggestions(analysisData, "ko");
     }
+
+    /** 비동기 월간 분석 제안 (AI 전용 실행기 사용) */
+    public CompletableFuture<String> generateMonthlyAnalysisSuggestionsAsync(String analysisData, String languageCode) {
+        return aiExecutor.submit(() -> generateMonthlyAnalysisSuggestions(analysisData, languageCode));
+    }
     
     /**
      * 언어별 월간 분석 프롬프트 생성
      */
-    private String buildMonthlyAnalysisPrompt(String analysisData, String languageCode) {
+    static String buildMonthlyAnalysisPrompt(String analysisData, String languageCode) {
         StringBuilder prompt = new StringBuilder();
         
         if ("en".equalsIgnoreCase(languageCode)) {
@@ -365,8 +705,9 @@ public class GeminiService {
     /**
      * 모델 응답에서 첫 번째 JSON(Object/Array)을 안전하게 추출
      * - 앞뒤 설명, 마크다운, 로그 텍스트가 섞여 와도 동작
+     * (프롬프트 빌더와 함께 상태가 없는 순수 함수 - src/jmh 벤치마크에서 직접 호출)
      */
-    private String extractFirstJson(String s) {
+    static String extractFirstJson(String s) {
         if (s == null) return null;
         String text = s.trim();
 
@@ -433,6 +774,7 @@ public class GeminiService {
         stats.put("aiCallCount", aiCalls);
         stats.put("avgAiResponseTimeMs", String.format("%.1f", avgAiResponseTime));
         stats.put("totalAiCallTimeMs", totalAiCallTime.get());
+        stats.put("tiers", aiResponseCache.getStatistics()); // 계층별(L1/L2) 적중 통계 (서버 기동 이후 누적)
         
         logger.info(" 캐시 통계 - 히트율: {}, 평균 AI 응답: {}ms",
                     String.format("%.1f%%", hitRate), 
@@ -452,16 +794,6 @@ public class GeminiService {
         logger.info(" 캐시 통계 초기화 완료");
     }
 
-    /**
-     * 언어별 기본 에러 메시지 반환
-     */
-    private String getDefaultErrorMessage(String languageCode) {
-        if ("en".equalsIgnoreCase(languageCode)) {
-            return "Unable to generate analysis results.";
-        }
-        return "분석 결과를 생성할 수 없습니다.";
-    }
-    
     /**
      * 언어별 에러 메시지 반환  
      */
@@ -475,68 +807,24 @@ public class GeminiService {
     // === Redis 캐싱 유틸리티 메서드들 ===
     
     /**
-     * 프롬프트 기반 캐시 키 생성
-     * 프롬프트의 해시값을 사용하여 고유한 캐시 키 생성
+     * 프롬프트 빌더가 실제로 구분하는 언어 (en 이외는 모두 한국어 프롬프트)
      */
-    private String generateCacheKey(String prompt) {
-        if (prompt == null || prompt.trim().isEmpty()) {
-            return CACHE_KEY_PREFIX + "empty";
-        }
-        
-        // 프롬프트를 정규화하여 일관된 키 생성
-        String normalizedPrompt = prompt.trim().replaceAll("\\s+", " ");
-        int hash = normalizedPrompt.hashCode();
-        
-        // 양수로 변환하여 키 생성
-        String hashString = String.valueOf(Math.abs(hash));
-        return CACHE_KEY_PREFIX + hashString;
+    private String promptLanguage(String languageCode) {
+        return "en".equalsIgnoreCase(languageCode) ? "en" : "ko";
     }
     
     /**
-     * 언어별 캐시 키 생성 (generatePlainText용)
-     * 같은 프롬프트라도 언어가 다르면 다른 캐시 키 생성
-     */
-    private String generateCacheKeyWithLanguage(String prompt, String languageCode) {
-        if (prompt == null || prompt.trim().isEmpty()) {
-            return CACHE_KEY_PREFIX + "empty:" + (languageCode != null ? languageCode : "ko");
-        }
-        
-        // 프롬프트를 정규화하여 일관된 키 생성
-        String normalizedPrompt = prompt.trim().replaceAll("\\s+", " ");
-        String combinedInput = normalizedPrompt + ":" + (languageCode != null ? languageCode : "ko");
-        int hash = combinedInput.hashCode();
-        
-        // 양수로 변환하여 키 생성
-        String hashString = String.valueOf(Math.abs(hash));
-        return CACHE_KEY_PREFIX + hashString + ":" + (languageCode != null ? languageCode : "ko");
-    }
-    
-    /**
-     * 캐시에서 응답 조회
+     * 캐시에서 응답 조회 (L1 Caffeine → L2 Redis)
      */
     private String getCachedResponse(String cacheKey) {
-        try {
-            Object cached = redisTemplate.opsForValue().get(cacheKey);
-            if (cached instanceof String) {
-                return (String) cached;
-            }
-            return null;
-        } catch (Exception e) {
-            logger.warn("Failed to get cached response for key: {}", cacheKey, e);
-            return null;
-        }
+        return aiResponseCache.get(cacheKey);
     }
     
     /**
-     * 응답을 캐시에 저장
+     * 응답을 캐시에 저장 (L1 + L2, 다른 노드 L1 무효화)
      */
     private void cacheResponse(String cacheKey, String response) {
-        try {
-            redisTemplate.opsForValue().set(cacheKey, response, CACHE_TTL);
-            logger.debug("Cached AI response with key: {}, TTL: {}h", cacheKey, CACHE_TTL.toHours());
-        } catch (Exception e) {
-            logger.warn("Failed to cache AI response for key: {}", cacheKey, e);
-        }
+        aiResponseCache.put(cacheKey, response);
     }
     
     /**
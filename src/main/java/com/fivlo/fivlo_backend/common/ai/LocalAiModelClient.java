@@ -0,0 +1,173 @@
+package com.fivlo.fivlo_backend.common.ai;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 부하 테스트용 로컬 모델 대역 ("ai-local" 프로필)
+ * 쿼터/네트워크 없이 GeminiService의 캐시·single-flight·서킷 브레이커 동작을 측정하기 위한 결정적 구현.
+ * - 지연: 로그 정규 분포 (중앙값/p99로 지정), 시드 고정으로 같은 순서의 호출은 같은 지연을 받는다.
+ * - 오류: error-rate 비율로 일시적 오류(재시도 대상), timeout-rate 비율로 HTTP 타임아웃을 흉내 낸다.
+ * - 응답: 템플릿(operation)별 고정 응답 (classpath:ai-local/{operation}.json|.txt, 없으면 기본값)
+ * - 스트리밍: 고정 응답을 chunk-chars 단위로 나눠 지연을 분배해 전달
+ */
+@Component
+@Profile("ai-local")
+public class LocalAiModelClient implements AiModelClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalAiModelClient.class);
+
+    private static final String MODEL_NAME = "local-stand-in";
+    private static final String RESOURCE_DIR = "ai-local/";
+    // 표준 정규 분포의 99 백분위 z 값
+    private static final double Z_99 = 2.326;
+
+    private final MeterRegistry meterRegistry;
+    private final Random random;
+    private final double latencyMu;
+    private final double latencySigma;
+    private final double errorRate;
+    private final double timeoutRate;
+    private final long timeoutMs;
+    private final int streamChunkChars;
+
+    private final Map<String, String> cannedResponses = new ConcurrentHashMap<>();
+
+    public LocalAiModelClient(MeterRegistry meterRegistry,
+                              @Value("${ai.local.seed:42}") long seed,
+                              @Value("${ai.local.latency.median-ms:800}") long medianMs,
+                              @Value("${ai.local.latency.p99-ms:3000}") long p99Ms,
+                              @Value("${ai.local.error-rate:0.0}") double errorRate,
+                              @Value("${ai.local.timeout-rate:0.0}") double timeoutRate,
+                              @Value("${gemini.timeout-ms:15000}") long timeoutMs,
+                              @Value("${ai.local.stream-chunk-chars:32}") int streamChunkChars) {
+        this.meterRegistry = meterRegistry;
+        this.random = new Random(seed);
+        this.latencyMu = Math.log(Math.max(1L, medianMs));
+        this.latencySigma = Math.max(0.0, (Math.log(Math.max(medianMs, p99Ms)) - latencyMu) / Z_99);
+        this.errorRate = errorRate;
+        this.timeoutRate = timeoutRate;
+        this.timeoutMs = timeoutMs;
+        this.streamChunkChars = Math.max(1, streamChunkChars);
+        logger.warn("로컬 AI 모델 대역 사용 중 - median: {}ms, p99: {}ms, errorRate: {}, timeoutRate: {}, seed: {}",
+                medianMs, p99Ms, errorRate, timeoutRate, seed);
+    }
+
+    @Override
+    public String modelName() {
+        return MODEL_NAME;
+    }
+
+    @Override
+    public String generate(String operation, String prompt, ResponseFormat format) {
+        long latencyMs = nextLatencyMs();
+        injectFailure(operation);
+        sleep(latencyMs);
+        record(operation, "success");
+        return cannedResponse(operation, format);
+    }
+
+    @Override
+    public void generateStream(String operation, String prompt, ResponseFormat format, Consumer<String> onChunk) {
+        long latencyMs = nextLatencyMs();
+        injectFailure(operation);
+
+        String response = cannedResponse(operation, format);
+        int chunks = Math.max(1, (response.length() + streamChunkChars - 1) / streamChunkChars);
+        // 첫 조각까지 전체 지연의 30%, 나머지는 조각마다 균등 분배
+        long firstChunkDelay = latencyMs * 3 / 10;
+        long perChunkDelay = chunks > 1 ? (latencyMs - firstChunkDelay) / (chunks - 1) : 0L;
+
+        sleep(firstChunkDelay);
+        for (int i = 0; i < chunks; i++) {
+            if (i > 0) {
+                sleep(perChunkDelay);
+            }
+            int start = i * streamChunkChars;
+            onChunk.accept(response.substring(start, Math.min(response.length(), start + streamChunkChars)));
+        }
+        record(operation, "success");
+    }
+
+    /**
+     * 설정한 비율로 일시적 오류/타임아웃 발생 (GeminiService 재시도·서킷 브레이커 검증용)
+     */
+    private void injectFailure(String operation) {
+        double roll = nextDouble();
+        if (roll < errorRate) {
+            record(operation, "error");
+            throw new IllegalStateException("로컬 대역 주입 오류 (503) - operation: " + operation);
+        }
+        if (roll < errorRate + timeoutRate) {
+            sleep(timeoutMs);
+            record(operation, "timeout");
+            throw new IllegalStateException("로컬 대역 주입 타임아웃 - operation: " + operation);
+        }
+    }
+
+    private long nextLatencyMs() {
+        double gaussian;
+        synchronized (random) {
+            gaussian = random.nextGaussian();
+        }
+        return Math.round(Math.exp(latencyMu + latencySigma * gaussian));
+    }
+
+    private double nextDouble() {
+        synchronized (random) {
+            return random.nextDouble();
+        }
+    }
+
+    private String cannedResponse(String operation, ResponseFormat format) {
+        String extension = format == ResponseFormat.JSON ? ".json" : ".txt";
+        return cannedResponses.computeIfAbsent(operation + extension, name -> loadResource(name, format));
+    }
+
+    private String loadResource(String name, ResponseFormat format) {
+        ClassPathResource resource = new ClassPathResource(RESOURCE_DIR + name);
+        if (resource.exists()) {
+            try (InputStream in = resource.getInputStream()) {
+                return new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+            } catch (IOException e) {
+                logger.warn("로컬 대역 응답 파일 읽기 실패 - {}: {}", name, e.getMessage());
+            }
+        }
+        return format == ResponseFormat.JSON ? "{}" : "로컬 대역 응답입니다.";
+    }
+
+    private void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("로컬 대역 호출 중 인터럽트되었습니다", e);
+        }
+    }
+
+    private void record(String operation, String outcome) {
+        Counter.builder("fivlo.ai.local.calls")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .description("로컬 AI 모델 대역 호출 수")
+                .register(meterRegistry)
+                .increment();
+    }
+}
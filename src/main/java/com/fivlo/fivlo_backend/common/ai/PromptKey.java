@@ -0,0 +1,151 @@
+package com.fivlo.fivlo_backend.common.ai;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Objects;
+
+/**
+ * AI 응답 캐시 키
+ * 렌더링된 프롬프트 문자열이 아니라 (템플릿 id, 언어, 정규화된 파라미터)로 프롬프트를 식별한다.
+ * - 파라미터는 타입 태그 + 길이 접두어로 직렬화한 뒤 SHA-256 다이제스트로 축약 (구분자 충돌 없음)
+ * - 캐시 키에는 모델명과 생성 설정 서명이 함께 들어가므로 모델/설정을 바꾸면 기존 캐시와 자연히 분리된다.
+ * - 프롬프트 문구를 바꿀 때는 템플릿 id의 버전(예: "time-attack:v2")을 올린다.
+ */
+public final class PromptKey {
+
+    private static final String DEFAULT_LANGUAGE = "ko";
+
+    private final String template;
+    private final String language;
+    private final String digest;
+
+    private PromptKey(String template, String language, String digest) {
+        this.template = template;
+        this.language = language;
+        this.digest = digest;
+    }
+
+    /**
+     * @param template     템플릿 id + 버전 (예: "task-recommendation:v1")
+     * @param languageCode 응답 언어 (null 이면 ko)
+     * @param params       프롬프트에 들어가는 파라미터 (순서 유지)
+     */
+    public static PromptKey of(String template, String languageCode, Object... params) {
+        if (template == null || template.isBlank()) {
+            throw new IllegalArgumentException("template is blank");
+        }
+        return new PromptKey(template, normalizeLanguage(languageCode), digest(params));
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * 버전을 제외한 템플릿 이름 (서킷 브레이커 등 작업 단위 구분용, 예: "time-attack")
+     */
+    public String getOperation() {
+        int versionSeparator = template.lastIndexOf(':');
+        return versionSeparator > 0 ? template.substring(0, versionSeparator) : template;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public String getDigest() {
+        return digest;
+    }
+
+    /**
+     * Redis 캐시 키 생성
+     * 형식: {prefix}{model}:{template}:{language}:{generationConfig}:{digest}
+     */
+    public String toCacheKey(String prefix, String model, String generationConfig) {
+        return prefix + model + ":" + template + ":" + language + ":" + generationConfig + ":" + digest;
+    }
+
+    private static String normalizeLanguage(String languageCode) {
+        if (languageCode == null || languageCode.isBlank()) {
+            return DEFAULT_LANGUAGE;
+        }
+        return languageCode.trim().toLowerCase();
+    }
+
+    private static String digest(Object... params) {
+        MessageDigest sha256 = newSha256();
+        if (params != null) {
+            for (Object param : params) {
+                update(sha256, param);
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(sha256.digest());
+    }
+
+    /**
+     * 파라미터 1개를 [타입 태그][길이][UTF-8 값] 형태로 누적
+     * 같은 값이 표기만 다른 경우(1.50 / 1.5, 앞뒤 공백)는 같은 키가 되도록 정규화한다.
+     */
+    private static void update(MessageDigest sha256, Object param) {
+        char tag;
+        String value;
+        if (param == null) {
+            tag = 'N';
+            value = "";
+        } else if (param instanceof CharSequence text) {
+            tag = 'S';
+            value = text.toString().strip();
+        } else if (param instanceof Double || param instanceof Float || param instanceof BigDecimal) {
+            tag = 'D';
+            BigDecimal decimal = param instanceof BigDecimal bd ? bd : BigDecimal.valueOf(((Number) param).doubleValue());
+            value = decimal.stripTrailingZeros().toPlainString();
+        } else if (param instanceof Number number) {
+            tag = 'I';
+            value = Long.toString(number.longValue());
+        } else if (param instanceof Boolean bool) {
+            tag = 'B';
+            value = bool.toString();
+        } else if (param instanceof Enum<?> constant) {
+            tag = 'E';
+            value = constant.name();
+        } else {
+            tag = 'O';
+            value = param.toString();
+        }
+
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        sha256.update((byte) tag);
+        sha256.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        sha256.update(bytes);
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 구현은 SHA-256을 지원해야 함
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof PromptKey that)) return false;
+        return template.equals(that.template) && language.equals(that.language) && digest.equals(that.digest);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(template, language, digest);
+    }
+
+    @Override
+    public String toString() {
+        return template + ":" + language + ":" + digest;
+    }
+}
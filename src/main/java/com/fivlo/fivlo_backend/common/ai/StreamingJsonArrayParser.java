@@ -0,0 +1,158 @@
+package com.fivlo.fivlo_backend.common.ai;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * 스트리밍 응답용 증분 JSON 파서
+ * 모델이 보내는 조각(chunk)을 Jackson non-blocking 파서에 그대로 흘려 넣고,
+ * 최상위 객체의 대상 배열(예: "recommended_steps") 원소가 하나 완성될 때마다 즉시 역직렬화해 전달한다.
+ * - 전체 응답을 모은 뒤 문자 단위로 다시 스캔(extractFirstJson)하고 재파싱하는 과정이 없다.
+ * - 첫 '{' 이전 텍스트(마크다운 펜스 등)는 무시하고, 최상위 객체가 닫힌 뒤의 입력도 무시한다.
+ * 스레드 안전하지 않음 (스트림 하나당 인스턴스 하나).
+ */
+public final class StreamingJsonArrayParser<T> {
+
+    private final ObjectMapper objectMapper;
+    private final Set<String> arrayFields;
+    private final Class<T> elementType;
+    private final Consumer<T> onElement;
+    private final JsonParser parser;
+    private final ByteArrayFeeder feeder;
+
+    private boolean started;
+    private boolean completed;
+    private int depth;
+    private String currentField;
+    private boolean inTargetArray;
+    private TokenBuffer element;
+    private int elementDepth;
+    private int emittedCount;
+
+    /**
+     * @param arrayFields 최상위 객체에서 원소를 꺼낼 배열 필드명 (별칭 포함)
+     * @param onElement   원소가 완성될 때마다 호출 (파서 스레드에서 호출됨)
+     */
+    public StreamingJsonArrayParser(ObjectMapper objectMapper, Set<String> arrayFields,
+                                    Class<T> elementType, Consumer<T> onElement) throws IOException {
+        this.objectMapper = objectMapper;
+        this.arrayFields = arrayFields;
+        this.elementType = elementType;
+        this.onElement = onElement;
+        this.parser = objectMapper.getFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 모델 응답 조각 입력 (완성된 원소가 있으면 이 호출 안에서 onElement 실행)
+     */
+    public void feed(String chunk) throws IOException {
+        if (completed || chunk == null || chunk.isEmpty()) {
+            return;
+        }
+        String text = chunk;
+        if (!started) {
+            int objectStart = text.indexOf('{');
+            if (objectStart < 0) {
+                return;
+            }
+            text = text.substring(objectStart);
+            started = true;
+        }
+        byte[] bytes = text.getBytes(StandardCharsets.UTF_8);
+        feeder.feedInput(bytes, 0, bytes.length);
+        drain();
+    }
+
+    /**
+     * 입력 종료 (남은 토큰 처리)
+     */
+    public void finish() throws IOException {
+        if (!completed && started) {
+            feeder.endOfInput();
+            drain();
+        }
+        parser.close();
+    }
+
+    /** 최상위 객체가 닫혔는지 */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    /** 지금까지 전달한 원소 수 */
+    public int getEmittedCount() {
+        return emittedCount;
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!completed && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            if (element != null) {
+                element.copyCurrentEvent(parser);
+                if (token.isStructStart()) {
+                    elementDepth++;
+                } else if (token.isStructEnd() && --elementDepth == 0) {
+                    emitElement();
+                }
+                continue;
+            }
+
+            switch (token) {
+                case START_OBJECT -> {
+                    if (inTargetArray && depth == 2) {
+                        // 대상 배열의 원소 시작 - 닫힐 때까지 토큰을 모은다 (depth는 원소 밖 기준 유지)
+                        element = new TokenBuffer(parser);
+                        element.copyCurrentEvent(parser);
+                        elementDepth = 1;
+                    } else {
+                        depth++;
+                    }
+                }
+                case START_ARRAY -> {
+                    depth++;
+                    if (depth == 2 && arrayFields.contains(currentField)) {
+                        inTargetArray = true;
+                    }
+                }
+                case END_ARRAY -> {
+                    if (depth == 2) {
+                        inTargetArray = false;
+                    }
+                    depth--;
+                }
+                case END_OBJECT -> {
+                    if (--depth == 0) {
+                        completed = true;
+                    }
+                }
+                case FIELD_NAME -> {
+                    if (depth == 1) {
+                        currentField = parser.currentName();
+                    }
+                }
+                default -> {
+                    // 대상 배열 밖의 스칼라 값은 무시
+                }
+            }
+        }
+    }
+
+    private void emitElement() throws IOException {
+        TokenBuffer completedElement = element;
+        element = null;
+        try (JsonParser elementParser = completedElement.asParser(objectMapper)) {
+            T value = objectMapper.readValue(elementParser, elementType);
+            emittedCount++;
+            onElement.accept(value);
+        }
+    }
+}
@@ -1,13 +1,15 @@
 package com.fivlo.fivlo_backend.common.controller;
 
 import com.fivlo.fivlo_backend.common.ai.GeminiService;
-import com.fivlo.fivlo_backend.domain.timeattack.repository.TimeAttackSessionRepository;
 import com.fivlo.fivlo_backend.domain.timeattack.service.TimeAttackService;
+import com.fivlo.fivlo_backend.domain.timeattack.service.TimeAttackStatsService;
+import com.fivlo.fivlo_backend.domain.timeattack.service.TimeAttackWarmUpService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
@@ -23,8 +25,9 @@ import java.util.Map;
 public class PerformanceMetricsController {
 
     private final GeminiService geminiService;
-    private final TimeAttackSessionRepository sessionRepository;
+    private final TimeAttackStatsService timeAttackStatsService;
     private final TimeAttackService timeAttackService;
+    private final TimeAttackWarmUpService timeAttackWarmUpService;
 
     /**
      * 전체 성능 통계 조회
@@ -44,8 +47,8 @@ public class PerformanceMetricsController {
         Map<String, Object> dbSessionStats = timeAttackService.getDbSessionStatistics();
         metrics.put("dbSession", dbSessionStats);
         
-        // 3. 타임어택 완료율 통계
-        Map<String, Object> completionStats = sessionRepository.getCompletionStatistics();
+        // 3. 타임어택 완료율 통계 (일자별 카운터 합계)
+        Map<String, Object> completionStats = timeAttackStatsService.getCompletionStatistics();
         metrics.put("timeAttackCompletion", completionStats);
         
         // 4. 메타 정보
@@ -70,6 +73,16 @@ public class PerformanceMetricsController {
         return ResponseEntity.ok(geminiService.getCacheStatistics());
     }
     
+    /**
+     *  미리 정의된 목적 AI 추천 사전 계산 커버리지/적중률
+     * GET /api/v1/metrics/ai-warmup
+     */
+    @GetMapping("/ai-warmup")
+    public ResponseEntity<Map<String, Object>> getAIWarmUpMetrics() {
+        log.info(" AI 사전 계산 리포트 조회");
+        return ResponseEntity.ok(timeAttackWarmUpService.getReport());
+    }
+
     /**
      *  DB 세션 재사용 통계만 조회
      * GET /api/v1/metrics/db-session
@@ -96,15 +109,14 @@ public class PerformanceMetricsController {
         
         if (userId != null) {
             // 사용자별 완료율
-            stats = sessionRepository.getUserCompletionStatistics(userId);
+            stats = timeAttackStatsService.getUserCompletionStatistics(userId);
         } else if (startDate != null && endDate != null) {
             // 기간별 완료율
-            LocalDateTime start = LocalDateTime.parse(startDate + "T00:00:00");
-            LocalDateTime end = LocalDateTime.parse(endDate + "T23:59:59");
-            stats = sessionRepository.getCompletionStatisticsByDateRange(start, end);
+            stats = timeAttackStatsService.getCompletionStatisticsByDateRange(
+                    LocalDate.parse(startDate), LocalDate.parse(endDate));
         } else {
             // 전체 완료율
-            stats = sessionRepository.getCompletionStatistics();
+            stats = timeAttackStatsService.getCompletionStatistics();
         }
         
         return ResponseEntity.ok(stats);
@@ -141,6 +153,8 @@ public class PerformanceMetricsController {
         Map<String, String> metrics = new HashMap<>();
         metrics.put("AI 응답 시간", "logs/fivlo-backend.log에서 ' AI 응답 완료' 로그의 시간 확인");
         metrics.put("캐시 히트율", "GET /api/v1/metrics/ai-cache → hitRate 필드");
+        metrics.put("캐시 계층별 히트율", "GET /api/v1/metrics/ai-cache → tiers.local / tiers.redis 필드");
+        metrics.put("사전 계산 커버리지", "GET /api/v1/metrics/ai-warmup → demand.coverageRate / demand.warmHitRate 필드");
         metrics.put("DB 조회 시간", "GET /api/v1/metrics/db-session → avgDbQueryTimeMs 필드");
         metrics.put("DB 히트율", "GET /api/v1/metrics/db-session → dbHitRate 필드");
         metrics.put("단계 전환 지연", "logs/fivlo-backend.log에서 ' 타임어택 단계 추천' 시작/완료 로그 시간 차이");
@@ -151,6 +165,7 @@ public class PerformanceMetricsController {
         Map<String, String> endpoints = new HashMap<>();
         endpoints.put("전체 통계", "GET /api/v1/metrics/performance");
         endpoints.put("AI 캐시", "GET /api/v1/metrics/ai-cache");
+        endpoints.put("AI 사전 계산", "GET /api/v1/metrics/ai-warmup");
         endpoints.put("DB 세션", "GET /api/v1/metrics/db-session");
         endpoints.put("완료율", "GET /api/v1/metrics/completion-rate");
         endpoints.put("사용자별 완료율", "GET /api/v1/metrics/completion-rate?userId={userId}");
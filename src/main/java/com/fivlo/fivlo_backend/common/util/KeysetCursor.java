@@ -0,0 +1,41 @@
+package com.fivlo.fivlo_backend.common.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (created_at DESC, id DESC 정렬 기준)
+ * 마지막으로 내려준 행의 (createdAt, id)를 URL-safe Base64 토큰으로 인코딩한다.
+ * 다음 페이지는 "createdAt < c OR (createdAt = c AND id < i)" 조건으로 이어서 조회하므로
+ * OFFSET 없이 인덱스에서 바로 시작 위치를 찾는다.
+ */
+public record KeysetCursor(LocalDateTime createdAt, Long id) {
+
+    private static final String SEPARATOR = "|";
+
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 토큰
+     */
+    public static KeysetCursor decode(String token) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separatorIndex = raw.lastIndexOf(SEPARATOR);
+            if (separatorIndex <= 0) {
+                throw new IllegalArgumentException("유효하지 않은 커서입니다.");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    Long.parseLong(raw.substring(separatorIndex + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            // NumberFormatException도 IllegalArgumentException 하위 타입
+            throw new IllegalArgumentException("유효하지 않은 커서입니다.", e);
+        }
+    }
+}
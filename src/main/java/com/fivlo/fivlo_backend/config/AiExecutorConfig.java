@@ -0,0 +1,60 @@
+package com.fivlo.fivlo_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * AI(Gemini) 호출 전용 실행기 설정
+ * 블로킹 HTTP 호출이 공용 ForkJoinPool이나 요청 스레드를 오래 점유하지 않도록 크기가 제한된 전용 풀을 사용
+ */
+@Configuration
+public class AiExecutorConfig {
+
+    @Value("${ai.executor.core-size:4}")
+    private int coreSize;
+
+    @Value("${ai.executor.max-size:8}")
+    private int maxSize;
+
+    @Value("${ai.executor.queue-capacity:50}")
+    private int queueCapacity;
+
+    @Value("${ai.request-executor.core-size:4}")
+    private int requestCoreSize;
+
+    @Value("${ai.request-executor.max-size:16}")
+    private int requestMaxSize;
+
+    @Value("${ai.request-executor.queue-capacity:100}")
+    private int requestQueueCapacity;
+
+    @Bean(name = "aiTaskExecutor")
+    public ThreadPoolTaskExecutor aiTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity); // 큐가 가득 차면 RejectedExecutionException (호출 측에서 fallback 처리)
+        executor.setThreadNamePrefix("ai-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 요청 단위 AI 작업(여러 모델 호출을 기다리며 조합) 전용 실행기
+     * 모델 호출 풀과 분리해 조합 작업이 하위 호출을 기다리며 같은 풀을 점유하지 않도록 한다.
+     */
+    @Bean(name = "aiRequestExecutor")
+    public ThreadPoolTaskExecutor aiRequestExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(requestCoreSize);
+        executor.setMaxPoolSize(requestMaxSize);
+        executor.setQueueCapacity(requestQueueCapacity);
+        executor.setThreadNamePrefix("ai-req-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -2,6 +2,7 @@ package com.fivlo.fivlo_backend.config;
 
 import com.fivlo.fivlo_backend.domain.user.entity.User;
 import com.fivlo.fivlo_backend.domain.user.repository.UserRepository;
+import com.fivlo.fivlo_backend.security.PrincipalCache;
 import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +30,7 @@ public class BatchConfig {
 
     private final UserRepository userRepository;
     private final EntityManagerFactory entityManagerFactory;
+    private final PrincipalCache principalCache;
 
     private static final int CHUNK_SIZE = 1000; // 한 번에 처리할 데이터 양 (사용자 수 늘어나면 수정)
 
@@ -73,7 +75,10 @@ public class BatchConfig {
 
     @Bean // 변경된 상태를 전부 DB에 저장
     public ItemWriter<User> userUpdateWriter() {
-        return users -> userRepository.saveAll(users);
+        return users -> {
+            userRepository.saveAll(users);
+            users.forEach(user -> principalCache.evict(user.getId()));
+        };
     }
 
     @Bean
@@ -110,6 +115,7 @@ public class BatchConfig {
     public ItemWriter<User> userHardDeleteWriter() {
         return chunk -> {
             userRepository.deleteAllInBatch((Iterable<User>) chunk.getItems());
+            chunk.getItems().forEach(user -> principalCache.evict(user.getId()));
         };
     }
 }
\ No newline at end of file
@@ -3,7 +3,9 @@ package com.fivlo.fivlo_backend.config;
 import com.google.auth.oauth2.GoogleCredentials;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
+import com.google.firebase.messaging.FirebaseMessaging;
 import jakarta.annotation.PostConstruct;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.io.IOException;
@@ -33,4 +35,12 @@ public class FirebaseConfig {
             throw new RuntimeException("Firebase 초기화 중 오류가 발생했습니다.");
         }
     }
+
+    /**
+     * FCM 전송 클라이언트 (FcmDispatcher가 주입받음 - 테스트에서는 로컬 스텁 빈으로 교체)
+     */
+    @Bean
+    public FirebaseMessaging firebaseMessaging() {
+        return FirebaseMessaging.getInstance();
+    }
 }
@@ -1,9 +1,11 @@
 package com.fivlo.fivlo_backend.config;
 
 import com.google.genai.Client;
+import com.google.genai.types.HttpOptions;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
 
 /** Google Gen AI SDK 설정 */
 @Configuration
@@ -15,15 +17,20 @@ public class GeminiConfig {
     @Value("${gemini.model.name:gemini-2.5-flash}")
     private String modelName;
 
-    /** Gen AI 클라이언트 Bean */
+    @Value("${gemini.timeout-ms:15000}")     // 모델 호출 1회의 HTTP 하드 타임아웃
+    private int timeoutMs;
+
+    /** Gen AI 클라이언트 Bean ("ai-local" 프로필에서는 로컬 대역을 쓰므로 생성하지 않음) */
     @Bean
+    @Profile("!ai-local")
     public Client genaiClient() {
         // API Key를 코드로 주입하거나, 환경변수 GOOGLE_API_KEY 설정도 가능
         // Client.builder()는 공식 문서 예제와 동일합니다.
         // https://github.com/googleapis/java-genai (Client.builder().apiKey(...).build())
+        HttpOptions httpOptions = HttpOptions.builder().timeout(timeoutMs).build();
         return (apiKey != null && !apiKey.isEmpty())
-                ? Client.builder().apiKey(apiKey).build()
-                : new Client(); // GOOGLE_API_KEY 환경변수 자동 사용
+                ? Client.builder().apiKey(apiKey).httpOptions(httpOptions).build()
+                : Client.builder().httpOptions(httpOptions).build(); // GOOGLE_API_KEY 환경변수 자동 사용
     }
 
     /** 기본 모델명 Bean (주입용) */
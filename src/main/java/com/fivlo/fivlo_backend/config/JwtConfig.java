@@ -2,6 +2,11 @@ package com.fivlo.fivlo_backend.config;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.util.StringUtils;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 /**
  * JWT 관련 설정 클래스
@@ -20,6 +25,14 @@ public class JwtConfig {
     @Value("${jwt.refresh-expiration}")
     private Long jwtRefreshExpiration;
 
+    // 현재 서명에 사용하는 키의 kid (토큰 헤더에 기록됨)
+    @Value("${jwt.key-id:default}")
+    private String jwtKeyId;
+
+    // 키 교체 후에도 기존 토큰을 검증하기 위한 이전 키 목록 ("kid1:secret1,kid2:secret2")
+    @Value("${jwt.previous-keys:}")
+    private String jwtPreviousKeys;
+
     /**
      * JWT Secret Key 반환
      * 
@@ -29,6 +42,35 @@ public class JwtConfig {
         return jwtSecret;
     }
 
+    /**
+     * 현재 서명 키의 kid 반환
+     */
+    public String getJwtKeyId() {
+        return jwtKeyId;
+    }
+
+    /**
+     * 검증에 사용할 키 목록 반환 (kid -> secret)
+     * 현재 키가 먼저 들어가며, 이전 키는 검증 용도로만 사용된다.
+     *
+     * @return kid 별 비밀키 (수정 불가)
+     */
+    public Map<String, String> getJwtKeyring() {
+        Map<String, String> keyring = new LinkedHashMap<>();
+        keyring.put(jwtKeyId, jwtSecret);
+
+        if (StringUtils.hasText(jwtPreviousKeys)) {
+            for (String entry : jwtPreviousKeys.split(",")) {
+                int idx = entry.indexOf(':');
+                if (idx <= 0 || idx == entry.length() - 1) {
+                    throw new IllegalArgumentException("jwt.previous-keys 형식이 올바르지 않습니다. (kid:secret)");
+                }
+                keyring.putIfAbsent(entry.substring(0, idx).trim(), entry.substring(idx + 1).trim());
+            }
+        }
+        return Collections.unmodifiableMap(keyring);
+    }
+
     /**
      * JWT 토큰 만료시간 반환
      * 
@@ -0,0 +1,50 @@
+package com.fivlo.fivlo_backend.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 알림 파이프라인 전용 실행기 설정
+ * - locationPingExecutor: 위치 ping 지오펜스 평가. 동시에 DB 커넥션을 잡는 배치 수를 워커 수로 제한해,
+ *   기기들이 한꺼번에 위치를 보내도 커넥션 풀을 소진하지 않도록 한다.
+ * - fcmDispatchExecutor: FCM 배치 전송 (sendEach 네트워크 호출이 스케줄러 스레드를 붙잡지 않도록 분리)
+ * 두 실행기 모두 큐가 가득 차면 RejectedExecutionException → 호출 측이 배치를 다음 주기로 미룬다.
+ */
+@Configuration
+public class NotificationExecutorConfig {
+
+    @Value("${notification.location.workers:2}")
+    private int locationWorkers;
+
+    @Value("${notification.location.queue-capacity:4}")
+    private int locationQueueCapacity;
+
+    @Value("${notification.fcm.workers:2}")
+    private int fcmWorkers;
+
+    @Value("${notification.fcm.executor-queue-capacity:4}")
+    private int fcmQueueCapacity;
+
+    @Bean(name = "locationPingExecutor")
+    public ThreadPoolTaskExecutor locationPingExecutor() {
+        return executor(locationWorkers, locationQueueCapacity, "location-");
+    }
+
+    @Bean(name = "fcmDispatchExecutor")
+    public ThreadPoolTaskExecutor fcmDispatchExecutor() {
+        return executor(fcmWorkers, fcmQueueCapacity, "fcm-");
+    }
+
+    private static ThreadPoolTaskExecutor executor(int workers, int queueCapacity, String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
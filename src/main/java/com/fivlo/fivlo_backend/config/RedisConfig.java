@@ -1,5 +1,7 @@
 package com.fivlo.fivlo_backend.config;
 
+import com.fivlo.fivlo_backend.common.ai.AiResponseCache;
+import com.fivlo.fivlo_backend.domain.pomodoro.service.FocusAnalysisCache;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -7,6 +9,8 @@ import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -92,4 +96,23 @@ public class RedisConfig {
         template.afterPropertiesSet();
         return template;
     }
+
+    /**
+     * Redis pub/sub 리스너 컨테이너
+     * AI 응답 / 집중도 분석 near-cache(L1) 무효화 메시지를 구독
+     * @param connectionFactory Redis 연결 팩토리
+     * @param aiResponseCache 무효화 메시지를 처리할 AI 응답 캐시
+     * @param focusAnalysisCache 무효화 메시지를 처리할 집중도 분석 캐시
+     * @return 리스너 컨테이너
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       AiResponseCache aiResponseCache,
+                                                                       FocusAnalysisCache focusAnalysisCache) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(aiResponseCache, new ChannelTopic(AiResponseCache.INVALIDATION_CHANNEL));
+        container.addMessageListener(focusAnalysisCache, new ChannelTopic(FocusAnalysisCache.INVALIDATION_CHANNEL));
+        return container;
+    }
 }
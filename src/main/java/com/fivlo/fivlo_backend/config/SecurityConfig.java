@@ -6,6 +6,7 @@ import com.fivlo.fivlo_backend.security.LoginSuccessHandler;
 import com.fivlo.fivlo_backend.security.OAuth2SuccessHandler;
 import com.fivlo.fivlo_backend.security.filter.JwtFilter;
 import com.fivlo.fivlo_backend.security.filter.LoginFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -61,6 +62,8 @@ public class SecurityConfig {
 
                 // API 경로별 보안 설정
                 .authorizeHttpRequests(authz -> authz
+                        // 비동기 응답(CompletableFuture)의 ASYNC 재디스패치는 최초 요청에서 이미 인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // 인증 없이 접근 가능한 경로들
                         .requestMatchers("/").permitAll()
                         .requestMatchers("/api/v1/auth/**").permitAll()
@@ -14,6 +14,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * 집중도 분석 컨트롤러
@@ -98,7 +99,7 @@ public class FocusAnalysisController {
      * 언어별 지원: Accept-Language 헤더 (ko, en 지원, 기본값: ko)
      */
     @GetMapping(Routes.ANALYSIS_MONTHLY_AI_SUGGESTIONS)
-    public ResponseEntity<AIAnalysisResponse> getMonthlyAIAnalysis(
+    public CompletableFuture<ResponseEntity<AIAnalysisResponse>> getMonthlyAIAnalysis(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestParam int year,
             @RequestParam int month,
@@ -111,12 +112,13 @@ public class FocusAnalysisController {
         String languageCode = extractLanguageCode(acceptLanguage);
 
         User user = userDetails.getUser();
-        AIAnalysisResponse response = focusAnalysisService.getMonthlyAIAnalysis(user, year, month, languageCode);
-
-        log.info("월간 AI 분석 응답 완료 - userId: {}, year: {}, month: {}, language: {}", 
-                userDetails.getUser().getId(), year, month, languageCode);
-
-        return ResponseEntity.ok(response);
+        // AI 코멘트 생성 동안 요청 스레드를 점유하지 않도록 비동기 응답
+        return focusAnalysisService.getMonthlyAIAnalysisAsync(user, year, month, languageCode)
+                .thenApply(response -> {
+                    log.info("월간 AI 분석 응답 완료 - userId: {}, year: {}, month: {}, language: {}", 
+                            user.getId(), year, month, languageCode);
+                    return ResponseEntity.ok(response);
+                });
     }
 
     /**
@@ -2,6 +2,7 @@ package com.fivlo.fivlo_backend.domain.pomodoro.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
@@ -10,6 +11,7 @@ import java.util.List;
  */
 @Getter
 @Builder
+@Jacksonized
 public class AIAnalysisResponse {
 
     private OptimalStartTimeInfo optimalStartTimeInfo;
@@ -18,8 +20,12 @@ public class AIAnalysisResponse {
     private List<ActivitySuggestion> activitySuggestions;
     private String overallComment; // 전체 월간 분석 종합 코멘트
 
+    @Builder.Default
+    private Boolean partial = false; // AI 종합 분석이 제한 시간 내 도착하지 않아 로컬 분석만 포함된 경우 true
+
     @Getter
     @Builder
+    @Jacksonized
     public static class OptimalStartTimeInfo {
         private String time;                    // 최적 시작 시간 (예: 'AM 09:00')
         private Integer pomodoroSetCount;       // 포모도로 세트 수
@@ -30,6 +36,7 @@ public class AIAnalysisResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class OptimalDayInfo {
         private String day;                     // 요일 (예: '수요일')
         private Double averageSetCount;         // 평균 세트 수
@@ -40,6 +47,7 @@ public class AIAnalysisResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class LowConcentrationTimeInfo {
         private String timeRange;               // 시간대 (예: 'PM 13:00 ~ 14:00')
         private Double interruptionRate;       // 중단율 (%)
@@ -50,6 +58,7 @@ public class AIAnalysisResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class ActivitySuggestion {
         private String activityName;           // 활동명 (예: '국제무역사 공부')
         private String timeRange;              // 권장 시간 (예: 'AM 9시 ~ 11시')
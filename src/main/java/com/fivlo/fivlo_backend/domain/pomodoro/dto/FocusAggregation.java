@@ -0,0 +1,24 @@
+package com.fivlo.fivlo_backend.domain.pomodoro.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 포모도로 세션 집계 프로젝션
+ * PomodoroSessionRepository의 GROUP BY 쿼리 결과를 엔티티 없이 바로 받기 위한 인터페이스 모음
+ * created_at은 Asia/Seoul 로컬 시각으로 저장되므로 날짜/시간 추출도 Asia/Seoul 기준이다.
+ * 시간대/목표별 집계는 focus_daily_rollup(날짜 × 시간대 × 목표)에서 바로 읽고,
+ * 월간 AI 분석의 시간대/요일/활동 통계는 FocusStats가 세션 한 번 순회로 만들므로 여기에는 날짜별 집계만 둔다.
+ */
+public final class FocusAggregation {
+
+    private FocusAggregation() {
+    }
+
+    /** 날짜별 집계 */
+    public interface DailyTotal {
+        LocalDate getFocusDate();
+        Long getTotalSeconds();
+        Long getSessionCount();
+        Long getCompletedCount();
+    }
+}
@@ -2,6 +2,7 @@ package com.fivlo.fivlo_backend.domain.pomodoro.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
@@ -10,6 +11,7 @@ import java.util.List;
  */
 @Getter
 @Builder
+@Jacksonized
 public class MonthlyAnalysisResponse {
 
     private MonthlySummary summary;
@@ -17,6 +19,7 @@ public class MonthlyAnalysisResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class MonthlySummary {
         private Integer totalFocusTime;        // 월간 총 집중 시간 (초)
         private Integer totalRestTime;         // 월간 총 휴식 시간 (초) 
@@ -25,6 +28,7 @@ public class MonthlyAnalysisResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class DailyBreakdown {
         private String date;               // 날짜 (YYYY-MM-DD)
         private Integer durationInSeconds; // 해당 날짜의 총 집중 시간 (초)
@@ -2,6 +2,7 @@ package com.fivlo.fivlo_backend.domain.pomodoro.dto;
 
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.util.List;
 
@@ -10,6 +11,7 @@ import java.util.List;
  */
 @Getter
 @Builder
+@Jacksonized
 public class WeeklyAnalysisResponse {
 
     private WeeklySummary summary;
@@ -17,6 +19,7 @@ public class WeeklyAnalysisResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class WeeklySummary {
         private Integer totalFocusTime;        // 주간 총 집중 시간 (초)
         private Integer totalRestTime;         // 주간 총 휴식 시간 (초)
@@ -26,6 +29,7 @@ public class WeeklyAnalysisResponse {
 
     @Getter
     @Builder
+    @Jacksonized
     public static class DailyBreakdown {
         private String dayOfWeek;          // 요일 (예: 'MON', 'TUE')
         private Integer durationInSeconds; // 해당 요일의 총 집중 시간 (초)
@@ -0,0 +1,54 @@
+package com.fivlo.fivlo_backend.domain.pomodoro.entity;
+
+import com.fivlo.fivlo_backend.domain.user.entity.User;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 집중도 일간 롤업 엔티티
+ * 포모도로 세션을 (사용자, 날짜, 시간대, 목표) 단위로 미리 집계해 두어
+ * 일간/주간/월간 분석이 세션 원본 대신 집계 행만 읽도록 한다.
+ * 갱신은 FocusDailyRollupRepository.accumulate()의 upsert로만 수행한다.
+ */
+@Entity
+@Table(name = "focus_daily_rollup")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class FocusDailyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(name = "rollup_date", nullable = false)
+    private LocalDate rollupDate;
+
+    @Column(name = "hour_bucket", nullable = false)
+    private Short hourBucket;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "pomodoro_goal_id", nullable = false)
+    private PomodoroGoal pomodoroGoal;
+
+    @Column(name = "total_seconds", nullable = false)
+    private Long totalSeconds;
+
+    @Column(name = "session_count", nullable = false)
+    private Integer sessionCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private Integer completedCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,47 @@
+package com.fivlo.fivlo_backend.domain.pomodoro.repository;
+
+import com.fivlo.fivlo_backend.domain.pomodoro.entity.FocusDailyRollup;
+import com.fivlo.fivlo_backend.domain.user.entity.User;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface FocusDailyRollupRepository extends JpaRepository<FocusDailyRollup, Long> {
+
+    /**
+     * 특정 사용자의 기간별 롤업 조회 (포모도로 목표 포함)
+     * 행 수는 세션 수가 아니라 (일 수 × 시간대 × 목표 수)에 비례
+     */
+    @Query("SELECT r FROM FocusDailyRollup r JOIN FETCH r.pomodoroGoal " +
+           "WHERE r.user = :user AND r.rollupDate >= :startDate AND r.rollupDate <= :endDate " +
+           "ORDER BY r.rollupDate, r.hourBucket")
+    List<FocusDailyRollup> findByUserAndDateRangeWithGoal(@Param("user") User user,
+                                                          @Param("startDate") LocalDate startDate,
+                                                          @Param("endDate") LocalDate endDate);
+
+    /**
+     * 롤업 증분 반영 (upsert)
+     * 같은 (사용자, 날짜, 시간대, 목표) 행이 있으면 값을 더하고, 없으면 새로 만든다.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO focus_daily_rollup (user_id, rollup_date, hour_bucket, pomodoro_goal_id, " +
+                   "total_seconds, session_count, completed_count, updated_at) " +
+                   "VALUES (:userId, :rollupDate, :hourBucket, :goalId, :secondsDelta, :sessionDelta, :completedDelta, now()) " +
+                   "ON CONFLICT (user_id, rollup_date, hour_bucket, pomodoro_goal_id) DO UPDATE SET " +
+                   "total_seconds = focus_daily_rollup.total_seconds + EXCLUDED.total_seconds, " +
+                   "session_count = focus_daily_rollup.session_count + EXCLUDED.session_count, " +
+                   "completed_count = focus_daily_rollup.completed_count + EXCLUDED.completed_count, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    void accumulate(@Param("userId") Long userId,
+                    @Param("rollupDate") LocalDate rollupDate,
+                    @Param("hourBucket") int hourBucket,
+                    @Param("goalId") Long goalId,
+                    @Param("secondsDelta") long secondsDelta,
+                    @Param("sessionDelta") int sessionDelta,
+                    @Param("completedDelta") int completedDelta);
+}
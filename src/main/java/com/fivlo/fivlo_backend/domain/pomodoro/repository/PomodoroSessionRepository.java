@@ -1,17 +1,28 @@
 package com.fivlo.fivlo_backend.domain.pomodoro.repository;
 
+import com.fivlo.fivlo_backend.domain.pomodoro.dto.FocusAggregation;
 import com.fivlo.fivlo_backend.domain.pomodoro.entity.PomodoroSession;
 import com.fivlo.fivlo_backend.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface PomodoroSessionRepository extends JpaRepository<PomodoroSession, Long> {
 
+    /**
+     * 세션 종료용 조회 (행 잠금 - 같은 세션 동시 종료 시 롤업 증분이 이전 값 기준으로 두 번 더해지지 않도록)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM PomodoroSession s WHERE s.id = :id")
+    Optional<PomodoroSession> findByIdForUpdate(@Param("id") Long id);
+
     /**
      * 특정 사용자의 일간 포모도로 세션 조회 (포모도로 목표 포함)
      */
@@ -71,4 +82,20 @@ public interface PomodoroSessionRepository extends JpaRepository<PomodoroSession
     List<Object[]> findMonthlyActivityStatsByUser(@Param("user") User user, 
                                                   @Param("startDateTime") LocalDateTime startDateTime, 
                                                   @Param("endDateTime") LocalDateTime endDateTime);
+
+    // ==================== 집계 쿼리 (엔티티 로딩 없이 GROUP BY 결과만 조회) ====================
+
+    /**
+     * 특정 사용자의 기간별 날짜 단위 집계 (집중도 목표 분석의 월간 통계/캘린더)
+     */
+    @Query("SELECT CAST(s.createdAt AS LocalDate) AS focusDate, " +
+           "SUM(s.durationInSeconds) AS totalSeconds, COUNT(s) AS sessionCount, " +
+           "SUM(CASE WHEN s.isCycleCompleted = true THEN 1 ELSE 0 END) AS completedCount " +
+           "FROM PomodoroSession s " +
+           "WHERE s.user = :user AND s.createdAt >= :startDateTime AND s.createdAt < :endDateTime " +
+           "GROUP BY CAST(s.createdAt AS LocalDate) " +
+           "ORDER BY CAST(s.createdAt AS LocalDate)")
+    List<FocusAggregation.DailyTotal> aggregateByDate(@Param("user") User user,
+                                                      @Param("startDateTime") LocalDateTime startDateTime,
+                                                      @Param("endDateTime") LocalDateTime endDateTime);
 }
@@ -0,0 +1,319 @@
+package com.fivlo.fivlo_backend.domain.pomodoro.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 집중도 분석 결과 캐시 (사용자 × 기간 단위)
+ * - L1: Caffeine 로컬 캐시, L2: Redis Hash ("focus:analysis:{userId}:{period}" → 필드별 응답)
+ * - 기간은 월("M2025-03") 또는 주("W2025-03-03", 월요일 시작)
+ * - 이미 끝난 기간은 더 이상 바뀌지 않으므로 긴 TTL, 진행 중인 기간은 짧은 TTL을 적용
+ * - 포모도로 세션이 생성/종료되면 해당 세션이 속한 월/주 캐시를 커밋 이후 통째로 무효화
+ *   (Redis 삭제 후 pub/sub으로 다른 노드의 L1도 즉시 비움 - AiResponseCache와 같은 방식)
+ * - 기간마다 Redis 버전 키("...:version")를 두고 무효화 때 올린다. 계산 시작 전후 버전이 다르면
+ *   (계산 도중 세션이 바뀌었으면) 결과를 저장하지 않아, 무효화 이전 데이터로 만든 결과가 다시 캐시되지 않는다.
+ */
+@Slf4j
+@Component
+public class FocusAnalysisCache implements MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "focus:analysis:invalidate";
+    private static final String REDIS_KEY_PREFIX = "focus:analysis:";
+    private static final String MESSAGE_SEPARATOR = "|";
+    private static final String KEY_SEPARATOR = ",";
+    private static final String VERSION_SUFFIX = ":version";
+    private static final String INITIAL_VERSION = "0";
+
+    public static final String FIELD_MONTHLY = "MONTHLY";
+    public static final String FIELD_WEEKLY = "WEEKLY";
+    public static final String FIELD_AI_PREFIX = "AI:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final Cache<String, Map<String, Object>> localCache;
+    private final Duration closedPeriodTtl;
+    private final Duration openPeriodTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+    private final Counter invalidationCounter;
+    private final Counter invalidationReceivedCounter;
+    private final Counter staleWriteSkippedCounter;
+
+    public FocusAnalysisCache(RedisTemplate<String, Object> redisTemplate,
+                              @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> stringRedisTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${focus.analysis-cache.max-size:5000}") long maxSize,
+                              @Value("${focus.analysis-cache.closed-ttl-days:30}") long closedTtlDays,
+                              @Value("${focus.analysis-cache.open-ttl-minutes:60}") long openTtlMinutes) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.closedPeriodTtl = Duration.ofDays(closedTtlDays);
+        this.openPeriodTtl = Duration.ofMinutes(openTtlMinutes);
+
+        // 로컬 캐시는 진행 중인 기간 TTL을 상한으로 사용 (무효화 메시지를 놓친 경우의 안전망)
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(openPeriodTtl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "focusAnalysisCache");
+
+        this.redisHitCounter = Counter.builder("fivlo.focus.analysis.cache.redis")
+                .tag("result", "hit")
+                .description("집중도 분석 Redis 캐시 적중 수")
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder("fivlo.focus.analysis.cache.redis")
+                .tag("result", "miss")
+                .description("집중도 분석 Redis 캐시 미스 수")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder("fivlo.focus.analysis.cache.invalidations")
+                .description("세션 변경으로 인한 집중도 분석 캐시 무효화 수")
+                .register(meterRegistry);
+        this.invalidationReceivedCounter = Counter.builder("fivlo.focus.analysis.cache.invalidations.received")
+                .description("다른 노드에서 받은 집중도 분석 캐시 무효화 메시지 수")
+                .register(meterRegistry);
+        this.staleWriteSkippedCounter = Counter.builder("fivlo.focus.analysis.cache.stale.skipped")
+                .description("계산 도중 무효화되어 저장하지 않은 집중도 분석 결과 수")
+                .register(meterRegistry);
+    }
+
+    // ==================== 기간 키 ====================
+
+    public static String monthPeriod(int year, int month) {
+        return "M" + YearMonth.of(year, month);
+    }
+
+    public static String weekPeriod(LocalDate weekStart) {
+        return "W" + weekStart;
+    }
+
+    public static boolean isClosedMonth(int year, int month) {
+        return YearMonth.of(year, month).isBefore(YearMonth.now());
+    }
+
+    public static boolean isClosedWeek(LocalDate weekStart) {
+        return weekStart.plusDays(6).isBefore(LocalDate.now());
+    }
+
+    // ==================== 조회 ====================
+
+    public <T> T get(Long userId, String period, String field, boolean closed,
+                     Class<T> type, Supplier<T> loader) {
+        return get(userId, period, field, closed, type, loader, result -> true);
+    }
+
+    /**
+     * 캐시 조회, 없으면 loader로 계산 후 cacheable 조건을 만족할 때만 저장
+     */
+    public <T> T get(Long userId, String period, String field, boolean closed,
+                     Class<T> type, Supplier<T> loader, Predicate<T> cacheable) {
+        String key = REDIS_KEY_PREFIX + userId + ":" + period;
+
+        // 1. L1 (Caffeine)
+        Map<String, Object> fields = localCache.getIfPresent(key);
+        if (fields != null && type.isInstance(fields.get(field))) {
+            return type.cast(fields.get(field));
+        }
+
+        // 2. L2 (Redis) - 조회 전 버전을 읽어 두고, 저장 직전과 비교
+        String version = readVersion(key);
+        T cached = readFromRedis(key, field, type);
+        if (cached != null) {
+            if (isCurrentVersion(key, version)) {
+                putLocal(key, field, cached);
+            }
+            return cached;
+        }
+
+        // 3. 계산 후 저장 (계산 도중 무효화되었으면 저장하지 않음)
+        T result = loader.get();
+        if (result != null && cacheable.test(result)) {
+            if (!isCurrentVersion(key, version)) {
+                staleWriteSkippedCounter.increment();
+                return result;
+            }
+            putLocal(key, field, result);
+            writeToRedis(key, field, result, closed ? closedPeriodTtl : openPeriodTtl);
+            // 버전 확인과 저장 사이에 무효화가 끼어들었으면 방금 쓴 값을 되돌림
+            if (!isCurrentVersion(key, version)) {
+                staleWriteSkippedCounter.increment();
+                removeField(key, field);
+            }
+        }
+        return result;
+    }
+
+    // ==================== 무효화 ====================
+
+    /**
+     * 해당 날짜가 속한 월/주의 분석 캐시 무효화 (트랜잭션 안이면 커밋 이후)
+     */
+    public void evictPeriodsOf(Long userId, LocalDate date) {
+        if (userId == null || date == null) {
+            return;
+        }
+        String monthKey = REDIS_KEY_PREFIX + userId + ":" + monthPeriod(date.getYear(), date.getMonthValue());
+        String weekKey = REDIS_KEY_PREFIX + userId + ":"
+                + weekPeriod(date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY)));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(monthKey, weekKey);
+                }
+            });
+            return;
+        }
+        evictNow(monthKey, weekKey);
+    }
+
+    private void evictNow(String... keys) {
+        // 버전을 먼저 올려 진행 중인 계산이 결과를 저장하지 않도록 한 뒤 삭제
+        bumpVersions(keys);
+        try {
+            redisTemplate.delete(List.of(keys));
+        } catch (Exception e) {
+            log.warn("집중도 분석 Redis 캐시 무효화 실패 - keys: {}, error: {}", List.of(keys), e.getMessage());
+        }
+        for (String key : keys) {
+            localCache.invalidate(key);
+        }
+        publishInvalidation(keys);
+        invalidationCounter.increment();
+    }
+
+    private void publishInvalidation(String... keys) {
+        try {
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    nodeId + MESSAGE_SEPARATOR + String.join(KEY_SEPARATOR, keys));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 노드의 L1은 TTL까지 이전 값을 볼 수 있음
+            log.warn("집중도 분석 캐시 무효화 메시지 발행 실패 - keys: {}, error: {}", List.of(keys), e.getMessage());
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신 ("{nodeId}|{key},{key}")
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+        if (nodeId.equals(body.substring(0, separator))) {
+            return; // 내가 보낸 메시지
+        }
+
+        for (String key : body.substring(separator + 1).split(KEY_SEPARATOR)) {
+            if (!key.isEmpty()) {
+                localCache.invalidate(key);
+            }
+        }
+        invalidationReceivedCounter.increment();
+    }
+
+    // ==================== 내부 ====================
+
+    /**
+     * 기간 버전 조회 (키가 없으면 초기 버전, Redis 오류 시 null - 이 경우 저장하지 않음)
+     */
+    private String readVersion(String key) {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(key + VERSION_SUFFIX);
+            return version != null ? version : INITIAL_VERSION;
+        } catch (Exception e) {
+            log.warn("집중도 분석 캐시 버전 조회 실패 - key: {}, error: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isCurrentVersion(String key, String version) {
+        return version != null && version.equals(readVersion(key));
+    }
+
+    /**
+     * 기간 버전 증가 (버전 키는 지난 기간 TTL만큼 유지 - 캐시 값보다 먼저 사라지지 않도록)
+     */
+    private void bumpVersions(String... keys) {
+        for (String key : keys) {
+            try {
+                stringRedisTemplate.opsForValue().increment(key + VERSION_SUFFIX);
+                stringRedisTemplate.expire(key + VERSION_SUFFIX, closedPeriodTtl);
+            } catch (Exception e) {
+                log.warn("집중도 분석 캐시 버전 갱신 실패 - key: {}, error: {}", key, e.getMessage());
+            }
+        }
+    }
+
+    private void removeField(String key, String field) {
+        Map<String, Object> fields = localCache.getIfPresent(key);
+        if (fields != null) {
+            fields.remove(field);
+        }
+        try {
+            redisTemplate.opsForHash().delete(key, field);
+        } catch (Exception e) {
+            log.warn("집중도 분석 Redis 캐시 필드 삭제 실패 - key: {}, field: {}, error: {}", key, field, e.getMessage());
+        }
+    }
+
+    private void putLocal(String key, String field, Object value) {
+        localCache.asMap()
+                .computeIfAbsent(key, k -> new ConcurrentHashMap<>())
+                .put(field, value);
+    }
+
+    private <T> T readFromRedis(String key, String field, Class<T> type) {
+        try {
+            Object value = redisTemplate.opsForHash().get(key, field);
+            if (type.isInstance(value)) {
+                redisHitCounter.increment();
+                return type.cast(value);
+            }
+        } catch (Exception e) {
+            // Redis 장애/역직렬화 실패 시 재계산
+            log.warn("집중도 분석 Redis 캐시 조회 실패 - key: {}, field: {}, error: {}", key, field, e.getMessage());
+        }
+        redisMissCounter.increment();
+        return null;
+    }
+
+    private void writeToRedis(String key, String field, Object value, Duration ttl) {
+        try {
+            redisTemplate.opsForHash().put(key, field, value);
+            redisTemplate.expire(key, ttl);
+        } catch (Exception e) {
+            log.warn("집중도 분석 Redis 캐시 저장 실패 - key: {}, field: {}, error: {}", key, field, e.getMessage());
+        }
+    }
+}
@@ -1,16 +1,22 @@
 package com.fivlo.fivlo_backend.domain.pomodoro.service;
 
+import com.fivlo.fivlo_backend.common.ai.AiExecutor;
 import com.fivlo.fivlo_backend.common.ai.GeminiService;
 import com.fivlo.fivlo_backend.domain.pomodoro.dto.*;
 import com.fivlo.fivlo_backend.domain.pomodoro.entity.ConcentrationGoal;
+import com.fivlo.fivlo_backend.domain.pomodoro.entity.FocusDailyRollup;
 import com.fivlo.fivlo_backend.domain.pomodoro.entity.PomodoroSession;
 import com.fivlo.fivlo_backend.domain.pomodoro.repository.ConcentrationGoalRepository;
+import com.fivlo.fivlo_backend.domain.pomodoro.repository.FocusDailyRollupRepository;
 import com.fivlo.fivlo_backend.domain.pomodoro.repository.PomodoroSessionRepository;
 import com.fivlo.fivlo_backend.domain.user.entity.User;
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.DayOfWeek;
@@ -19,6 +25,9 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -33,10 +42,18 @@ public class FocusAnalysisService {
 
     private final PomodoroSessionRepository pomodoroSessionRepository;
     private final ConcentrationGoalRepository concentrationGoalRepository;
+    private final FocusDailyRollupRepository focusDailyRollupRepository;
     private final GeminiService geminiService;
+    private final AiExecutor aiExecutor;
+    private final FocusAnalysisCache focusAnalysisCache;
+
+    @Value("${ai.monthly-analysis.timeout-ms:8000}")
+    private long monthlyAnalysisTimeoutMs;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
     private static final int MAX_CHART_MINUTES = 240; // 차트 최대값 (4시간)
+    private static final ObjectMapper AI_RESPONSE_MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
 
     /**
      * API 30: 일간 집중도 분석 조회
@@ -45,23 +62,19 @@ public class FocusAnalysisService {
     public DailyAnalysisResponse getDailyAnalysis(User user, LocalDate date) {
         log.info("일간 집중도 분석 조회 시작 - userId: {}, date: {}", user.getId(), date);
 
-        // 날짜 범위를 LocalDateTime으로 변환
-        LocalDateTime startOfDay = date.atStartOfDay();
-        LocalDateTime nextDay = date.plusDays(1).atStartOfDay();
-
-        // 해당 날짜의 포모도로 세션 조회
-        List<PomodoroSession> sessions = pomodoroSessionRepository.findByUserAndDateWithGoal(user, startOfDay, nextDay);
+        // 해당 날짜의 시간대/목표별 롤업 조회
+        List<FocusDailyRollup> rollups = focusDailyRollupRepository.findByUserAndDateRangeWithGoal(user, date, date);
 
-        if (sessions.isEmpty()) {
+        if (rollups.isEmpty()) {
             log.info("일간 집중도 분석 - 데이터 없음 - userId: {}, date: {}", user.getId(), date);
             return DailyAnalysisResponse.empty();
         }
 
         // 시간대별 집중 기록 생성
-        List<DailyAnalysisResponse.HourlyBreakdown> hourlyBreakdown = createHourlyBreakdown(sessions);
+        List<DailyAnalysisResponse.HourlyBreakdown> hourlyBreakdown = createHourlyBreakdown(rollups);
 
         // 일간 요약 통계 생성
-        DailyAnalysisResponse.DailySummary summary = createDailySummary(sessions);
+        DailyAnalysisResponse.DailySummary summary = createDailySummary(rollups);
 
         log.info("일간 집중도 분석 조회 완료 - userId: {}, date: {}, 총 집중시간: {}초", 
                 user.getId(), date, summary.getTotalFocusTime());
@@ -81,24 +94,31 @@ public class FocusAnalysisService {
 
         // 주간 범위 계산 (월요일 시작)
         LocalDate weekStart = startDate.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        return focusAnalysisCache.get(user.getId(),
+                FocusAnalysisCache.weekPeriod(weekStart),
+                FocusAnalysisCache.FIELD_WEEKLY,
+                FocusAnalysisCache.isClosedWeek(weekStart),
+                WeeklyAnalysisResponse.class,
+                () -> computeWeeklyAnalysis(user, weekStart));
+    }
+
+    private WeeklyAnalysisResponse computeWeeklyAnalysis(User user, LocalDate weekStart) {
         LocalDate weekEnd = weekStart.plusDays(6);
-        
-        LocalDateTime startDateTime = weekStart.atStartOfDay();
-        LocalDateTime endDateTime = weekEnd.plusDays(1).atStartOfDay();
 
-        // 주간 포모도로 세션 조회
-        List<PomodoroSession> sessions = pomodoroSessionRepository.findByUserAndWeekWithGoal(user, startDateTime, endDateTime);
+        // 주간 롤업 조회
+        List<FocusDailyRollup> rollups = focusDailyRollupRepository.findByUserAndDateRangeWithGoal(user, weekStart, weekEnd);
 
-        if (sessions.isEmpty()) {
+        if (rollups.isEmpty()) {
             log.info("주간 집중도 분석 - 데이터 없음 - userId: {}, weekStart: {}", user.getId(), weekStart);
             return WeeklyAnalysisResponse.empty();
         }
 
         // 요일별 집중 기록 생성
-        List<WeeklyAnalysisResponse.DailyBreakdown> dailyBreakdown = createWeeklyDailyBreakdown(sessions, weekStart);
+        List<WeeklyAnalysisResponse.DailyBreakdown> dailyBreakdown = createWeeklyDailyBreakdown(rollups, weekStart);
 
         // 주간 요약 통계 생성
-        WeeklyAnalysisResponse.WeeklySummary summary = createWeeklySummary(sessions, dailyBreakdown);
+        WeeklyAnalysisResponse.WeeklySummary summary = createWeeklySummary(rollups, dailyBreakdown);
 
         log.info("주간 집중도 분석 조회 완료 - userId: {}, weekStart: {}, 총 집중시간: {}초", 
                 user.getId(), weekStart, summary.getTotalFocusTime());
@@ -116,26 +136,32 @@ public class FocusAnalysisService {
     public MonthlyAnalysisResponse getMonthlyAnalysis(User user, int year, int month) {
         log.info("월간 집중도 분석 조회 시작 - userId: {}, year: {}, month: {}", user.getId(), year, month);
 
+        return focusAnalysisCache.get(user.getId(),
+                FocusAnalysisCache.monthPeriod(year, month),
+                FocusAnalysisCache.FIELD_MONTHLY,
+                FocusAnalysisCache.isClosedMonth(year, month),
+                MonthlyAnalysisResponse.class,
+                () -> computeMonthlyAnalysis(user, year, month));
+    }
+
+    private MonthlyAnalysisResponse computeMonthlyAnalysis(User user, int year, int month) {
         // 월간 범위 계산
         LocalDate monthStart = LocalDate.of(year, month, 1);
         LocalDate monthEnd = monthStart.with(TemporalAdjusters.lastDayOfMonth());
-        
-        LocalDateTime startDateTime = monthStart.atStartOfDay();
-        LocalDateTime endDateTime = monthEnd.plusDays(1).atStartOfDay();
 
-        // 월간 포모도로 세션 조회
-        List<PomodoroSession> sessions = pomodoroSessionRepository.findByUserAndMonthWithGoal(user, startDateTime, endDateTime);
+        // 월간 롤업 조회
+        List<FocusDailyRollup> rollups = focusDailyRollupRepository.findByUserAndDateRangeWithGoal(user, monthStart, monthEnd);
 
-        if (sessions.isEmpty()) {
+        if (rollups.isEmpty()) {
             log.info("월간 집중도 분석 - 데이터 없음 - userId: {}, year: {}, month: {}", user.getId(), year, month);
             return MonthlyAnalysisResponse.empty();
         }
 
         // 일별 집중 기록 생성
-        List<MonthlyAnalysisResponse.DailyBreakdown> dailyBreakdown = createMonthlyDailyBreakdown(sessions, monthStart, monthEnd);
+        List<MonthlyAnalysisResponse.DailyBreakdown> dailyBreakdown = createMonthlyDailyBreakdown(rollups, monthStart, monthEnd);
 
         // 월간 요약 통계 생성
-        MonthlyAnalysisResponse.MonthlySummary summary = createMonthlySummary(sessions);
+        MonthlyAnalysisResponse.MonthlySummary summary = createMonthlySummary(rollups);
 
         log.info("월간 집중도 분석 조회 완료 - userId: {}, year: {}, month: {}, 총 집중시간: {}초", 
                 user.getId(), year, month, summary.getTotalFocusTime());
@@ -150,51 +176,57 @@ public class FocusAnalysisService {
 
     /**
      * 시간대별 집중 기록 생성 (일간 분석용)
+     * 롤업이 (시간대, 목표) 단위이므로 같은 시간대의 같은 목표 세션은 하나로 합산된다.
      */
-    private List<DailyAnalysisResponse.HourlyBreakdown> createHourlyBreakdown(List<PomodoroSession> sessions) {
-        // 시간대별로 그룹핑
-        Map<Integer, List<PomodoroSession>> sessionsByHour = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getCreatedAt() != null)
-                .collect(Collectors.groupingBy(session -> session.getCreatedAt().getHour()));
-
+    private List<DailyAnalysisResponse.HourlyBreakdown> createHourlyBreakdown(List<FocusDailyRollup> rollups) {
+        // 롤업은 시간대 순으로 정렬되어 조회됨
         List<DailyAnalysisResponse.HourlyBreakdown> hourlyBreakdown = new ArrayList<>();
 
-        // 0시부터 23시까지 처리
-        for (int hour = 0; hour < 24; hour++) {
-            List<PomodoroSession> hourSessions = sessionsByHour.getOrDefault(hour, List.of());
-            
-            if (!hourSessions.isEmpty()) {
-                // 해당 시간대에 세션이 있는 경우
-                for (PomodoroSession session : hourSessions) {
-                    if (session != null && session.getPomodoroGoal() != null 
-                        && session.getDurationInSeconds() != null) {
-                        hourlyBreakdown.add(DailyAnalysisResponse.HourlyBreakdown.builder()
-                                .hour(hour)
-                                .durationInSeconds(session.getDurationInSeconds())
-                                .pomodoroGoalId(session.getPomodoroGoal().getId())
-                                .goalName(session.getPomodoroGoal().getName() != null ? 
-                                         session.getPomodoroGoal().getName() : "")
-                                .goalColor(session.getPomodoroGoal().getColor() != null ? 
-                                          session.getPomodoroGoal().getColor() : "#000000")
-                                .build());
-                    }
-                }
+        for (FocusDailyRollup rollup : rollups) {
+            if (rollup.getPomodoroGoal() == null) {
+                continue;
             }
+            hourlyBreakdown.add(DailyAnalysisResponse.HourlyBreakdown.builder()
+                    .hour((int) rollup.getHourBucket())
+                    .durationInSeconds(rollup.getTotalSeconds().intValue())
+                    .pomodoroGoalId(rollup.getPomodoroGoal().getId())
+                    .goalName(rollup.getPomodoroGoal().getName() != null ? 
+                             rollup.getPomodoroGoal().getName() : "")
+                    .goalColor(rollup.getPomodoroGoal().getColor() != null ? 
+                              rollup.getPomodoroGoal().getColor() : "#000000")
+                    .build());
         }
 
         return hourlyBreakdown;
     }
 
+    /**
+     * 롤업 목록의 총 집중 시간 (초)
+     */
+    private int sumFocusSeconds(List<FocusDailyRollup> rollups) {
+        long total = 0;
+        for (FocusDailyRollup rollup : rollups) {
+            total += rollup.getTotalSeconds();
+        }
+        return (int) total;
+    }
+
+    /**
+     * 날짜별 총 집중 시간 (초)
+     */
+    private Map<LocalDate, Integer> sumFocusSecondsByDate(List<FocusDailyRollup> rollups) {
+        Map<LocalDate, Integer> secondsByDate = new HashMap<>();
+        for (FocusDailyRollup rollup : rollups) {
+            secondsByDate.merge(rollup.getRollupDate(), rollup.getTotalSeconds().intValue(), Integer::sum);
+        }
+        return secondsByDate;
+    }
+
     /**
      * 일간 요약 통계 생성
      */
-    private DailyAnalysisResponse.DailySummary createDailySummary(List<PomodoroSession> sessions) {
-        int totalFocusTime = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getDurationInSeconds() != null)
-                .mapToInt(PomodoroSession::getDurationInSeconds)
-                .sum();
+    private DailyAnalysisResponse.DailySummary createDailySummary(List<FocusDailyRollup> rollups) {
+        int totalFocusTime = sumFocusSeconds(rollups);
 
         // 집중 비율 계산 (임시로 집중시간 / (집중시간 + 휴식시간 추정치))
         // 휴식시간은 포모도로 원칙에 따라 집중시간의 20% 정도로 추정
@@ -211,24 +243,16 @@ public class FocusAnalysisService {
     /**
      * 주간 요일별 집중 기록 생성
      */
-    private List<WeeklyAnalysisResponse.DailyBreakdown> createWeeklyDailyBreakdown(List<PomodoroSession> sessions, LocalDate weekStart) {
-        // 날짜별로 그룹핑
-        Map<LocalDate, List<PomodoroSession>> sessionsByDate = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getCreatedAt() != null)
-                .collect(Collectors.groupingBy(session -> session.getCreatedAt().toLocalDate()));
+    private List<WeeklyAnalysisResponse.DailyBreakdown> createWeeklyDailyBreakdown(List<FocusDailyRollup> rollups, LocalDate weekStart) {
+        // 날짜별 합계
+        Map<LocalDate, Integer> secondsByDate = sumFocusSecondsByDate(rollups);
 
         List<WeeklyAnalysisResponse.DailyBreakdown> dailyBreakdown = new ArrayList<>();
 
         // 월요일부터 일요일까지 처리
         for (int i = 0; i < 7; i++) {
             LocalDate currentDate = weekStart.plusDays(i);
-            List<PomodoroSession> daySessions = sessionsByDate.getOrDefault(currentDate, List.of());
-            
-            int totalDuration = daySessions.stream()
-                    .filter(s -> s.getDurationInSeconds() != null)
-                    .mapToInt(PomodoroSession::getDurationInSeconds)
-                    .sum();
+            int totalDuration = secondsByDate.getOrDefault(currentDate, 0);
 
             // 요일 이름 생성 (예: MON, TUE)
             String dayOfWeek = currentDate.getDayOfWeek().name().substring(0, 3);
@@ -246,13 +270,9 @@ public class FocusAnalysisService {
     /**
      * 주간 요약 통계 생성
      */
-    private WeeklyAnalysisResponse.WeeklySummary createWeeklySummary(List<PomodoroSession> sessions, 
+    private WeeklyAnalysisResponse.WeeklySummary createWeeklySummary(List<FocusDailyRollup> rollups, 
                                                                    List<WeeklyAnalysisResponse.DailyBreakdown> dailyBreakdown) {
-        int totalFocusTime = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getDurationInSeconds() != null)
-                .mapToInt(PomodoroSession::getDurationInSeconds)
-                .sum();
+        int totalFocusTime = sumFocusSeconds(rollups);
 
         int estimatedRestTime = (int) (totalFocusTime * 0.2);
         int averageDailyFocusTime = totalFocusTime / 7; // 7일로 나누기
@@ -274,29 +294,19 @@ public class FocusAnalysisService {
     /**
      * 월간 일별 집중 기록 생성
      */
-    private List<MonthlyAnalysisResponse.DailyBreakdown> createMonthlyDailyBreakdown(List<PomodoroSession> sessions, 
+    private List<MonthlyAnalysisResponse.DailyBreakdown> createMonthlyDailyBreakdown(List<FocusDailyRollup> rollups, 
                                                                                    LocalDate monthStart, LocalDate monthEnd) {
-        // 날짜별로 그룹핑
-        Map<LocalDate, List<PomodoroSession>> sessionsByDate = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getCreatedAt() != null)
-                .collect(Collectors.groupingBy(session -> session.getCreatedAt().toLocalDate()));
+        // 날짜별 합계
+        Map<LocalDate, Integer> secondsByDate = sumFocusSecondsByDate(rollups);
 
         List<MonthlyAnalysisResponse.DailyBreakdown> dailyBreakdown = new ArrayList<>();
 
         // 월의 모든 날짜 처리
         LocalDate currentDate = monthStart;
         while (!currentDate.isAfter(monthEnd)) {
-            List<PomodoroSession> daySessions = sessionsByDate.getOrDefault(currentDate, List.of());
-            
-            int totalDuration = daySessions.stream()
-                    .filter(s -> s.getDurationInSeconds() != null)
-                    .mapToInt(PomodoroSession::getDurationInSeconds)
-                    .sum();
-
             dailyBreakdown.add(MonthlyAnalysisResponse.DailyBreakdown.builder()
                     .date(currentDate.format(DATE_FORMATTER))
-                    .durationInSeconds(totalDuration)
+                    .durationInSeconds(secondsByDate.getOrDefault(currentDate, 0))
                     .build());
 
             currentDate = currentDate.plusDays(1);
@@ -308,21 +318,16 @@ public class FocusAnalysisService {
     /**
      * 월간 요약 통계 생성
      */
-    private MonthlyAnalysisResponse.MonthlySummary createMonthlySummary(List<PomodoroSession> sessions) {
-        int totalFocusTime = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getDurationInSeconds() != null)
-                .mapToInt(PomodoroSession::getDurationInSeconds)
-                .sum();
+    private MonthlyAnalysisResponse.MonthlySummary createMonthlySummary(List<FocusDailyRollup> rollups) {
+        int totalFocusTime = sumFocusSeconds(rollups);
 
         int estimatedRestTime = (int) (totalFocusTime * 0.2);
         
         // 집중한 날의 수 계산
-        long focusedDays = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getCreatedAt() != null)
-                .collect(Collectors.groupingBy(session -> session.getCreatedAt().toLocalDate()))
-                .size();
+        long focusedDays = rollups.stream()
+                .map(FocusDailyRollup::getRollupDate)
+                .distinct()
+                .count();
 
         int averageDailyFocusTime = focusedDays > 0 ? (int) (totalFocusTime / focusedDays) : 0;
 
@@ -336,19 +341,35 @@ public class FocusAnalysisService {
     /**
      * API 33: 월간 AI 분석 제안서 조회
      * 월간 집중 기록을 바탕으로 AI가 분석한 맞춤형 제안을 조회합니다.
+     * AI 응답을 최대 제한 시간까지 기다리므로 서비스 트랜잭션 밖에서 실행하고,
+     * 세션 조회만 짧은 읽기 전용 트랜잭션으로 수행한다 (대기 중 DB 커넥션 점유 방지).
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AIAnalysisResponse getMonthlyAIAnalysis(User user, int year, int month, String languageCode) {
         log.info("월간 AI 분석 조회 시작 - userId: {}, year: {}, month: {}, language: {}", user.getId(), year, month, languageCode);
 
-        // 월간 범위 계산
-        LocalDate monthStart = LocalDate.of(year, month, 1);
-        LocalDate monthEnd = monthStart.with(TemporalAdjusters.lastDayOfMonth());
-        
-        LocalDateTime startDateTime = monthStart.atStartOfDay();
-        LocalDateTime endDateTime = monthEnd.plusDays(1).atStartOfDay();
+        // 제한 시간 초과/실패로 로컬 분석만 담긴 partial 응답은 캐시하지 않음 (다음 요청에서 다시 시도)
+        return focusAnalysisCache.get(user.getId(),
+                FocusAnalysisCache.monthPeriod(year, month),
+                FocusAnalysisCache.FIELD_AI_PREFIX + languageCode,
+                FocusAnalysisCache.isClosedMonth(year, month),
+                AIAnalysisResponse.class,
+                () -> computeMonthlyAIAnalysis(user, year, month, languageCode),
+                response -> !Boolean.TRUE.equals(response.getPartial()));
+    }
 
-        // 월간 포모도로 세션 조회
-        List<PomodoroSession> sessions = pomodoroSessionRepository.findByUserAndMonthWithGoal(user, startDateTime, endDateTime);
+    /**
+     * API 33 비동기 버전
+     * 로컬 분석 + AI 코멘트 호출을 요청 전용 AI 실행기에서 수행해 요청 스레드를 점유하지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public CompletableFuture<AIAnalysisResponse> getMonthlyAIAnalysisAsync(User user, int year, int month, String languageCode) {
+        return aiExecutor.submitRequest(() -> getMonthlyAIAnalysis(user, year, month, languageCode));
+    }
+
+    private AIAnalysisResponse computeMonthlyAIAnalysis(User user, int year, int month, String languageCode) {
+        // 월간 포모도로 세션 조회 (이후 AI 대기 동안에는 트랜잭션/커넥션 없음)
+        List<PomodoroSession> sessions = loadMonthlySessions(user, year, month);
 
         if (sessions.isEmpty() || sessions.size() < 10) {
             log.info("월간 AI 분석 - 데이터 부족 - userId: {}, sessionCount: {}", user.getId(), sessions.size());
@@ -360,39 +381,173 @@ public class FocusAnalysisService {
             String analysisData = buildAnalysisDataJson(sessions);
             log.info("월간 AI 분석 데이터 준비 완료 - userId: {}, sessionCount: {}", user.getId(), sessions.size());
 
-            // 1. GeminiService를 통한 종합 AI 분석 수행
-            String aiResponse = geminiService.generateMonthlyAnalysisSuggestions(analysisData, languageCode);
-            
-            // 2. 개별 AI 헬퍼 메서드들을 통한 상세 분석 수행
-            AIAnalysisResponse.OptimalStartTimeInfo optimalStartTime = analyzeOptimalStartTime(sessions, languageCode);
-            List<AIAnalysisResponse.OptimalDayInfo> optimalDays = analyzeOptimalDays(sessions, languageCode);
-            AIAnalysisResponse.LowConcentrationTimeInfo lowConcentrationTime = analyzeLowConcentrationTime(sessions, languageCode);
-            List<AIAnalysisResponse.ActivitySuggestion> activitySuggestions = analyzeActivitySuggestions(sessions);
+            // 1. GeminiService 종합 AI 분석은 AI 전용 실행기에서 비동기로 시작 (로컬 분석과 병렬 수행)
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(monthlyAnalysisTimeoutMs);
+            CompletableFuture<String> aiFuture = submitMonthlyAnalysis(analysisData, languageCode);
+
+            // 2. 세션을 한 번만 순회하여 시간대/요일/활동별 통계 누적
+            FocusStats stats = FocusStats.of(sessions);
+
+            // 3. 로컬 통계 분석 (Gemini 호출 없이 템플릿 코멘트 - 제한 시간과 무관하게 바로 끝남)
+            AIAnalysisResponse.OptimalStartTimeInfo optimalStartTime = analyzeOptimalStartTime(stats, languageCode);
+            List<AIAnalysisResponse.OptimalDayInfo> optimalDays = analyzeOptimalDays(stats, languageCode);
+            AIAnalysisResponse.LowConcentrationTimeInfo lowConcentrationTime = analyzeLowConcentrationTime(stats, languageCode);
+            List<AIAnalysisResponse.ActivitySuggestion> activitySuggestions = analyzeActivitySuggestions(stats);
             
-            // 3. 종합 코멘트 생성
-            String overallComment = generateOverallAnalysisComment(sessions, optimalStartTime, optimalDays, lowConcentrationTime, languageCode);
+            // 4. 종합 코멘트 (템플릿)
+            String overallComment = generateOverallAnalysisComment(stats, optimalStartTime, optimalDays, languageCode);
             
-            // 4. 결과 통합
-            AIAnalysisResponse result = AIAnalysisResponse.builder()
+            // 5. 로컬 분석 결과
+            AIAnalysisResponse localResult = AIAnalysisResponse.builder()
                     .optimalStartTimeInfo(optimalStartTime)
                     .optimalDayInfo(optimalDays)
                     .lowConcentrationTimeInfo(lowConcentrationTime)
                     .activitySuggestions(activitySuggestions)
                     .overallComment(overallComment)
                     .build();
-            
+
+            // 6. 남은 제한 시간 동안 종합 AI 분석을 기다린 뒤 병합 (시간 초과 시 로컬 분석만 partial로 반환)
+            AIResponseDto aiResponse = awaitMonthlyAnalysis(aiFuture, deadline, user.getId());
+            if (aiResponse == null) {
+                log.info("월간 AI 분석 조회 완료(partial) - userId: {}, year: {}, month: {}", user.getId(), year, month);
+                return mergeAIResponse(localResult, null, true);
+            }
+
             log.info("월간 AI 분석 조회 완료 - userId: {}, year: {}, month: {}", user.getId(), year, month);
-            return result;
+            return mergeAIResponse(localResult, aiResponse, false);
             
         } catch (Exception e) {
             log.error("월간 AI 분석 실패 - userId: {}, year: {}, month: {}, error: {}", 
                      user.getId(), year, month, e.getMessage());
             
-            // AI 분석 실패 시 안전한 fallback 응답 반환
-            return AIAnalysisResponse.empty();
+            // AI 분석 실패 시 안전한 fallback 응답 반환 (캐시되지 않도록 partial 표시)
+            return mergeAIResponse(AIAnalysisResponse.empty(), null, true);
         }
     }
 
+    /**
+     * 월간 세션 조회 - 리포지토리 쿼리 메서드 자체의 읽기 전용 트랜잭션으로 실행되어 쿼리 동안만 커넥션을 쓴다.
+     * 목표는 JOIN FETCH로 함께 읽으므로 트랜잭션이 끝난 뒤(detached)에도 통계/프롬프트 생성에 그대로 사용 가능
+     */
+    private List<PomodoroSession> loadMonthlySessions(User user, int year, int month) {
+        LocalDate monthStart = LocalDate.of(year, month, 1);
+        LocalDate monthEnd = monthStart.with(TemporalAdjusters.lastDayOfMonth());
+        return pomodoroSessionRepository.findByUserAndMonthWithGoal(
+                user, monthStart.atStartOfDay(), monthEnd.plusDays(1).atStartOfDay());
+    }
+
+    /**
+     * 월간 종합 AI 분석 요청을 AI 전용 실행기에 제출
+     * 실행기가 포화 상태면 즉시 실패한 future를 반환한다.
+     */
+    private CompletableFuture<String> submitMonthlyAnalysis(String analysisData, String languageCode) {
+        return geminiService.generateMonthlyAnalysisSuggestionsAsync(analysisData, languageCode);
+    }
+
+    /**
+     * 남은 제한 시간 동안 종합 AI 분석 결과 대기 후 DTO로 파싱
+     * 시간 초과, 호출 실패, 파싱 실패 시 null
+     */
+    private AIResponseDto awaitMonthlyAnalysis(CompletableFuture<String> aiFuture, long deadline, Long userId) {
+        long remainingNanos = Math.max(0, deadline - System.nanoTime());
+        try {
+            String raw = aiFuture.get(remainingNanos, TimeUnit.NANOSECONDS);
+            return parseAIResponseDto(raw);
+        } catch (TimeoutException e) {
+            aiFuture.cancel(true);
+            log.warn("월간 종합 AI 분석 제한 시간 초과 - userId: {}, timeoutMs: {}", userId, monthlyAnalysisTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("월간 종합 AI 분석 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * 로컬 통계 분석 결과와 종합 AI 분석 결과 병합
+     * 수치(시간대, 성공률, 집중시간 등)는 실제 기록 기반인 로컬 분석을 유지하고,
+     * 코멘트는 종합 AI 분석 결과가 있으면 우선 사용한다.
+     */
+    private AIAnalysisResponse mergeAIResponse(AIAnalysisResponse local, AIResponseDto ai, boolean partial) {
+        if (ai == null) {
+            return AIAnalysisResponse.builder()
+                    .optimalStartTimeInfo(local.getOptimalStartTimeInfo())
+                    .optimalDayInfo(local.getOptimalDayInfo())
+                    .lowConcentrationTimeInfo(local.getLowConcentrationTimeInfo())
+                    .activitySuggestions(local.getActivitySuggestions())
+                    .overallComment(local.getOverallComment())
+                    .partial(partial)
+                    .build();
+        }
+
+        AIAnalysisResponse.OptimalStartTimeInfo localStart = local.getOptimalStartTimeInfo();
+        AIAnalysisResponse.OptimalStartTimeInfo optimalStartTime = AIAnalysisResponse.OptimalStartTimeInfo.builder()
+                .time(localStart.getTime())
+                .pomodoroSetCount(localStart.getPomodoroSetCount())
+                .interruptionRate(localStart.getInterruptionRate())
+                .averageFocusTimeInMinutes(localStart.getAverageFocusTimeInMinutes())
+                .aiComment(ai.getOptimalStartTimeInfo() != null
+                        ? firstNonBlank(ai.getOptimalStartTimeInfo().getAiComment(), localStart.getAiComment())
+                        : localStart.getAiComment())
+                .build();
+
+        AIAnalysisResponse.LowConcentrationTimeInfo localLow = local.getLowConcentrationTimeInfo();
+        AIAnalysisResponse.LowConcentrationTimeInfo lowConcentrationTime = AIAnalysisResponse.LowConcentrationTimeInfo.builder()
+                .timeRange(localLow.getTimeRange())
+                .interruptionRate(localLow.getInterruptionRate())
+                .averageFocusTimeInMinutes(localLow.getAverageFocusTimeInMinutes())
+                .setSuccessRate(localLow.getSetSuccessRate())
+                .aiComment(ai.getLowConcentrationTimeInfo() != null
+                        ? firstNonBlank(ai.getLowConcentrationTimeInfo().getAiComment(), localLow.getAiComment())
+                        : localLow.getAiComment())
+                .build();
+
+        // 로컬 분석에서 활동 제안이 나오지 않은 경우(활동별 세션 부족)에만 AI 제안 사용
+        List<AIAnalysisResponse.ActivitySuggestion> activitySuggestions = local.getActivitySuggestions();
+        if (activitySuggestions.isEmpty() && ai.getActivitySuggestions() != null
+                && ai.getActivitySuggestions().getSuggestions() != null) {
+            activitySuggestions = ai.getActivitySuggestions().getSuggestions().stream()
+                    .filter(s -> s.getActivityName() != null && s.getTimeRange() != null)
+                    .map(s -> AIAnalysisResponse.ActivitySuggestion.builder()
+                            .activityName(s.getActivityName())
+                            .timeRange(s.getTimeRange())
+                            .build())
+                    .limit(3)
+                    .collect(Collectors.toList());
+        }
+
+        // 요일 수치는 로컬 유지, 코멘트는 AI 결과에 같은 요일이 있으면 사용
+        Map<String, String> aiDayComments = new HashMap<>();
+        if (ai.getOptimalDayInfo() != null) {
+            ai.getOptimalDayInfo().stream()
+                    .filter(d -> d.getDay() != null && d.getAiComment() != null && !d.getAiComment().isBlank())
+                    .forEach(d -> aiDayComments.putIfAbsent(d.getDay().trim(), d.getAiComment()));
+        }
+        List<AIAnalysisResponse.OptimalDayInfo> optimalDays = local.getOptimalDayInfo().stream()
+                .map(day -> AIAnalysisResponse.OptimalDayInfo.builder()
+                        .day(day.getDay())
+                        .averageSetCount(day.getAverageSetCount())
+                        .successRate(day.getSuccessRate())
+                        .averageFocusTimeInMinutes(day.getAverageFocusTimeInMinutes())
+                        .aiComment(aiDayComments.getOrDefault(day.getDay(), day.getAiComment()))
+                        .build())
+                .collect(Collectors.toList());
+
+        return AIAnalysisResponse.builder()
+                .optimalStartTimeInfo(optimalStartTime)
+                .optimalDayInfo(optimalDays)
+                .lowConcentrationTimeInfo(lowConcentrationTime)
+                .activitySuggestions(activitySuggestions)
+                .overallComment(firstNonBlank(ai.getOverallComment(), local.getOverallComment()))
+                .partial(partial)
+                .build();
+    }
+
+    private String firstNonBlank(String preferred, String fallback) {
+        return preferred != null && !preferred.isBlank() ? preferred : fallback;
+    }
+
     /**
      * 포모도로 세션 데이터를 AI 분석용 JSON 문자열로 변환
      */
@@ -420,176 +575,36 @@ public class FocusAnalysisService {
     }
 
     /**
-     * GeminiService AI 응답을 AIAnalysisResponse로 파싱 (DTO 기반 안전한 파싱)
+     * AI 응답 문자열을 AIResponseDto로 파싱 (실패 시 null)
      */
-    private AIAnalysisResponse parseAIResponse(String aiResponse, String languageCode) {
+    private AIResponseDto parseAIResponseDto(String aiResponse) {
         try {
-            log.info("AI 응답 파싱 시작 - responseLength: {}, language: {}", aiResponse.length(), languageCode);
-            
             if (aiResponse == null || aiResponse.trim().isEmpty()) {
-                log.warn("AI 응답이 비어있음, 기본 응답 반환");
-                return createFallbackResponse(languageCode);
+                log.warn("AI 응답이 비어있음");
+                return null;
             }
-            
-            // ObjectMapper를 사용한 안전한 DTO 기반 파싱
-            ObjectMapper objectMapper = new ObjectMapper();
-            
-            try {
-                // AI 응답에서 JSON 추출
-                String cleanJson = extractFirstJsonFromResponse(aiResponse);
-                
-                if (cleanJson == null || cleanJson.trim().isEmpty()) {
-                    log.warn("AI 응답에서 유효한 JSON을 찾을 수 없음");
-                    return createFallbackResponse(languageCode);
-                }
-                
-                // JSON을 DTO로 직접 파싱 (타입 안전)
-                AIResponseDto aiResponseDto = objectMapper.readValue(cleanJson, AIResponseDto.class);
-                
-                // DTO를 도메인 객체로 변환
-                return convertDtoToResponse(aiResponseDto, languageCode);
-                
-            } catch (Exception jsonException) {
-                log.error("JSON 파싱 실패: {}, AI 응답 일부: {}", 
-                         jsonException.getMessage(), 
-                         aiResponse.substring(0, Math.min(200, aiResponse.length())));
-                
-                // JSON 파싱 실패 시 언어별 기본 응답 반환
-                return createFallbackResponse(languageCode);
+
+            log.info("AI 응답 파싱 시작 - responseLength: {}", aiResponse.length());
+
+            // AI 응답에서 JSON 추출
+            String cleanJson = extractFirstJsonFromResponse(aiResponse);
+
+            if (cleanJson == null || cleanJson.trim().isEmpty()) {
+                log.warn("AI 응답에서 유효한 JSON을 찾을 수 없음");
+                return null;
             }
-            
-        } catch (Exception e) {
-            log.error("AI 응답 파싱 중 예외 발생: {}", e.getMessage());
-            return createFallbackResponse(languageCode);
-        }
-    }
 
-    /**
-     * AIResponseDto를 AIAnalysisResponse로 변환 (타입 안전한 변환)
-     */
-    private AIAnalysisResponse convertDtoToResponse(AIResponseDto dto, String languageCode) {
-        boolean isEnglish = "en".equalsIgnoreCase(languageCode);
-        
-        // OptimalStartTimeInfo 변환
-        AIAnalysisResponse.OptimalStartTimeInfo optimalStartTime = convertOptimalStartTime(dto.getOptimalStartTimeInfo(), isEnglish);
-        
-        // OptimalDayInfo 변환
-        List<AIAnalysisResponse.OptimalDayInfo> optimalDays = convertOptimalDays(dto.getOptimalDayInfo(), isEnglish);
-        
-        // LowConcentrationTimeInfo 변환
-        AIAnalysisResponse.LowConcentrationTimeInfo lowConcentrationTime = convertLowConcentrationTime(dto.getLowConcentrationTimeInfo(), isEnglish);
-        
-        // ActivitySuggestions 변환
-        List<AIAnalysisResponse.ActivitySuggestion> activitySuggestions = convertActivitySuggestions(dto.getActivitySuggestions(), isEnglish);
-        
-        // OverallComment 처리
-        String overallComment = dto.getOverallComment() != null ? dto.getOverallComment() : 
-                (isEnglish ? "AI-analyzed monthly concentration comprehensive results." : 
-                           "AI가 분석한 월간 집중도 종합 결과입니다.");
-        
-        return AIAnalysisResponse.builder()
-                .optimalStartTimeInfo(optimalStartTime)
-                .optimalDayInfo(optimalDays)
-                .lowConcentrationTimeInfo(lowConcentrationTime)
-                .activitySuggestions(activitySuggestions)
-                .overallComment(overallComment)
-                .build();
-    }
+            // JSON을 DTO로 직접 파싱 (타입 안전)
+            return AI_RESPONSE_MAPPER.readValue(cleanJson, AIResponseDto.class);
 
-    /**
-     * OptimalStartTimeInfoDto를 도메인 객체로 변환
-     */
-    private AIAnalysisResponse.OptimalStartTimeInfo convertOptimalStartTime(AIResponseDto.OptimalStartTimeInfoDto dto, boolean isEnglish) {
-        if (dto == null) {
-            return AIAnalysisResponse.OptimalStartTimeInfo.builder()
-                    .time("AM 09:00")
-                    .pomodoroSetCount(3)
-                    .interruptionRate(8.0)
-                    .averageFocusTimeInMinutes(88)
-                    .aiComment(isEnglish ? "AI-analyzed optimal focus start time." : "AI가 분석한 최적의 집중 시간입니다.")
-                    .build();
-        }
-        
-        return AIAnalysisResponse.OptimalStartTimeInfo.builder()
-                .time(dto.getTime() != null ? dto.getTime() : "AM 09:00")
-                .pomodoroSetCount(dto.getPomodoroSetCount() != null ? dto.getPomodoroSetCount() : 3)
-                .interruptionRate(dto.getInterruptionRate() != null ? dto.getInterruptionRate() : 8.0)
-                .averageFocusTimeInMinutes(dto.getAverageFocusTimeInMinutes() != null ? dto.getAverageFocusTimeInMinutes() : 88)
-                .aiComment(dto.getAiComment() != null ? dto.getAiComment() : 
-                        (isEnglish ? "AI-analyzed optimal focus start time." : "AI가 분석한 최적의 집중 시간입니다."))
-                .build();
-    }
-    
-    /**
-     * OptimalDayInfoDto 리스트를 도메인 객체로 변환
-     */
-    private List<AIAnalysisResponse.OptimalDayInfo> convertOptimalDays(List<AIResponseDto.OptimalDayInfoDto> dtoList, boolean isEnglish) {
-        if (dtoList == null || dtoList.isEmpty()) {
-            return List.of(AIAnalysisResponse.OptimalDayInfo.builder()
-                    .day(isEnglish ? "Wednesday" : "수요일")
-                    .averageSetCount(3.4)
-                    .successRate(92.0)
-                    .averageFocusTimeInMinutes(98)
-                    .aiComment(isEnglish ? "The day with the highest concentration." : "가장 집중력이 높은 요일입니다.")
-                    .build());
-        }
-        
-        return dtoList.stream()
-                .map(dto -> AIAnalysisResponse.OptimalDayInfo.builder()
-                        .day(dto.getDay() != null ? dto.getDay() : (isEnglish ? "Wednesday" : "수요일"))
-                        .averageSetCount(dto.getAverageSetCount() != null ? dto.getAverageSetCount() : 3.4)
-                        .successRate(dto.getSuccessRate() != null ? dto.getSuccessRate() : 92.0)
-                        .averageFocusTimeInMinutes(dto.getAverageFocusTimeInMinutes() != null ? dto.getAverageFocusTimeInMinutes() : 98)
-                        .aiComment(dto.getAiComment() != null ? dto.getAiComment() : 
-                                (isEnglish ? "High concentration day." : "집중력이 높은 요일입니다."))
-                        .build())
-                .collect(Collectors.toList());
-    }
-    
-    /**
-     * LowConcentrationTimeInfoDto를 도메인 객체로 변환
-     */
-    private AIAnalysisResponse.LowConcentrationTimeInfo convertLowConcentrationTime(AIResponseDto.LowConcentrationTimeInfoDto dto, boolean isEnglish) {
-        if (dto == null) {
-            return AIAnalysisResponse.LowConcentrationTimeInfo.builder()
-                    .timeRange("PM 13:00 ~ 14:00")
-                    .interruptionRate(52.0)
-                    .averageFocusTimeInMinutes(33)
-                    .setSuccessRate(48.0)
-                    .aiComment(isEnglish ? "Recommend rest or light activities during this time." : "이 시간에는 휴식이나 가벼운 활동을 추천합니다.")
-                    .build();
-        }
-        
-        return AIAnalysisResponse.LowConcentrationTimeInfo.builder()
-                .timeRange(dto.getTimeRange() != null ? dto.getTimeRange() : "PM 13:00 ~ 14:00")
-                .interruptionRate(dto.getInterruptionRate() != null ? dto.getInterruptionRate() : 52.0)
-                .averageFocusTimeInMinutes(dto.getAverageFocusTimeInMinutes() != null ? dto.getAverageFocusTimeInMinutes() : 33)
-                .setSuccessRate(dto.getSetSuccessRate() != null ? dto.getSetSuccessRate() : 48.0)
-                .aiComment(dto.getAiComment() != null ? dto.getAiComment() : 
-                        (isEnglish ? "Recommend rest during this time." : "이 시간에는 휴식을 추천합니다."))
-                .build();
-    }
-    
-    /**
-     * ActivitySuggestionsDto를 도메인 객체로 변환
-     */
-    private List<AIAnalysisResponse.ActivitySuggestion> convertActivitySuggestions(AIResponseDto.ActivitySuggestionsDto dto, boolean isEnglish) {
-        if (dto == null || dto.getSuggestions() == null || dto.getSuggestions().isEmpty()) {
-            return List.of(AIAnalysisResponse.ActivitySuggestion.builder()
-                    .activityName(isEnglish ? "Focused Study" : "집중 학습")
-                    .timeRange("AM 9시 ~ 11시")
-                    .build());
+        } catch (Exception e) {
+            log.error("JSON 파싱 실패: {}, AI 응답 일부: {}",
+                     e.getMessage(),
+                     aiResponse.substring(0, Math.min(200, aiResponse.length())));
+            return null;
         }
-        
-        return dto.getSuggestions().stream()
-                .map(suggestionDto -> AIAnalysisResponse.ActivitySuggestion.builder()
-                        .activityName(suggestionDto.getActivityName() != null ? suggestionDto.getActivityName() : 
-                                (isEnglish ? "Focused Study" : "집중 학습"))
-                        .timeRange(suggestionDto.getTimeRange() != null ? suggestionDto.getTimeRange() : "AM 9시 ~ 11시")
-                        .build())
-                .collect(Collectors.toList());
     }
-    
+
     /**
      * AI 응답에서 첫 번째 JSON 객체 추출
      */
@@ -622,197 +637,6 @@ public class FocusAnalysisService {
         return null;
     }
     
-    /**
-     * JSON Map에서 AIAnalysisResponse 구성
-     */
-    private AIAnalysisResponse buildAIAnalysisFromJson(Map<String, Object> jsonMap, String languageCode) {
-        boolean isEnglish = "en".equalsIgnoreCase(languageCode);
-        
-        // optimal_start_time_info 추출
-        AIAnalysisResponse.OptimalStartTimeInfo optimalStartTime = extractOptimalStartTimeInfo(jsonMap, isEnglish);
-        
-        // optimal_day_info 추출
-        List<AIAnalysisResponse.OptimalDayInfo> optimalDays = extractOptimalDayInfo(jsonMap, isEnglish);
-        
-        // low_concentration_time_info 추출  
-        AIAnalysisResponse.LowConcentrationTimeInfo lowConcentrationTime = extractLowConcentrationTimeInfo(jsonMap, isEnglish);
-        
-        // activity_suggestions 추출
-        List<AIAnalysisResponse.ActivitySuggestion> activitySuggestions = extractActivitySuggestions(jsonMap, isEnglish);
-        
-        // overall_comment 추출 (JSON에 있으면 사용, 없으면 기본값)
-        String overallComment = (String) jsonMap.getOrDefault("overall_comment", 
-                isEnglish ? "AI-analyzed monthly concentration comprehensive results." : 
-                           "AI가 분석한 월간 집중도 종합 결과입니다.");
-        
-        return AIAnalysisResponse.builder()
-                .optimalStartTimeInfo(optimalStartTime)
-                .optimalDayInfo(optimalDays)
-                .lowConcentrationTimeInfo(lowConcentrationTime)
-                .activitySuggestions(activitySuggestions)
-                .overallComment(overallComment)
-                .build();
-    }
-    
-    /**
-     * JSON 파싱 실패 시 언어별 기본 응답 생성
-     */
-    private AIAnalysisResponse createFallbackResponse(String languageCode) {
-        boolean isEnglish = "en".equalsIgnoreCase(languageCode);
-        
-        return AIAnalysisResponse.builder()
-                .optimalStartTimeInfo(AIAnalysisResponse.OptimalStartTimeInfo.builder()
-                        .time("AM 09:00")
-                        .pomodoroSetCount(3)
-                        .interruptionRate(8.0)
-                        .averageFocusTimeInMinutes(88)
-                        .aiComment(isEnglish ? 
-                                "AI-analyzed optimal focus start time." : 
-                                "AI가 분석한 최적의 집중 시작 시간입니다.")
-                        .build())
-                .optimalDayInfo(List.of(
-                        AIAnalysisResponse.OptimalDayInfo.builder()
-                                .day(isEnglish ? "Wednesday" : "수요일")
-                                .averageSetCount(3.4)
-                                .successRate(92.0)
-                                .averageFocusTimeInMinutes(98)
-                                .aiComment(isEnglish ? 
-                                        "The day with the highest concentration." : 
-                                        "가장 집중력이 높은 요일입니다.")
-                                .build()
-                ))
-                .lowConcentrationTimeInfo(AIAnalysisResponse.LowConcentrationTimeInfo.builder()
-                        .timeRange("PM 13:00 ~ 14:00")
-                        .interruptionRate(52.0)
-                        .averageFocusTimeInMinutes(33)
-                        .setSuccessRate(48.0)
-                        .aiComment(isEnglish ? 
-                                "Recommend rest or light activities during this time." : 
-                                "이 시간에는 휴식이나 가벼운 활동을 추천합니다.")
-                        .build())
-                .activitySuggestions(List.of(
-                        AIAnalysisResponse.ActivitySuggestion.builder()
-                                .activityName(isEnglish ? "Focused Study" : "집중 학습")
-                                .timeRange("AM 9시 ~ 11시")
-                                .build()
-                ))
-                .overallComment(isEnglish ? 
-                        "AI-analyzed monthly concentration comprehensive results." : 
-                        "AI가 분석한 월간 집중도 종합 결과입니다.")
-                .build();
-    }
-
-    /**
-     * JSON에서 OptimalStartTimeInfo 추출
-     */
-    private AIAnalysisResponse.OptimalStartTimeInfo extractOptimalStartTimeInfo(Map<String, Object> jsonMap, boolean isEnglish) {
-        Map<String, Object> optimalStartTimeMap = (Map<String, Object>) jsonMap.get("optimal_start_time_info");
-        
-        if (optimalStartTimeMap == null) {
-            return AIAnalysisResponse.OptimalStartTimeInfo.builder()
-                    .time("AM 09:00")
-                    .pomodoroSetCount(3)
-                    .interruptionRate(8.0)
-                    .averageFocusTimeInMinutes(88)
-                    .aiComment(isEnglish ? "AI-analyzed optimal focus start time." : "AI가 분석한 최적의 집중 시간입니다.")
-                    .build();
-        }
-        
-        return AIAnalysisResponse.OptimalStartTimeInfo.builder()
-                .time((String) optimalStartTimeMap.getOrDefault("time", "AM 09:00"))
-                .pomodoroSetCount(((Number) optimalStartTimeMap.getOrDefault("pomodoro_set_count", 3)).intValue())
-                .interruptionRate(((Number) optimalStartTimeMap.getOrDefault("interruption_rate", 8.0)).doubleValue())
-                .averageFocusTimeInMinutes(((Number) optimalStartTimeMap.getOrDefault("average_focus_time_in_minutes", 88)).intValue())
-                .aiComment((String) optimalStartTimeMap.getOrDefault("ai_comment", 
-                        isEnglish ? "AI-analyzed optimal focus start time." : "AI가 분석한 최적의 집중 시간입니다."))
-                .build();
-    }
-    
-    /**
-     * JSON에서 OptimalDayInfo 리스트 추출
-     */
-    private List<AIAnalysisResponse.OptimalDayInfo> extractOptimalDayInfo(Map<String, Object> jsonMap, boolean isEnglish) {
-        List<Map<String, Object>> optimalDayList = (List<Map<String, Object>>) jsonMap.get("optimal_day_info");
-        
-        if (optimalDayList == null || optimalDayList.isEmpty()) {
-            return List.of(AIAnalysisResponse.OptimalDayInfo.builder()
-                    .day(isEnglish ? "Wednesday" : "수요일")
-                    .averageSetCount(3.4)
-                    .successRate(92.0)
-                    .averageFocusTimeInMinutes(98)
-                    .aiComment(isEnglish ? "The day with the highest concentration." : "가장 집중력이 높은 요일입니다.")
-                    .build());
-        }
-        
-        return optimalDayList.stream()
-                .map(dayMap -> AIAnalysisResponse.OptimalDayInfo.builder()
-                        .day((String) dayMap.getOrDefault("day", isEnglish ? "Wednesday" : "수요일"))
-                        .averageSetCount(((Number) dayMap.getOrDefault("average_set_count", 3.4)).doubleValue())
-                        .successRate(((Number) dayMap.getOrDefault("success_rate", 92.0)).doubleValue())
-                        .averageFocusTimeInMinutes(((Number) dayMap.getOrDefault("average_focus_time_in_minutes", 98)).intValue())
-                        .aiComment((String) dayMap.getOrDefault("ai_comment", 
-                                isEnglish ? "High concentration day." : "집중력이 높은 요일입니다."))
-                        .build())
-                .collect(Collectors.toList());
-    }
-    
-    /**
-     * JSON에서 LowConcentrationTimeInfo 추출
-     */
-    private AIAnalysisResponse.LowConcentrationTimeInfo extractLowConcentrationTimeInfo(Map<String, Object> jsonMap, boolean isEnglish) {
-        Map<String, Object> lowConcentrationMap = (Map<String, Object>) jsonMap.get("low_concentration_time_info");
-        
-        if (lowConcentrationMap == null) {
-            return AIAnalysisResponse.LowConcentrationTimeInfo.builder()
-                    .timeRange("PM 13:00 ~ 14:00")
-                    .interruptionRate(52.0)
-                    .averageFocusTimeInMinutes(33)
-                    .setSuccessRate(48.0)
-                    .aiComment(isEnglish ? "Recommend rest or light activities during this time." : "이 시간에는 휴식이나 가벼운 활동을 추천합니다.")
-                    .build();
-        }
-        
-        return AIAnalysisResponse.LowConcentrationTimeInfo.builder()
-                .timeRange((String) lowConcentrationMap.getOrDefault("time_range", "PM 13:00 ~ 14:00"))
-                .interruptionRate(((Number) lowConcentrationMap.getOrDefault("interruption_rate", 52.0)).doubleValue())
-                .averageFocusTimeInMinutes(((Number) lowConcentrationMap.getOrDefault("average_focus_time_in_minutes", 33)).intValue())
-                .setSuccessRate(((Number) lowConcentrationMap.getOrDefault("set_success_rate", 48.0)).doubleValue())
-                .aiComment((String) lowConcentrationMap.getOrDefault("ai_comment", 
-                        isEnglish ? "Recommend rest during this time." : "이 시간에는 휴식을 추천합니다."))
-                .build();
-    }
-    
-    /**
-     * JSON에서 ActivitySuggestion 리스트 추출
-     */
-    private List<AIAnalysisResponse.ActivitySuggestion> extractActivitySuggestions(Map<String, Object> jsonMap, boolean isEnglish) {
-        Map<String, Object> activitySuggestionsMap = (Map<String, Object>) jsonMap.get("activity_suggestions");
-        
-        if (activitySuggestionsMap == null) {
-            return List.of(AIAnalysisResponse.ActivitySuggestion.builder()
-                    .activityName(isEnglish ? "Focused Study" : "집중 학습")
-                    .timeRange("AM 9시 ~ 11시")
-                    .build());
-        }
-        
-        List<Map<String, Object>> suggestionsList = (List<Map<String, Object>>) activitySuggestionsMap.get("suggestions");
-        
-        if (suggestionsList == null || suggestionsList.isEmpty()) {
-            return List.of(AIAnalysisResponse.ActivitySuggestion.builder()
-                    .activityName(isEnglish ? "Focused Study" : "집중 학습")
-                    .timeRange("AM 9시 ~ 11시")
-                    .build());
-        }
-        
-        return suggestionsList.stream()
-                .map(suggestionMap -> AIAnalysisResponse.ActivitySuggestion.builder()
-                        .activityName((String) suggestionMap.getOrDefault("activity_name", 
-                                isEnglish ? "Focused Study" : "집중 학습"))
-                        .timeRange((String) suggestionMap.getOrDefault("time_range", "AM 9시 ~ 11시"))
-                        .build())
-                .collect(Collectors.toList());
-    }
-
     /**
      * API 34: D-Day 목표 설정 (프리미엄 전용, 하루 단위 목표)
      * D-Day 분석을 위한 새로운 하루 단위 목표를 설정합니다.
@@ -899,31 +723,30 @@ public class FocusAnalysisService {
         ConcentrationGoal goal = concentrationGoalRepository.findByUserAndId(user, goalId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 D-Day 목표를 찾을 수 없습니다."));
 
-        // 목표 날짜의 포모도로 세션 조회
-        LocalDateTime startOfDay = goal.getTargetDate().atStartOfDay();
-        LocalDateTime nextDay = goal.getTargetDate().plusDays(1).atStartOfDay();
-
-        List<PomodoroSession> targetDateSessions = pomodoroSessionRepository.findByUserAndDateWithGoal(
-                user, startOfDay, nextDay);
-
-        // 한 달 통계를 위한 세션 조회 (목표 날짜가 속한 달)
+        // 목표 날짜가 속한 달의 날짜별 집계 조회 (엔티티 로딩 없이 GROUP BY 결과만)
         LocalDate monthStart = goal.getTargetDate().withDayOfMonth(1);
         LocalDate monthEnd = goal.getTargetDate().with(TemporalAdjusters.lastDayOfMonth());
         LocalDateTime monthStartDateTime = monthStart.atStartOfDay();
         LocalDateTime monthEndDateTime = monthEnd.plusDays(1).atStartOfDay();
 
-        List<PomodoroSession> monthlySessions = pomodoroSessionRepository.findByUserAndMonthWithGoal(
+        List<FocusAggregation.DailyTotal> monthlyTotals = pomodoroSessionRepository.aggregateByDate(
                 user, monthStartDateTime, monthEndDateTime);
 
+        Map<LocalDate, Integer> secondsByDate = new HashMap<>();
+        for (FocusAggregation.DailyTotal total : monthlyTotals) {
+            secondsByDate.put(total.getFocusDate(), toSeconds(total.getTotalSeconds()));
+        }
+
         // 목표 정보 생성 (하루 단위)
-        ConcentrationGoalAnalysisResponse.GoalInfo goalInfo = createGoalInfoForSingleDay(goal, targetDateSessions);
+        ConcentrationGoalAnalysisResponse.GoalInfo goalInfo = createGoalInfoForSingleDay(
+                goal, secondsByDate.getOrDefault(goal.getTargetDate(), 0));
 
         // 한 달 통계 생성
-        ConcentrationGoalAnalysisResponse.MonthlyStats monthlyStats = createMonthlyStats(monthlySessions);
+        ConcentrationGoalAnalysisResponse.MonthlyStats monthlyStats = createMonthlyStats(monthlyTotals);
 
         // 한 달 달력 데이터 생성
         List<ConcentrationGoalAnalysisResponse.DailyCalendar> dailyCalendar = createMonthlyCalendar(
-                goal, monthlySessions, monthStart, monthEnd);
+                goal, secondsByDate, monthStart, monthEnd);
 
         log.info("D-Day 목표 분석 조회 완료 - userId: {}, goalId: {}, 달성률: {}%",
                 user.getId(), goalId, goalInfo.getAchievementRate());
@@ -940,73 +763,34 @@ public class FocusAnalysisService {
     /**
      * 최적의 집중 시작 시간 분석
      */
-    private AIAnalysisResponse.OptimalStartTimeInfo analyzeOptimalStartTime(List<PomodoroSession> sessions, String languageCode) {
-        // 시간대별 세션 그룹핑 및 성공률 계산
-        Map<Integer, List<PomodoroSession>> sessionsByHour = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getCreatedAt() != null)
-                .collect(Collectors.groupingBy(session -> session.getCreatedAt().getHour()));
-
+    private AIAnalysisResponse.OptimalStartTimeInfo analyzeOptimalStartTime(FocusStats stats, String languageCode) {
+        // 시간대별 성공률 비교
         int bestHour = 9; // 기본값
         double bestSuccessRate = 0.0;
         int bestSetCount = 0;
         int bestAvgFocusTime = 0;
 
-        for (Map.Entry<Integer, List<PomodoroSession>> entry : sessionsByHour.entrySet()) {
-            List<PomodoroSession> hourSessions = entry.getValue();
-            if (hourSessions.size() < 3) continue; // 최소 3개 세션 필요
+        for (int hour = 0; hour < FocusStats.HOURS; hour++) {
+            int hourSessionCount = stats.getHourSessionCount(hour);
+            if (hourSessionCount < 3) continue; // 최소 3개 세션 필요
 
-            double successRate = hourSessions.stream()
-                    .filter(Objects::nonNull)
-                    .filter(s -> s.getIsCycleCompleted() != null)
-                    .mapToDouble(s -> s.getIsCycleCompleted() ? 1.0 : 0.0)
-                    .average().orElse(0.0) * 100;
+            double successRate = stats.getHourSuccessRate(hour, 0.0);
 
             if (successRate > bestSuccessRate) {
                 bestSuccessRate = successRate;
-                bestHour = entry.getKey();
-                bestSetCount = hourSessions.size();
-                bestAvgFocusTime = (int) hourSessions.stream()
-                        .filter(s -> s.getDurationInSeconds() != null)
-                        .mapToInt(PomodoroSession::getDurationInSeconds)
-                        .average().orElse(0.0) / 60;
+                bestHour = hour;
+                bestSetCount = hourSessionCount;
+                bestAvgFocusTime = stats.getHourAverageFocusMinutes(hour);
             }
         }
 
         String timeStr = String.format("%s %02d:00", bestHour < 12 ? "AM" : "PM", 
                                      bestHour == 0 ? 12 : (bestHour > 12 ? bestHour - 12 : bestHour));
 
-        // 언어별 프롬프트 생성
-        boolean isEnglish = "en".equalsIgnoreCase(languageCode);
-        String prompt;
-        
-        if (isEnglish) {
-            prompt = String.format(
-                "User's Pomodoro analysis results: %s with average %d sessions, success rate %.1f%%, average focus time %d minutes. " +
-                "Please explain why this time is optimal and provide focus improvement advice in 50 characters or less.",
-                timeStr, bestSetCount, bestSuccessRate, bestAvgFocusTime
-            );
-        } else {
-            prompt = String.format(
-                "사용자의 포모도로 분석 결과입니다. %s에 평균 %d회 세션을 진행하며, 성공률은 %.1f%%, 평균 집중시간은 %d분입니다. " +
-                "이 시간대가 최적인 이유와 집중력 향상을 위한 조언을 50자 이내로 간결하게 제시해주세요.",
-                timeStr, bestSetCount, bestSuccessRate, bestAvgFocusTime
-            );
-        }
-        
-        String aiComment;
-        try {
-            aiComment = geminiService.generatePlainText(prompt, languageCode);
-            // 50자 제한 적용
-            if (aiComment.length() > 50) {
-                aiComment = aiComment.substring(0, 47) + "...";
-            }
-        } catch (Exception e) {
-            log.warn("Gemini AI 코멘트 생성 실패, 기본 메시지 사용: {}", e.getMessage());
-            aiComment = isEnglish ? 
-                "High success rate and most stable focus flow." :
-                "성공률도 높고, 이후 집중 흐름도 가장 안정적으로 유지됩니다.";
-        }
+        // 템플릿 코멘트 (종합 AI 분석 결과가 제한 시간 안에 오면 mergeAIResponse에서 교체)
+        String aiComment = "en".equalsIgnoreCase(languageCode) ?
+            "High success rate and most stable focus flow." :
+            "성공률도 높고, 이후 집중 흐름도 가장 안정적으로 유지됩니다.";
 
         return AIAnalysisResponse.OptimalStartTimeInfo.builder()
                 .time(timeStr)
@@ -1020,62 +804,26 @@ public class FocusAnalysisService {
     /**
      * 최적의 집중 요일 분석 (최대 2개)
      */
-    private List<AIAnalysisResponse.OptimalDayInfo> analyzeOptimalDays(List<PomodoroSession> sessions, String languageCode) {
-        // 요일별 세션 그룹핑
-        Map<DayOfWeek, List<PomodoroSession>> sessionsByDay = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getCreatedAt() != null)
-                .collect(Collectors.groupingBy(session -> session.getCreatedAt().getDayOfWeek()));
-
+    private List<AIAnalysisResponse.OptimalDayInfo> analyzeOptimalDays(FocusStats stats, String languageCode) {
         List<AIAnalysisResponse.OptimalDayInfo> optimalDays = new ArrayList<>();
         boolean isEnglish = "en".equalsIgnoreCase(languageCode);
 
-        for (Map.Entry<DayOfWeek, List<PomodoroSession>> entry : sessionsByDay.entrySet()) {
-            List<PomodoroSession> daySessions = entry.getValue();
-            if (daySessions.size() < 3) continue;
-
-            double successRate = daySessions.stream()
-                    .filter(Objects::nonNull)
-                    .filter(s -> s.getIsCycleCompleted() != null)
-                    .mapToDouble(s -> s.getIsCycleCompleted() ? 1.0 : 0.0)
-                    .average().orElse(0.0) * 100;
-
-            double avgSetCount = daySessions.size() / 4.0; // 주 단위로 평균
-            int avgFocusTime = (int) daySessions.stream()
-                    .filter(s -> s.getDurationInSeconds() != null)
-                    .mapToInt(PomodoroSession::getDurationInSeconds)
-                    .average().orElse(0.0) / 60;
-
-            // 언어별 요일명과 프롬프트 생성
-            String dayName = isEnglish ? getDayNameInEnglish(entry.getKey()) : getDayNameInKorean(entry.getKey());
-            String prompt;
-            
-            if (isEnglish) {
-                prompt = String.format(
-                    "%s Pomodoro analysis: Average %.1f sessions, success rate %.1f%%, average focus time %d minutes. " +
-                    "Please explain why this day is good for concentration in 40 characters or less.",
-                    dayName, avgSetCount, successRate, avgFocusTime
-                );
-            } else {
-                prompt = String.format(
-                    "%s의 포모도로 분석: 평균 %.1f회 세션, 성공률 %.1f%%, 평균 집중시간 %d분. " +
-                    "이 요일이 집중에 좋은 이유를 40자 이내로 설명해주세요.",
-                    dayName, avgSetCount, successRate, avgFocusTime
-                );
-            }
-            
-            String aiComment;
-            try {
-                aiComment = geminiService.generatePlainText(prompt, languageCode);
-                if (aiComment.length() > 40) {
-                    aiComment = aiComment.substring(0, 37) + "...";
-                }
-            } catch (Exception e) {
-                log.warn("Gemini AI 코멘트 생성 실패: {}", e.getMessage());
-                aiComment = isEnglish ? 
-                    "Long focus time, low failure rate day." :
-                    "집중 시간이 길고, 실패율이 낮은 요일입니다.";
-            }
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            int daySessionCount = stats.getDaySessionCount(dayOfWeek);
+            if (daySessionCount < 3) continue;
+
+            double successRate = stats.getDaySuccessRate(dayOfWeek);
+
+            double avgSetCount = daySessionCount / 4.0; // 주 단위로 평균
+            int avgFocusTime = stats.getDayAverageFocusMinutes(dayOfWeek);
+
+            // 언어별 요일명
+            String dayName = isEnglish ? getDayNameInEnglish(dayOfWeek) : getDayNameInKorean(dayOfWeek);
+
+            // 템플릿 코멘트 (종합 AI 분석 결과에 같은 요일이 있으면 mergeAIResponse에서 교체)
+            String aiComment = isEnglish ?
+                "Long focus time, low failure rate day." :
+                "집중 시간이 길고, 실패율이 낮은 요일입니다.";
 
             optimalDays.add(AIAnalysisResponse.OptimalDayInfo.builder()
                     .day(dayName)
@@ -1096,28 +844,18 @@ public class FocusAnalysisService {
     /**
      * 집중도가 낮은 시간 분석
      */
-    private AIAnalysisResponse.LowConcentrationTimeInfo analyzeLowConcentrationTime(List<PomodoroSession> sessions, String languageCode) {
-        Map<Integer, List<PomodoroSession>> sessionsByHour = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getCreatedAt() != null)
-                .collect(Collectors.groupingBy(session -> session.getCreatedAt().getHour()));
-
+    private AIAnalysisResponse.LowConcentrationTimeInfo analyzeLowConcentrationTime(FocusStats stats, String languageCode) {
         int worstHour = 13; // 기본값 (점심시간)
         double worstSuccessRate = 100.0;
 
-        for (Map.Entry<Integer, List<PomodoroSession>> entry : sessionsByHour.entrySet()) {
-            List<PomodoroSession> hourSessions = entry.getValue();
-            if (hourSessions.size() < 2) continue;
+        for (int hour = 0; hour < FocusStats.HOURS; hour++) {
+            if (stats.getHourSessionCount(hour) < 2) continue;
 
-            double successRate = hourSessions.stream()
-                    .filter(Objects::nonNull)
-                    .filter(s -> s.getIsCycleCompleted() != null)
-                    .mapToDouble(s -> s.getIsCycleCompleted() ? 1.0 : 0.0)
-                    .average().orElse(1.0) * 100;
+            double successRate = stats.getHourSuccessRate(hour, 1.0);
 
             if (successRate < worstSuccessRate) {
                 worstSuccessRate = successRate;
-                worstHour = entry.getKey();
+                worstHour = hour;
             }
         }
 
@@ -1125,43 +863,12 @@ public class FocusAnalysisService {
                                        worstHour > 12 ? worstHour - 12 : worstHour,
                                        worstHour > 12 ? worstHour - 11 : worstHour + 1);
 
-        List<PomodoroSession> worstHourSessions = sessionsByHour.getOrDefault(worstHour, List.of());
-        int avgFocusTime = worstHourSessions.isEmpty() ? 0 : 
-                (int) worstHourSessions.stream()
-                        .filter(s -> s.getDurationInSeconds() != null)
-                        .mapToInt(PomodoroSession::getDurationInSeconds)
-                        .average().orElse(0.0) / 60;
+        int avgFocusTime = stats.getHourAverageFocusMinutes(worstHour);
 
-        // 언어별 프롬프트 생성
-        boolean isEnglish = "en".equalsIgnoreCase(languageCode);
-        String prompt;
-        
-        if (isEnglish) {
-            prompt = String.format(
-                "%s time slot has low concentration with %.1f%% interruption rate, average focus time %d minutes, success rate %.1f%%. " +
-                "Please suggest improvement strategies for this time slot in 50 characters or less.",
-                timeRange, Math.round((100 - worstSuccessRate) * 10.0) / 10.0, avgFocusTime, worstSuccessRate
-            );
-        } else {
-            prompt = String.format(
-                "%s 시간대는 중단율 %.1f%%, 평균 집중시간 %d분, 성공률 %.1f%%로 집중도가 낮습니다. " +
-                "이 시간대에 대한 개선 방안을 50자 이내로 제안해주세요.",
-                timeRange, Math.round((100 - worstSuccessRate) * 10.0) / 10.0, avgFocusTime, worstSuccessRate
-            );
-        }
-        
-        String aiComment;
-        try {
-            aiComment = geminiService.generatePlainText(prompt, languageCode);
-            if (aiComment.length() > 50) {
-                aiComment = aiComment.substring(0, 47) + "...";
-            }
-        } catch (Exception e) {
-            log.warn("Gemini AI 코멘트 생성 실패: {}", e.getMessage());
-            aiComment = isEnglish ? 
-                "Recommend rest routines or light activities during this time." :
-                "이 시간에는 휴식 루틴이나 가벼운 활동을 추천합니다.";
-        }
+        // 템플릿 코멘트 (종합 AI 분석 결과가 제한 시간 안에 오면 mergeAIResponse에서 교체)
+        String aiComment = "en".equalsIgnoreCase(languageCode) ?
+            "Recommend rest routines or light activities during this time." :
+            "이 시간에는 휴식 루틴이나 가벼운 활동을 추천합니다.";
 
         return AIAnalysisResponse.LowConcentrationTimeInfo.builder()
                 .timeRange(timeRange)
@@ -1175,32 +882,14 @@ public class FocusAnalysisService {
     /**
      * 활동별 시간 제안 분석
      */
-    private List<AIAnalysisResponse.ActivitySuggestion> analyzeActivitySuggestions(List<PomodoroSession> sessions) {
-        // 활동별로 그룹핑
-        Map<String, List<PomodoroSession>> sessionsByActivity = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getPomodoroGoal() != null && s.getPomodoroGoal().getName() != null)
-                .collect(Collectors.groupingBy(session -> session.getPomodoroGoal().getName()));
-
+    private List<AIAnalysisResponse.ActivitySuggestion> analyzeActivitySuggestions(FocusStats stats) {
         List<AIAnalysisResponse.ActivitySuggestion> suggestions = new ArrayList<>();
 
-        for (Map.Entry<String, List<PomodoroSession>> entry : sessionsByActivity.entrySet()) {
-            List<PomodoroSession> activitySessions = entry.getValue();
-            if (activitySessions.size() < 3) continue;
+        for (FocusStats.ActivityStats activity : stats.getActivities()) {
+            if (activity.getSessionCount() < 3) continue;
 
             // 해당 활동의 최적 시간대 찾기
-            Map<Integer, List<PomodoroSession>> sessionsByHour = activitySessions.stream()
-                    .filter(s -> s.getCreatedAt() != null)
-                    .collect(Collectors.groupingBy(session -> session.getCreatedAt().getHour()));
-
-            int bestHour = sessionsByHour.entrySet().stream()
-                    .max(Comparator.comparing(e -> e.getValue().stream()
-                            .filter(Objects::nonNull)
-                            .filter(s -> s.getIsCycleCompleted() != null)
-                            .mapToDouble(s -> s.getIsCycleCompleted() ? 1.0 : 0.0)
-                            .average().orElse(0.0)))
-                    .map(Map.Entry::getKey)
-                    .orElse(9);
+            int bestHour = activity.getBestHour(9);
 
             String timeRange = String.format("%s%d시 ~ %d시", 
                                             bestHour < 12 ? "AM " : "PM ",
@@ -1208,7 +897,7 @@ public class FocusAnalysisService {
                                             bestHour < 11 ? bestHour + 2 : (bestHour == 11 ? 1 : bestHour - 10));
 
             suggestions.add(AIAnalysisResponse.ActivitySuggestion.builder()
-                    .activityName(entry.getKey())
+                    .activityName(activity.getName())
                     .timeRange(timeRange)
                     .build());
         }
@@ -1217,81 +906,32 @@ public class FocusAnalysisService {
     }
 
     /**
-     * 전체 월간 분석 종합 코멘트 생성
+     * 전체 월간 분석 종합 코멘트 (템플릿)
      */
-    private String generateOverallAnalysisComment(List<PomodoroSession> sessions,
+    private String generateOverallAnalysisComment(FocusStats stats,
                                                  AIAnalysisResponse.OptimalStartTimeInfo optimalStartTime,
                                                  List<AIAnalysisResponse.OptimalDayInfo> optimalDays,
-                                                 AIAnalysisResponse.LowConcentrationTimeInfo lowConcentrationTime,
                                                  String languageCode) {
-        
-        int totalSessions = sessions.size();
-        int totalFocusTime = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getDurationInSeconds() != null)
-                .mapToInt(PomodoroSession::getDurationInSeconds)
-                .sum();
-        int totalFocusHours = totalFocusTime / 3600;
-        
-        double successRate = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getIsCycleCompleted() != null)
-                .mapToDouble(s -> s.getIsCycleCompleted() ? 1.0 : 0.0)
-                .average().orElse(0.0) * 100;
+        int totalFocusHours = (int) (stats.getTotalDurationSeconds() / 3600);
 
         boolean isEnglish = "en".equalsIgnoreCase(languageCode);
         String bestDay = optimalDays.isEmpty() ? 
             (isEnglish ? "Insufficient data" : "데이터 부족") : 
             optimalDays.get(0).getDay();
 
-        String prompt;
+        // 템플릿 코멘트 (종합 AI 분석 결과가 제한 시간 안에 오면 mergeAIResponse에서 교체)
         if (isEnglish) {
-            prompt = String.format(
-                "This month's Pomodoro analysis results: Total %d sessions, %d hours of focus, success rate %.1f%%. " +
-                "Optimal time: %s, optimal day: %s, weak time: %s. " +
-                "Please analyze this user's focus patterns and suggest improvements for next month in 100 characters or less.",
-                totalSessions, totalFocusHours, successRate,
-                optimalStartTime.getTime(), bestDay, lowConcentrationTime.getTimeRange()
-            );
-        } else {
-            prompt = String.format(
-                "이번 달 포모도로 분석 결과입니다. 총 %d회 세션, %d시간 집중, 성공률 %.1f%%. " +
-                "최적 시간: %s, 최적 요일: %s, 취약 시간: %s. " +
-                "이 사용자의 집중 패턴을 분석하고 다음 달 개선방안을 100자 이내로 제안해주세요.",
-                totalSessions, totalFocusHours, successRate,
-                optimalStartTime.getTime(), bestDay, lowConcentrationTime.getTimeRange()
-            );
-        }
-
-        try {
-            String aiComment = geminiService.generatePlainText(prompt, languageCode);
-            if (aiComment.length() > 100) {
-                aiComment = aiComment.substring(0, 97) + "...";
-            }
-            return aiComment;
-        } catch (Exception e) {
-            log.warn("전체 분석 코멘트 생성 실패: {}", e.getMessage());
-            if (isEnglish) {
-                return String.format("You focused for %d hours this month! %s time and %s were most effective.", 
-                                   totalFocusHours, optimalStartTime.getTime(), bestDay);
-            } else {
-                return String.format("이번 달 %d시간 집중하셨네요! %s 시간대와 %s이 가장 효과적이었습니다.", 
-                                   totalFocusHours, optimalStartTime.getTime(), bestDay);
-            }
+            return String.format("You focused for %d hours this month! %s time and %s were most effective.",
+                               totalFocusHours, optimalStartTime.getTime(), bestDay);
         }
+        return String.format("이번 달 %d시간 집중하셨네요! %s 시간대와 %s이 가장 효과적이었습니다.",
+                           totalFocusHours, optimalStartTime.getTime(), bestDay);
     }
 
-
     /**
      * D-Day 목표 정보 생성 (하루 단위)
      */
-    private ConcentrationGoalAnalysisResponse.GoalInfo createGoalInfoForSingleDay(ConcentrationGoal goal, List<PomodoroSession> sessions) {
-        int actualFocusTime = sessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getDurationInSeconds() != null)
-                .mapToInt(PomodoroSession::getDurationInSeconds)
-                .sum();
-
+    private ConcentrationGoalAnalysisResponse.GoalInfo createGoalInfoForSingleDay(ConcentrationGoal goal, int actualFocusTime) {
         int targetFocusTime = goal.getTargetFocusTimeInSeconds();
 
         // 목표 달성률 계산 (실제 집중시간 / 목표 집중시간 * 100)
@@ -1315,19 +955,13 @@ public class FocusAnalysisService {
     /**
      * 한 달 통계 생성
      */
-    private ConcentrationGoalAnalysisResponse.MonthlyStats createMonthlyStats(List<PomodoroSession> monthlySessions) {
-        int totalFocusTime = monthlySessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getDurationInSeconds() != null)
-                .mapToInt(PomodoroSession::getDurationInSeconds)
+    private ConcentrationGoalAnalysisResponse.MonthlyStats createMonthlyStats(List<FocusAggregation.DailyTotal> monthlyTotals) {
+        int totalFocusTime = monthlyTotals.stream()
+                .mapToInt(total -> toSeconds(total.getTotalSeconds()))
                 .sum();
 
-        // 집중한 날 수 계산
-        long totalFocusDays = monthlySessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getCreatedAt() != null)
-                .collect(Collectors.groupingBy(session -> session.getCreatedAt().toLocalDate()))
-                .size();
+        // 집중한 날 수 계산 (세션이 있는 날짜 수)
+        long totalFocusDays = monthlyTotals.size();
 
         // 평균 집중 시간 계산
         double averageDailyFocusTime = totalFocusDays > 0 ?
@@ -1344,27 +978,15 @@ public class FocusAnalysisService {
      * 한 달 달력 데이터 생성 (달성률 기반 오분이 이미지)
      */
     private List<ConcentrationGoalAnalysisResponse.DailyCalendar> createMonthlyCalendar(
-            ConcentrationGoal goal, List<PomodoroSession> monthlySessions,
+            ConcentrationGoal goal, Map<LocalDate, Integer> secondsByDate,
             LocalDate monthStart, LocalDate monthEnd) {
 
-        // 날짜별 세션 그룹핑
-        Map<LocalDate, List<PomodoroSession>> sessionsByDate = monthlySessions.stream()
-                .filter(Objects::nonNull)
-                .filter(s -> s.getCreatedAt() != null)
-                .collect(Collectors.groupingBy(session -> session.getCreatedAt().toLocalDate()));
-
         List<ConcentrationGoalAnalysisResponse.DailyCalendar> calendar = new ArrayList<>();
 
         // 한 달의 모든 날짜 처리
         LocalDate currentDate = monthStart;
         while (!currentDate.isAfter(monthEnd)) {
-            List<PomodoroSession> daySessions = sessionsByDate.getOrDefault(currentDate, List.of());
-
-            int totalDuration = daySessions.stream()
-                    .filter(Objects::nonNull)
-                    .filter(s -> s.getDurationInSeconds() != null)
-                    .mapToInt(PomodoroSession::getDurationInSeconds)
-                    .sum();
+            int totalDuration = secondsByDate.getOrDefault(currentDate, 0);
 
             // 목표 집중 시간 (목표 날짜와 동일한 경우만 목표 시간 적용, 그 외는 0)
             int targetFocusTime = currentDate.equals(goal.getTargetDate()) ?
@@ -1391,6 +1013,13 @@ public class FocusAnalysisService {
         return calendar;
     }
 
+    /**
+     * 집계 결과(SUM)를 초 단위 int로 변환 (null이면 0)
+     */
+    private int toSeconds(Long totalSeconds) {
+        return totalSeconds != null ? totalSeconds.intValue() : 0;
+    }
+
     /**
      * 요일을 한국어로 변환
      */
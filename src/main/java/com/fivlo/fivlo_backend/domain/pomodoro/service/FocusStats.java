@@ -0,0 +1,229 @@
+package com.fivlo.fivlo_backend.domain.pomodoro.service;
+
+import com.fivlo.fivlo_backend.domain.pomodoro.entity.PomodoroSession;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 월간 AI 분석용 집중 통계 누적기
+ * 세션 목록을 한 번만 순회하면서 시간대(24) / 요일(7) / 활동별 카운터를 원시 배열에 누적한다.
+ * AI 분석 헬퍼들은 세션을 다시 그룹핑하지 않고 이 통계만 읽는다.
+ *
+ * 성공률은 사이클 완료 여부가 기록된 세션 기준, 평균 집중시간은 duration이 기록된 세션 기준으로 계산한다.
+ */
+public final class FocusStats {
+
+    public static final int HOURS = 24;
+    public static final int DAYS = 7;
+
+    // 전체 통계
+    private int totalSessions;
+    private long totalDurationSeconds;
+    private int ratedSessions;
+    private int completedSessions;
+
+    // 시간대별 통계 (index = 0~23시)
+    private final int[] hourSessions = new int[HOURS];
+    private final int[] hourRated = new int[HOURS];
+    private final int[] hourCompleted = new int[HOURS];
+    private final int[] hourDurationCount = new int[HOURS];
+    private final long[] hourDurationSum = new long[HOURS];
+
+    // 요일별 통계 (index = DayOfWeek.ordinal(), 월요일=0)
+    private final int[] daySessions = new int[DAYS];
+    private final int[] dayRated = new int[DAYS];
+    private final int[] dayCompleted = new int[DAYS];
+    private final int[] dayDurationCount = new int[DAYS];
+    private final long[] dayDurationSum = new long[DAYS];
+
+    // 활동(포모도로 목표 이름)별 통계 (처음 등장한 순서 유지)
+    private final Map<String, ActivityStats> activities = new LinkedHashMap<>();
+
+    /**
+     * 세션 목록으로부터 통계 생성 (단일 순회)
+     */
+    public static FocusStats of(List<PomodoroSession> sessions) {
+        FocusStats stats = new FocusStats();
+        for (PomodoroSession session : sessions) {
+            if (session == null) {
+                continue;
+            }
+            stats.add(session.getCreatedAt(),
+                    session.getDurationInSeconds(),
+                    session.getIsCycleCompleted(),
+                    session.getPomodoroGoal() != null ? session.getPomodoroGoal().getName() : null);
+        }
+        return stats;
+    }
+
+    /**
+     * 세션 1건 누적
+     */
+    public void add(LocalDateTime createdAt, Integer durationInSeconds, Boolean isCycleCompleted, String activityName) {
+        totalSessions++;
+        boolean rated = isCycleCompleted != null;
+        boolean completed = Boolean.TRUE.equals(isCycleCompleted);
+        boolean hasDuration = durationInSeconds != null;
+        int duration = hasDuration ? durationInSeconds : 0;
+
+        totalDurationSeconds += duration;
+        if (rated) {
+            ratedSessions++;
+            if (completed) {
+                completedSessions++;
+            }
+        }
+
+        int hour = -1;
+        if (createdAt != null) {
+            hour = createdAt.getHour();
+            int day = createdAt.getDayOfWeek().ordinal();
+
+            hourSessions[hour]++;
+            daySessions[day]++;
+            if (rated) {
+                hourRated[hour]++;
+                dayRated[day]++;
+                if (completed) {
+                    hourCompleted[hour]++;
+                    dayCompleted[day]++;
+                }
+            }
+            if (hasDuration) {
+                hourDurationCount[hour]++;
+                hourDurationSum[hour] += duration;
+                dayDurationCount[day]++;
+                dayDurationSum[day] += duration;
+            }
+        }
+
+        if (activityName != null) {
+            activities.computeIfAbsent(activityName, ActivityStats::new).add(hour, rated, completed);
+        }
+    }
+
+    // ==================== 전체 ====================
+
+    public int getTotalSessions() {
+        return totalSessions;
+    }
+
+    public long getTotalDurationSeconds() {
+        return totalDurationSeconds;
+    }
+
+    /** 전체 성공률 (0~100) */
+    public double getSuccessRate() {
+        return rate(completedSessions, ratedSessions, 0.0);
+    }
+
+    // ==================== 시간대별 ====================
+
+    public int getHourSessionCount(int hour) {
+        return hourSessions[hour];
+    }
+
+    /** 시간대 성공률 (0~100), 완료 여부가 기록된 세션이 없으면 emptyValue */
+    public double getHourSuccessRate(int hour, double emptyValue) {
+        return rate(hourCompleted[hour], hourRated[hour], emptyValue);
+    }
+
+    /** 시간대 평균 집중시간 (분, 소수점 버림) */
+    public int getHourAverageFocusMinutes(int hour) {
+        return averageMinutes(hourDurationSum[hour], hourDurationCount[hour]);
+    }
+
+    // ==================== 요일별 ====================
+
+    public int getDaySessionCount(DayOfWeek dayOfWeek) {
+        return daySessions[dayOfWeek.ordinal()];
+    }
+
+    /** 요일 성공률 (0~100) */
+    public double getDaySuccessRate(DayOfWeek dayOfWeek) {
+        int day = dayOfWeek.ordinal();
+        return rate(dayCompleted[day], dayRated[day], 0.0);
+    }
+
+    /** 요일 평균 집중시간 (분, 소수점 버림) */
+    public int getDayAverageFocusMinutes(DayOfWeek dayOfWeek) {
+        int day = dayOfWeek.ordinal();
+        return averageMinutes(dayDurationSum[day], dayDurationCount[day]);
+    }
+
+    // ==================== 활동별 ====================
+
+    public Collection<ActivityStats> getActivities() {
+        return activities.values();
+    }
+
+    private static double rate(int completed, int rated, double emptyValue) {
+        return rated > 0 ? (double) completed / rated * 100 : emptyValue * 100;
+    }
+
+    private static int averageMinutes(long sum, int count) {
+        return count > 0 ? (int) ((double) sum / count) / 60 : 0;
+    }
+
+    /**
+     * 활동 하나의 세션 수와 시간대별 성공 카운터
+     */
+    public static final class ActivityStats {
+
+        private final String name;
+        private int sessionCount;
+        private final int[] hourSessions = new int[HOURS];
+        private final int[] hourRated = new int[HOURS];
+        private final int[] hourCompleted = new int[HOURS];
+
+        private ActivityStats(String name) {
+            this.name = name;
+        }
+
+        private void add(int hour, boolean rated, boolean completed) {
+            sessionCount++;
+            if (hour < 0) {
+                return;
+            }
+            hourSessions[hour]++;
+            if (rated) {
+                hourRated[hour]++;
+                if (completed) {
+                    hourCompleted[hour]++;
+                }
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getSessionCount() {
+            return sessionCount;
+        }
+
+        /**
+         * 성공률이 가장 높은 시간대 (동률이면 이른 시간, 기록이 없으면 defaultHour)
+         */
+        public int getBestHour(int defaultHour) {
+            int bestHour = -1;
+            double bestRate = -1.0;
+            for (int hour = 0; hour < HOURS; hour++) {
+                if (hourSessions[hour] == 0) {
+                    continue;
+                }
+                double rate = hourRated[hour] > 0 ? (double) hourCompleted[hour] / hourRated[hour] : 0.0;
+                if (rate > bestRate) {
+                    bestRate = rate;
+                    bestHour = hour;
+                }
+            }
+            return bestHour >= 0 ? bestHour : defaultHour;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.fivlo.fivlo_backend.domain.pomodoro.entity.ConcentrationGoal;
 import com.fivlo.fivlo_backend.domain.pomodoro.entity.PomodoroGoal;
 import com.fivlo.fivlo_backend.domain.pomodoro.entity.PomodoroSession;
 import com.fivlo.fivlo_backend.domain.pomodoro.repository.ConcentrationGoalRepository;
+import com.fivlo.fivlo_backend.domain.pomodoro.repository.FocusDailyRollupRepository;
 import com.fivlo.fivlo_backend.domain.pomodoro.repository.PomodoroGoalRepository;
 import com.fivlo.fivlo_backend.domain.pomodoro.repository.PomodoroSessionRepository;
 import com.fivlo.fivlo_backend.domain.pomodoro.dto.CoinByPomodoroSessionResponse;
@@ -30,6 +31,8 @@ public class PomodoroService {
     private final ConcentrationGoalRepository concentrationGoalRepository;
     private final UserRepository userRepository;
     private final CoinTransactionService coinTransactionService;
+    private final FocusDailyRollupRepository focusDailyRollupRepository;
+    private final FocusAnalysisCache focusAnalysisCache;
 
     @Transactional(readOnly = true)
     public PomodoroGoalListResponse findPomodoroGoals(Long id) {
@@ -113,6 +116,9 @@ public class PomodoroService {
                 .build();
         pomodoroSessionRepository.save(session);
 
+        // 새 세션은 이번 달 AI 분석 입력에 포함되므로 해당 기간 분석 캐시 무효화
+        focusAnalysisCache.evictPeriodsOf(user.getId(), LocalDate.now());
+
         return new PomodoroSessionCreateResponse(session.getId(), "포모도로 세션 기록이 시작되었습니다.");
     }
 
@@ -121,14 +127,18 @@ public class PomodoroService {
     @Transactional
     public PomodoroSessionEndResponse endSession(Long id, @Valid PomodoroSessionEndRequest dto) {
 
-        // durationTime 추가
-        PomodoroSession session = pomodoroSessionRepository.findById(dto.pomodoroSessionId())
+        // durationTime 추가 (행 잠금 후 조회 - 동시 종료 요청은 앞 요청 커밋 이후의 값을 보고 증분 계산)
+        PomodoroSession session = pomodoroSessionRepository.findByIdForUpdate(dto.pomodoroSessionId())
                 .orElseThrow(() -> new NoSuchElementException("해당 세션을 찾을 수 없습니다."));
 
         if(!session.getUser().getId().equals(id)) {
             throw new AccessDeniedException("해당 세션을 종료할 권한이 없습니다.");
         }
 
+        // 롤업 증분 계산을 위해 변경 전 값 보관 (같은 세션을 여러 번 종료해도 중복 집계되지 않도록)
+        int previousDuration = session.getDurationInSeconds() != null ? session.getDurationInSeconds() : 0;
+        boolean wasCompleted = Boolean.TRUE.equals(session.getIsCycleCompleted());
+
         session.updateDurationInSeconds(dto.durationInSeconds());
 
         // 사이클 확인 후 상태 변경
@@ -136,9 +146,42 @@ public class PomodoroService {
             session.updateCycleCompletedStatus(true);
         }
 
+        updateFocusRollup(session, previousDuration, wasCompleted);
+
         return new PomodoroSessionEndResponse(dto.pomodoroSessionId(), "세션 기록이 종료되었습니다.");
     }
 
+    /**
+     * 집중도 분석용 일간 롤업(focus_daily_rollup) 증분 반영
+     * 세션 시작 시각(createdAt) 기준의 날짜/시간대 행에 변경분만 더한다.
+     */
+    private void updateFocusRollup(PomodoroSession session, int previousDuration, boolean wasCompleted) {
+        int currentDuration = session.getDurationInSeconds() != null ? session.getDurationInSeconds() : 0;
+        int secondsDelta = currentDuration - previousDuration;
+        // V9 백필과 같은 기준: 기록 시간이 있는 세션만 세션 수/완료 수에 포함
+        boolean countedBefore = previousDuration > 0;
+        boolean countedNow = currentDuration > 0;
+        int sessionDelta = (countedNow ? 1 : 0) - (countedBefore ? 1 : 0);
+        int completedDelta = (countedNow && Boolean.TRUE.equals(session.getIsCycleCompleted()) ? 1 : 0)
+                - (countedBefore && wasCompleted ? 1 : 0);
+
+        if (secondsDelta == 0 && sessionDelta == 0 && completedDelta == 0) {
+            return;
+        }
+
+        focusDailyRollupRepository.accumulate(
+                session.getUser().getId(),
+                session.getCreatedAt().toLocalDate(),
+                session.getCreatedAt().getHour(),
+                session.getPomodoroGoal().getId(),
+                secondsDelta,
+                sessionDelta,
+                completedDelta);
+
+        // 세션 시작 시각이 속한 월/주의 분석 캐시 무효화 (커밋 이후)
+        focusAnalysisCache.evictPeriodsOf(session.getUser().getId(), session.getCreatedAt().toLocalDate());
+    }
+
     @Transactional
     public CoinByPomodoroSessionResponse earnedCoin(Long id, @Valid CoinByPomodoroSessionReqeust dto) {
 
@@ -3,7 +3,12 @@ package com.fivlo.fivlo_backend.domain.reminder.repository;
 import com.fivlo.fivlo_backend.domain.reminder.entity.ForgettingPreventionReminder;
 import com.fivlo.fivlo_backend.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface ReminderRepository extends JpaRepository<ForgettingPreventionReminder, Long> {
@@ -12,4 +17,58 @@ public interface ReminderRepository extends JpaRepository<ForgettingPreventionRe
     List<ForgettingPreventionReminder> findByUserAndRepetitionDaysContaining(User user, String dayOfWeek);
 
     List<ForgettingPreventionReminder> findByUserAndLocationNameIsNotNull(User user);
+
+    /**
+     * 사용자가 설정 위치에서 radiusMeters 이상 벗어난 위치 알림만 조회 (PostGIS)
+     * geography로 변환해 미터 단위 구면 거리로 비교하며, 좌표가 없는 알림은 제외한다.
+     * 후보는 부분 인덱스(user_id, location IS NOT NULL)로 좁히고 거리 판정은 DB에서 수행 (V12)
+     */
+    @Query(value = "SELECT r.* FROM forgetting_prevention_reminders r " +
+                   "WHERE r.user_id = :userId " +
+                   "AND r.location_name IS NOT NULL " +
+                   "AND r.location IS NOT NULL " +
+                   "AND NOT ST_DWithin(CAST(r.location AS geography), " +
+                   "CAST(ST_SetSRID(ST_MakePoint(:longitude, :latitude), 4326) AS geography), :radiusMeters)",
+           nativeQuery = true)
+    List<ForgettingPreventionReminder> findLocationRemindersOutsideRadius(@Param("userId") Long userId,
+                                                                         @Param("latitude") double latitude,
+                                                                         @Param("longitude") double longitude,
+                                                                         @Param("radiusMeters") double radiusMeters);
+
+    /**
+     * 알림 시각이 [fromTime, toTime] 구간인 오늘 요일 알림 (ReminderAlarmScheduler 적재용)
+     * alarm_time 인덱스로 구간을 찾고, 알림을 켠 활성 사용자 + 이 노드가 맡은 샤드(id % shardCount)만 남긴다.
+     * 반환: [id, 알림 분(하루 기준 0~1439)]
+     */
+    @Query(value = "SELECT r.id, CAST(EXTRACT(HOUR FROM r.alarm_time) * 60 + EXTRACT(MINUTE FROM r.alarm_time) AS INTEGER) " +
+                   "FROM forgetting_prevention_reminders r JOIN users u ON u.id = r.user_id " +
+                   "WHERE r.alarm_time >= :fromTime AND r.alarm_time <= :toTime " +
+                   "AND r.repetition_days LIKE CONCAT('%', :day, '%') " +
+                   "AND u.alarm_status = true AND u.status = 'ACTIVE' AND u.fcm_token IS NOT NULL " +
+                   "AND MOD(r.id, :shardCount) IN (:shards)",
+           nativeQuery = true)
+    List<Object[]> findDueAlarmIds(@Param("fromTime") LocalTime fromTime,
+                                   @Param("toTime") LocalTime toTime,
+                                   @Param("day") String day,
+                                   @Param("shardCount") int shardCount,
+                                   @Param("shards") Collection<Integer> shards);
+
+    /**
+     * 발송 직전 재확인 - 적재 이후 수정/삭제/완료 처리된 알림과 알림을 끈 사용자를 걸러낸다 (PK 조회)
+     * 반환: [id, user_id, title, fcm_token]
+     */
+    @Query(value = "SELECT r.id, r.user_id, r.title, u.fcm_token " +
+                   "FROM forgetting_prevention_reminders r JOIN users u ON u.id = r.user_id " +
+                   "WHERE r.id IN (:ids) " +
+                   "AND r.alarm_time >= :fromTime AND r.alarm_time <= :toTime " +
+                   "AND r.repetition_days LIKE CONCAT('%', :day, '%') " +
+                   "AND u.alarm_status = true AND u.status = 'ACTIVE' AND u.fcm_token IS NOT NULL " +
+                   "AND NOT EXISTS (SELECT 1 FROM daily_reminder_completions c " +
+                   "WHERE c.reminder_id = r.id AND c.completion_date = :date AND c.is_completed = true)",
+           nativeQuery = true)
+    List<Object[]> findAlarmsToFire(@Param("ids") Collection<Long> ids,
+                                    @Param("fromTime") LocalTime fromTime,
+                                    @Param("toTime") LocalTime toTime,
+                                    @Param("day") String day,
+                                    @Param("date") LocalDate date);
 }
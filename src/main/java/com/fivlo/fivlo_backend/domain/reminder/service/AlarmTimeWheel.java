@@ -0,0 +1,82 @@
+package com.fivlo.fivlo_backend.domain.reminder.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 분 단위 해시 타임휠
+ * 발송 분(epoch minute)을 slotCount로 나눈 나머지 칸에 항목을 넣고, advance()가 지나간 칸만 비운다.
+ * 적재 범위(몇 분 앞)보다 칸 수가 크면 한 칸에 다른 바퀴 항목이 섞이지 않지만, 섞이더라도 발송 분을 비교해 다음 바퀴로 남긴다.
+ * 스케줄러가 몇 분 밀려도 마지막으로 비운 분 이후의 칸을 모두 훑으므로 놓치는 칸이 없다.
+ * 첫 advance() 전에는 가장 이른 적재 분부터 훑는다 (기동 직후 적재한 현재 분 항목이 건너뛰어지지 않도록).
+ * 적재와 발송이 서로 다른 스케줄러 스레드에서 호출되므로 두 메서드는 서로 배타적으로 실행한다.
+ */
+class AlarmTimeWheel {
+
+    record Entry(long reminderId, long fireMinute) {
+    }
+
+    private final List<Queue<Entry>> slots;
+    private final AtomicInteger size = new AtomicInteger();
+    private long lastAdvancedMinute = Long.MIN_VALUE;
+    private long earliestScheduledMinute = Long.MAX_VALUE;
+
+    AlarmTimeWheel(int slotCount) {
+        this.slots = new ArrayList<>(slotCount);
+        for (int i = 0; i < slotCount; i++) {
+            slots.add(new ConcurrentLinkedQueue<>());
+        }
+    }
+
+    /**
+     * 이미 지나간 분이면 다음에 비울 칸에 넣어 바로 다음 advance()에서 발송 (발송 분은 그대로 - 지연 판단용)
+     */
+    synchronized void schedule(long reminderId, long fireMinute) {
+        long last = lastAdvancedMinute;
+        if (last == Long.MIN_VALUE) {
+            earliestScheduledMinute = Math.min(earliestScheduledMinute, fireMinute);
+        }
+        long slotMinute = last != Long.MIN_VALUE && fireMinute <= last ? last + 1 : fireMinute;
+        slotOf(slotMinute).add(new Entry(reminderId, fireMinute));
+        size.incrementAndGet();
+    }
+
+    /**
+     * nowMinute까지 지나간 칸을 비우고 발송 시각이 된 항목 반환
+     * 한 바퀴(slotCount분)보다 오래 밀렸으면 최근 한 바퀴만 훑는다 (모든 칸을 한 번씩 지나므로 충분)
+     */
+    synchronized List<Entry> advance(long nowMinute) {
+        long first = lastAdvancedMinute == Long.MIN_VALUE
+                ? Math.min(earliestScheduledMinute, nowMinute)
+                : lastAdvancedMinute + 1;
+        long from = Math.max(first, nowMinute - slots.size() + 1);
+        List<Entry> due = new ArrayList<>();
+        for (long minute = from; minute <= nowMinute; minute++) {
+            Queue<Entry> slot = slotOf(minute);
+            List<Entry> later = new ArrayList<>();
+            Entry entry;
+            while ((entry = slot.poll()) != null) {
+                if (entry.fireMinute() <= nowMinute) {
+                    due.add(entry);
+                    size.decrementAndGet();
+                } else {
+                    later.add(entry); // 다음 바퀴
+                }
+            }
+            slot.addAll(later);
+        }
+        lastAdvancedMinute = Math.max(lastAdvancedMinute, nowMinute);
+        return due;
+    }
+
+    int size() {
+        return size.get();
+    }
+
+    private Queue<Entry> slotOf(long minute) {
+        return slots.get((int) Math.floorMod(minute, (long) slots.size()));
+    }
+}
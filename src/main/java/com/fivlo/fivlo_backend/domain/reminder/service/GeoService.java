@@ -6,6 +6,7 @@ import com.fivlo.fivlo_backend.domain.reminder.dto.KakaoAddressResponse;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.GeometryFactory;
 import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
@@ -19,7 +20,8 @@ public class GeoService {
 
     private final WebClient webClient;
     private final String kakaoApiKey;
-    private final GeometryFactory geometryFactory = new GeometryFactory();
+    // WGS84 (SRID 4326) - 컬럼 정의 geometry(Point,4326)와 같아야 저장/공간 쿼리가 동작
+    private final GeometryFactory geometryFactory = new GeometryFactory(new PrecisionModel(), 4326);
 
     public GeoService(WebClient.Builder webClientBuilder,
                       @Value("${spring.security.oauth2.client.registration.kakao.client-id}") String kakaoApiKey) {
@@ -0,0 +1,372 @@
+package com.fivlo.fivlo_backend.domain.reminder.service;
+
+import com.fivlo.fivlo_backend.domain.reminder.repository.ReminderRepository;
+import com.fivlo.fivlo_backend.domain.user.notification.service.FcmDispatcher;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 망각방지 알림 시각 발송 스케줄러
+ * - 적재(매분 30초): 알림 시각이 다음 구간(window-minutes)에 있는 오늘 요일 알림을 alarm_time 인덱스 쿼리 한 번으로 읽어 타임휠에 넣는다
+ * - 발송(매분 0초): 타임휠에서 이번 분 항목만 꺼내 PK 조회로 재확인한 뒤 FcmDispatcher로 전송
+ * - 노드 분담: 알림을 id % shards로 나누고, 구간별 샤드 리스(Redis SET NX)를 얻은 노드만 적재하므로 클러스터 전체에서 한 번만 발송된다.
+ *   다음 구간은 살아 있는 노드 수 기준 공평 몫까지만 가져가고, 현재 구간에서 아무도 맡지 않은 샤드(노드 이탈, 기동 직후)는 남은 노드가 인수한다.
+ * 맡은 샤드는 매분 구간의 남은 분을 다시 조회해 적재 이후 생성/시각 변경된 알림도 휠에 넣는다 (이미 넣은 항목은 건너뜀).
+ * 적재 이후 수정/삭제/완료된 알림과 알림을 끈 사용자는 발송 직전 재확인에서 걸러진다.
+ * 시각은 Asia/Seoul 기준 (DB 시각 저장 기준과 동일).
+ */
+@Slf4j
+@Service
+public class ReminderAlarmScheduler {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final String LEASE_KEY_PREFIX = "lock:reminder-alarm:";
+    private static final String NODES_KEY = "reminder-alarm:nodes";
+    private static final long NODE_STALE_MILLIS = TimeUnit.MINUTES.toMillis(3);
+    private static final int FIRE_CHUNK_SIZE = 1000;
+    private static final String ALARM_BODY = "알림 시간이에요. 잊지 말고 챙기세요!";
+
+    private final ReminderRepository reminderRepository;
+    private final FcmDispatcher fcmDispatcher;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final int shardCount;
+    private final int windowMinutes;
+    private final int graceMinutes;
+    private final boolean enabled;
+    private final Duration leaseTtl;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final AlarmTimeWheel wheel;
+    // 구간 시작 분 → 이 노드가 리스를 가진 샤드
+    private final Map<Long, Set<Integer>> ownedShards = new ConcurrentHashMap<>();
+    // 구간 시작 분 → 이미 타임휠에 넣은 (알림, 발송 분) - 매분 재조회 시 중복 적재 방지
+    private final Map<Long, Set<AlarmTimeWheel.Entry>> loadedEntries = new ConcurrentHashMap<>();
+
+    private final Counter firedCounter;
+    private final Counter skippedCounter;
+    private final Counter missedCounter;
+    private final Counter rejectedCounter;
+    private final Timer lagTimer;
+
+    public ReminderAlarmScheduler(ReminderRepository reminderRepository,
+                                  FcmDispatcher fcmDispatcher,
+                                  @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> stringRedisTemplate,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${reminder.alarm.shards:16}") int shardCount,
+                                  @Value("${reminder.alarm.window-minutes:5}") int windowMinutes,
+                                  @Value("${reminder.alarm.grace-minutes:2}") int graceMinutes,
+                                  @Value("${reminder.alarm.enabled:true}") boolean enabled) {
+        this.reminderRepository = reminderRepository;
+        this.fcmDispatcher = fcmDispatcher;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.shardCount = Math.max(1, shardCount);
+        this.windowMinutes = Math.max(1, windowMinutes);
+        this.graceMinutes = graceMinutes;
+        this.enabled = enabled;
+        // 다음 구간을 미리 잡으므로 구간이 끝날 때까지 유지되도록 구간 길이의 3배
+        this.leaseTtl = Duration.ofMinutes(this.windowMinutes * 3L);
+        // 적재 범위(최대 2구간)보다 칸이 많으면 한 칸에 다른 바퀴 항목이 섞이지 않음
+        this.wheel = new AlarmTimeWheel(Math.max(60, this.windowMinutes * 2 + 2));
+
+        this.firedCounter = alarmCounter(meterRegistry, "fired", "시각에 맞춰 전송 요청한 알림 수");
+        this.skippedCounter = alarmCounter(meterRegistry, "skipped", "적재 후 수정/삭제/완료되어 건너뛴 알림 수");
+        this.missedCounter = alarmCounter(meterRegistry, "missed", "유예 시간을 넘겨 발송하지 못한 알림 수");
+        this.rejectedCounter = alarmCounter(meterRegistry, "rejected", "FCM 전송 큐 포화로 거절된 알림 수");
+        this.lagTimer = Timer.builder("fivlo.reminder.alarm.lag")
+                .description("알림 시각(분 시작)부터 전송 요청까지 지연")
+                .register(meterRegistry);
+        Gauge.builder("fivlo.reminder.alarm.wheel.size", wheel, AlarmTimeWheel::size)
+                .description("타임휠에서 발송을 기다리는 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("fivlo.reminder.alarm.shards.owned", ownedShards,
+                        owned -> owned.getOrDefault(windowStartOf(currentMinute()), Set.of()).size())
+                .description("현재 구간에서 이 노드가 맡은 샤드 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter alarmCounter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("fivlo.reminder.alarms")
+                .tag("result", result)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    // ==================== 적재 ====================
+
+    /**
+     * 샤드 리스 확보 후 알림을 타임휠에 적재 (발송 tick과 30초 어긋나게 실행)
+     */
+    @Scheduled(cron = "30 * * * * *", zone = "Asia/Seoul")
+    public void loadUpcoming() {
+        if (!enabled) {
+            return;
+        }
+        loadUpcoming(currentMinute());
+    }
+
+    void loadUpcoming(long now) {
+        long currentWindow = windowStartOf(now);
+        long nextWindow = currentWindow + windowMinutes;
+
+        int liveNodes = heartbeat();
+        int fairShare = (shardCount + liveNodes - 1) / liveNodes;
+
+        // 다음 구간은 공평 몫까지만, 현재 구간은 아무도 맡지 않은 샤드를 이번 분부터 인수
+        claimAndLoad(nextWindow, nextWindow, fairShare);
+        claimAndLoad(currentWindow, now, shardCount);
+
+        ownedShards.keySet().removeIf(windowStart -> windowStart < currentWindow);
+        loadedEntries.keySet().removeIf(windowStart -> windowStart < currentWindow);
+    }
+
+    /**
+     * 새 샤드 리스를 얻고, 이 구간에서 맡은 샤드 전체를 fromMinute부터 다시 적재
+     * (이미 가진 샤드도 다시 읽어야 적재 이후 생성/시각 변경된 알림을 놓치지 않는다)
+     */
+    private void claimAndLoad(long windowStart, long fromMinute, int maxShards) {
+        Set<Integer> owned = ownedShards.computeIfAbsent(windowStart, w -> ConcurrentHashMap.newKeySet());
+
+        // 노드마다 다른 순서로 시도해 동시에 기동해도 샤드가 고르게 나뉘도록
+        List<Integer> order = IntStream.range(0, shardCount).boxed().collect(Collectors.toCollection(ArrayList::new));
+        Collections.shuffle(order);
+
+        List<Integer> claimed = new ArrayList<>();
+        for (Integer shard : order) {
+            if (owned.size() >= maxShards) {
+                break;
+            }
+            if (!owned.contains(shard) && acquireLease(windowStart, shard)) {
+                owned.add(shard);
+                claimed.add(shard);
+            }
+        }
+        if (owned.isEmpty()) {
+            return;
+        }
+
+        try {
+            int loaded = load(windowStart, List.copyOf(owned), fromMinute, windowStart + windowMinutes);
+            if (loaded > 0) {
+                log.debug("알림 적재 - window: {}, shards: {}, 알림: {}건", toZoned(windowStart), owned, loaded);
+            }
+        } catch (RuntimeException e) {
+            // 새로 얻은 리스는 내려놓아 다른 노드나 다음 실행이 다시 가져가도록 (기존 샤드는 다음 분에 다시 조회)
+            log.warn("알림 적재 실패 - window: {}, shards: {}, error: {}", toZoned(windowStart), owned, e.getMessage());
+            claimed.forEach(shard -> {
+                owned.remove(shard);
+                releaseLease(windowStart, shard);
+            });
+        }
+    }
+
+    /**
+     * [fromMinute, toMinute) 구간 알림 중 아직 휠에 없는 항목 적재 - 자정을 넘는 구간은 날짜(요일)별로 나눠 조회
+     */
+    private int load(long windowStart, List<Integer> shards, long fromMinute, long toMinute) {
+        Set<AlarmTimeWheel.Entry> loaded = loadedEntries.computeIfAbsent(windowStart, w -> ConcurrentHashMap.newKeySet());
+        int added = 0;
+        long segmentStart = fromMinute;
+        while (segmentStart < toMinute) {
+            ZonedDateTime start = toZoned(segmentStart);
+            LocalDate date = start.toLocalDate();
+            long dayStartMinute = epochMinuteOf(date.atStartOfDay(ZONE));
+            long segmentEnd = Math.min(toMinute, epochMinuteOf(date.plusDays(1).atStartOfDay(ZONE)));
+
+            List<Object[]> rows = reminderRepository.findDueAlarmIds(
+                    start.toLocalTime(), endOfMinuteBefore(segmentEnd), dayOf(date), shardCount, shards);
+            for (Object[] row : rows) {
+                long reminderId = ((Number) row[0]).longValue();
+                long fireMinute = dayStartMinute + ((Number) row[1]).intValue();
+                if (loaded.add(new AlarmTimeWheel.Entry(reminderId, fireMinute))) {
+                    wheel.schedule(reminderId, fireMinute);
+                    added++;
+                }
+            }
+            segmentStart = segmentEnd;
+        }
+        return added;
+    }
+
+    // ==================== 발송 ====================
+
+    /**
+     * 이번 분에 울릴 알림 발송 (스케줄러가 밀렸다면 지나간 분까지 한꺼번에)
+     */
+    @Scheduled(cron = "0 * * * * *", zone = "Asia/Seoul")
+    public void fireDue() {
+        if (!enabled) {
+            return;
+        }
+        fireDue(currentMinute());
+    }
+
+    void fireDue(long now) {
+        List<AlarmTimeWheel.Entry> due = wheel.advance(now);
+        if (due.isEmpty()) {
+            return;
+        }
+
+        Map<Long, List<Long>> idsByMinute = new TreeMap<>();
+        for (AlarmTimeWheel.Entry entry : due) {
+            idsByMinute.computeIfAbsent(entry.fireMinute(), m -> new ArrayList<>()).add(entry.reminderId());
+        }
+
+        idsByMinute.forEach((fireMinute, ids) -> {
+            if (now - fireMinute > graceMinutes) {
+                missedCounter.increment(ids.size());
+                log.warn("알림 발송 유예 초과 - 알림 시각: {}, {}건", toZoned(fireMinute), ids.size());
+                return;
+            }
+            for (int from = 0; from < ids.size(); from += FIRE_CHUNK_SIZE) {
+                List<Long> chunk = ids.subList(from, Math.min(ids.size(), from + FIRE_CHUNK_SIZE));
+                try {
+                    fire(fireMinute, chunk);
+                } catch (RuntimeException e) {
+                    missedCounter.increment(chunk.size());
+                    log.warn("알림 발송 실패 - 알림 시각: {}, {}건, error: {}", toZoned(fireMinute), chunk.size(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    private void fire(long fireMinute, List<Long> ids) {
+        ZonedDateTime at = toZoned(fireMinute);
+        LocalDate date = at.toLocalDate();
+        List<Object[]> rows = reminderRepository.findAlarmsToFire(
+                ids, at.toLocalTime(), endOfMinuteBefore(fireMinute + 1), dayOf(date), date);
+
+        skippedCounter.increment(ids.size() - rows.size());
+        for (Object[] row : rows) {
+            Long userId = ((Number) row[1]).longValue();
+            String title = (String) row[2];
+            String token = (String) row[3];
+            if (fcmDispatcher.enqueue(userId, token, title, ALARM_BODY, null)) {
+                firedCounter.increment();
+            } else {
+                rejectedCounter.increment();
+            }
+        }
+        lagTimer.record(System.currentTimeMillis() - TimeUnit.MINUTES.toMillis(fireMinute), TimeUnit.MILLISECONDS);
+    }
+
+    // ==================== 리스 ====================
+
+    /**
+     * 노드 생존 기록 후 살아 있는 노드 수 반환 (Redis 오류 시 1 - 리스도 얻지 못하므로 적재하지 않음)
+     */
+    private int heartbeat() {
+        long nowMillis = System.currentTimeMillis();
+        try {
+            stringRedisTemplate.opsForZSet().add(NODES_KEY, nodeId, nowMillis);
+            stringRedisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, nowMillis - NODE_STALE_MILLIS);
+            stringRedisTemplate.expire(NODES_KEY, Duration.ofMillis(NODE_STALE_MILLIS * 2));
+            Long nodes = stringRedisTemplate.opsForZSet().zCard(NODES_KEY);
+            return nodes != null && nodes > 0 ? nodes.intValue() : 1;
+        } catch (Exception e) {
+            log.warn("알림 스케줄러 노드 등록 실패: {}", e.getMessage());
+            return 1;
+        }
+    }
+
+    private boolean acquireLease(long windowStart, int shard) {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey(windowStart, shard), nodeId, leaseTtl));
+        } catch (Exception e) {
+            log.warn("알림 샤드 리스 획득 실패 - shard: {}, error: {}", shard, e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLease(long windowStart, int shard) {
+        try {
+            String key = leaseKey(windowStart, shard);
+            if (nodeId.equals(stringRedisTemplate.opsForValue().get(key))) {
+                stringRedisTemplate.delete(key);
+            }
+        } catch (Exception e) {
+            // 리스 TTL이 지나면 자연히 풀림
+            log.debug("알림 샤드 리스 해제 실패 - shard: {}, error: {}", shard, e.getMessage());
+        }
+    }
+
+    /**
+     * 종료 시 리스와 노드 등록을 내려놓아 남은 노드가 바로 인수하도록 (적재된 알림은 이 노드와 함께 사라짐)
+     */
+    @PreDestroy
+    public void shutdown() {
+        ownedShards.forEach((windowStart, shards) -> shards.forEach(shard -> releaseLease(windowStart, shard)));
+        ownedShards.clear();
+        loadedEntries.clear();
+        try {
+            stringRedisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        } catch (Exception e) {
+            log.debug("알림 스케줄러 노드 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    // ==================== 유틸리티 메서드 ====================
+
+    private long windowStartOf(long minute) {
+        return Math.floorDiv(minute, windowMinutes) * windowMinutes;
+    }
+
+    private static String leaseKey(long windowStart, int shard) {
+        return LEASE_KEY_PREFIX + windowStart + ":" + shard;
+    }
+
+    private static long currentMinute() {
+        return TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+    }
+
+    private static long epochMinuteOf(ZonedDateTime dateTime) {
+        return TimeUnit.SECONDS.toMinutes(dateTime.toEpochSecond());
+    }
+
+    private static ZonedDateTime toZoned(long epochMinute) {
+        return Instant.ofEpochSecond(TimeUnit.MINUTES.toSeconds(epochMinute)).atZone(ZONE);
+    }
+
+    /**
+     * 구간 끝(분, 미포함) 직전 시각 - alarm_time은 초·마이크로초까지 저장될 수 있어 닫힌 구간 상한으로 사용
+     */
+    private static LocalTime endOfMinuteBefore(long exclusiveEndMinute) {
+        return toZoned(exclusiveEndMinute).toLocalTime().minusNanos(1000);
+    }
+
+    /**
+     * repetition_days 요일 표기 (MON, TUE, ...)
+     */
+    private static String dayOf(LocalDate date) {
+        return date.getDayOfWeek().getDisplayName(TextStyle.SHORT, Locale.ENGLISH).toUpperCase(Locale.ROOT);
+    }
+}
@@ -18,6 +18,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 /**
  * Task 컨트롤러
@@ -148,9 +149,10 @@ public class TaskController {
      * HTTP : POST
      * EndPoint : /api/v1/ai/goals
      * 언어별 지원: Accept-Language 헤더 (ko, en 지원, 기본값: ko)
+     * AI 응답을 기다리는 동안 요청 스레드를 반납하도록 비동기로 응답
      */
     @PostMapping(Routes.AI_GOALS)
-    public ResponseEntity<GoalAnalysisResponseDto> analyzeGoalAndGetRecommendations(
+    public CompletableFuture<ResponseEntity<GoalAnalysisResponseDto>> analyzeGoalAndGetRecommendations(
             @RequestBody GoalAnalysisRequestDto request,
             @RequestHeader(value = "Accept-Language", required = false, defaultValue = "ko") String acceptLanguage) {
     
@@ -160,12 +162,12 @@ public class TaskController {
         // Accept-Language 헤더에서 언어 코드 추출 (en, ko 지원)
         String languageCode = extractLanguageCode(acceptLanguage);
         
-        GoalAnalysisResponseDto response = taskService.analyzeAndRecommendTasks(request, languageCode);
-        
-        log.info("AI 목표 분석 응답 완료 - language: {}, recommendedTasksCount: {}", 
-                languageCode, response.getRecommendedTasks().size());
-    
-        return ResponseEntity.ok(response);
+        return taskService.analyzeAndRecommendTasksAsync(request, languageCode)
+                .thenApply(response -> {
+                    log.info("AI 목표 분석 응답 완료 - language: {}, recommendedTasksCount: {}", 
+                            languageCode, response.getRecommendedTasks().size());
+                    return ResponseEntity.ok(response);
+                });
     }
 
     /** 루틴 설정
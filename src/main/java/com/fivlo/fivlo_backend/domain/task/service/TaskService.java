@@ -2,11 +2,13 @@ package com.fivlo.fivlo_backend.domain.task.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fivlo.fivlo_backend.common.ai.AiUnavailableException;
 import com.fivlo.fivlo_backend.common.ai.GeminiService;
 import com.fivlo.fivlo_backend.common.ai.dto.AITaskDto;
 import com.fivlo.fivlo_backend.common.ai.dto.AddAITaskRequestDto;
 import com.fivlo.fivlo_backend.common.ai.dto.GoalAnalysisRequestDto;
 import com.fivlo.fivlo_backend.common.ai.dto.GoalAnalysisResponseDto;
+import com.fivlo.fivlo_backend.common.ai.dto.RecommendedTaskDto;
 import com.fivlo.fivlo_backend.domain.category.entity.Category;
 import com.fivlo.fivlo_backend.domain.category.repository.CategoryRepository;
 import com.fivlo.fivlo_backend.domain.task.dto.*;
@@ -26,8 +28,13 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 
 /**
@@ -254,13 +261,105 @@ public class TaskService {
      */
     @Transactional(readOnly = true)
     public GoalAnalysisResponseDto analyzeAndRecommendTasks(GoalAnalysisRequestDto requestDto, String languageCode) {
-        String jsonResponse = geminiService.analyzeGoalAndRecommendTasks(
+        String jsonResponse;
+        try {
+            jsonResponse = geminiService.analyzeGoalAndRecommendTasks(
+                    requestDto.getGoalContent(),
+                    requestDto.getGoalType(),
+                    requestDto.getStartDate(),
+                    requestDto.getEndDate(),
+                    languageCode  // 언어 코드 추가
+            );
+        } catch (AiUnavailableException e) {
+            log.warn("AI 사용 불가 - 기본 Task 템플릿 제공: {}", e.getMessage());
+            return fallbackGoalAnalysis(requestDto, languageCode);
+        }
+        return parseGoalAnalysis(jsonResponse, languageCode);
+    }
+
+    /**
+     * API 16 / 비동기 버전: AI 호출과 파싱을 AI 전용 실행기에서 수행 (DB 조회 없음)
+     */
+    public CompletableFuture<GoalAnalysisResponseDto> analyzeAndRecommendTasksAsync(GoalAnalysisRequestDto requestDto, String languageCode) {
+        return geminiService.analyzeGoalAndRecommendTasksAsync(
                 requestDto.getGoalContent(),
                 requestDto.getGoalType(),
                 requestDto.getStartDate(),
                 requestDto.getEndDate(),
-                languageCode  // 언어 코드 추가
-        );
+                languageCode
+        ).thenApply(jsonResponse -> parseGoalAnalysis(jsonResponse, languageCode))
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof AiUnavailableException) {
+                        log.warn("AI 사용 불가 - 기본 Task 템플릿 제공: {}", cause.getMessage());
+                        return fallbackGoalAnalysis(requestDto, languageCode);
+                    }
+                    throw e instanceof CompletionException completionException
+                            ? completionException : new CompletionException(e);
+                });
+    }
+
+    /**
+     * AI를 사용할 수 없을 때의 기본 Task 추천 (AI 프롬프트와 같은 규칙으로 개수/날짜 결정)
+     * - DEFINITE: 기간 1주당 1개(3~10개), 시작일~종료일 균등 분배, end_date = 종료일
+     * - INDEFINITE: 매주 반복할 3개, 오늘 시작, end_date = null
+     */
+    private GoalAnalysisResponseDto fallbackGoalAnalysis(GoalAnalysisRequestDto requestDto, String languageCode) {
+        boolean english = "en".equalsIgnoreCase(languageCode);
+        List<RecommendedTaskDto> tasks = new ArrayList<>();
+
+        LocalDate startDate = parseDateOrNull(requestDto.getStartDate());
+        LocalDate endDate = parseDateOrNull(requestDto.getEndDate());
+        if ("DEFINITE".equalsIgnoreCase(requestDto.getGoalType()) && startDate != null && endDate != null
+                && !endDate.isBefore(startDate)) {
+            long daysBetween = ChronoUnit.DAYS.between(startDate, endDate);
+            int taskCount = Math.max(3, Math.min(10, (int) (daysBetween / 7)));
+            for (int i = 0; i < taskCount; i++) {
+                String content;
+                if (i == 0) {
+                    content = english ? "Make a plan" : "계획 세우기";
+                } else if (i == taskCount - 1) {
+                    content = english ? "Final review" : "마무리 점검";
+                } else {
+                    content = english ? "Practice #" + i : "실천 " + i + "회차";
+                }
+                LocalDate dueDate = startDate.plusDays(daysBetween * i / (taskCount - 1));
+                tasks.add(recommendedTask(content, dueDate.toString(), endDate.toString()));
+            }
+        } else {
+            String today = LocalDate.now().toString();
+            List<String> contents = english
+                    ? List.of("Make a plan", "Practice steadily", "Weekly review")
+                    : List.of("계획 세우기", "꾸준히 실천하기", "주간 돌아보기");
+            contents.forEach(content -> tasks.add(recommendedTask(content, today, null)));
+        }
+
+        GoalAnalysisResponseDto response = new GoalAnalysisResponseDto();
+        response.setRecommendedTasks(tasks);
+        return response;
+    }
+
+    private RecommendedTaskDto recommendedTask(String content, String dueDate, String endDate) {
+        RecommendedTaskDto task = new RecommendedTaskDto();
+        task.setContent(content);
+        task.setDueDate(dueDate);
+        task.setRepeatType("DAILY");
+        task.setEndDate(endDate);
+        return task;
+    }
+
+    private LocalDate parseDateOrNull(String date) {
+        if (date == null || date.isBlank()) {
+            return null;
+        }
+        try {
+            return LocalDate.parse(date);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private GoalAnalysisResponseDto parseGoalAnalysis(String jsonResponse, String languageCode) {
         log.info("AI 응답 (JSON 문자열, language={}): {}", languageCode, jsonResponse);
 
         try {
@@ -18,9 +18,15 @@ public class PredefinedTimeAttackGoals {
     @Getter
     @AllArgsConstructor
     public enum Goal {
-        OUTING_PREP("time_attack.goal.outingPrep", "외출 준비하기", "Get ready to go out"),
-        MEAL_PREP("time_attack.goal.mealPrep", "식사 준비하기", "Preparation of a meal"),
-        HOUSE_CLEANING("time_attack.goal.houseCleaning", "집 정리하기", "Cleaning up the house");
+        OUTING_PREP("time_attack.goal.outingPrep", "외출 준비하기", "Get ready to go out",
+                List.of("세수하고 양치하기", "옷 갈아입기", "머리 정리하기", "소지품 챙기기"),
+                List.of("Wash up and brush teeth", "Get dressed", "Do your hair", "Pack your belongings")),
+        MEAL_PREP("time_attack.goal.mealPrep", "식사 준비하기", "Preparation of a meal",
+                List.of("재료 꺼내기", "재료 손질하기", "조리하기", "상 차리기"),
+                List.of("Take out ingredients", "Prep ingredients", "Cook", "Set the table")),
+        HOUSE_CLEANING("time_attack.goal.houseCleaning", "집 정리하기", "Cleaning up the house",
+                List.of("물건 제자리에 두기", "먼지 털기", "바닥 청소하기", "쓰레기 버리기"),
+                List.of("Put things back in place", "Dust surfaces", "Clean the floor", "Take out the trash"));
 
         /** i18n 키 */
         private final String nameKey;
@@ -28,8 +34,24 @@ public class PredefinedTimeAttackGoals {
         private final String koreanName;
         /** 영어 표시명 (참고용) */
         private final String englishName;
+        /** AI를 사용할 수 없을 때 제공하는 기본 단계 (한국어) */
+        private final List<String> koreanFallbackSteps;
+        /** AI를 사용할 수 없을 때 제공하는 기본 단계 (영어) */
+        private final List<String> englishFallbackSteps;
     }
 
+    /**
+     * 목적 카탈로그 버전 (nameKey 목록에서 계산)
+     * 목적을 추가/변경하면 값이 바뀌어 기존 사용자도 다음 목록 조회 때 한 번 다시 채워진다.
+     */
+    private static final String CATALOG_VERSION = Integer.toHexString(
+            String.join(",", Arrays.stream(Goal.values()).map(Goal::getNameKey).sorted().toList()).hashCode());
+
+    /** 사용자 추가 목적용 기본 단계 (한국어) */
+    private static final List<String> DEFAULT_KOREAN_STEPS = List.of("준비하기", "진행하기", "마무리하기");
+    /** 사용자 추가 목적용 기본 단계 (영어) */
+    private static final List<String> DEFAULT_ENGLISH_STEPS = List.of("Get ready", "Work on it", "Wrap up");
+
     /**
      * 모든 미리 정의된 목적 목록 반환
      */
@@ -37,6 +59,13 @@ public class PredefinedTimeAttackGoals {
         return Arrays.asList(Goal.values());
     }
 
+    /**
+     * 목적 카탈로그 버전
+     */
+    public static String getCatalogVersion() {
+        return CATALOG_VERSION;
+    }
+
     /**
      * 특정 nameKey가 미리 정의된 목적인지 확인
      */
@@ -54,4 +83,17 @@ public class PredefinedTimeAttackGoals {
                 .findFirst()
                 .orElse(null);
     }
+
+    /**
+     * AI를 사용할 수 없을 때의 기본 단계 내용
+     * 미리 정의된 목적이면 목적별 템플릿, 그 외에는 공통 템플릿 (en 이외는 한국어)
+     */
+    public static List<String> getFallbackSteps(String nameKey, String languageCode) {
+        boolean english = "en".equalsIgnoreCase(languageCode);
+        Goal goal = getByNameKey(nameKey);
+        if (goal == null) {
+            return english ? DEFAULT_ENGLISH_STEPS : DEFAULT_KOREAN_STEPS;
+        }
+        return english ? goal.getEnglishFallbackSteps() : goal.getKoreanFallbackSteps();
+    }
 }
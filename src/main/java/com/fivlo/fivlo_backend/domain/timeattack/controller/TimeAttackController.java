@@ -11,12 +11,17 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import com.fivlo.fivlo_backend.security.CustomUserDetails;
 import jakarta.validation.Valid;
+import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * 타임어택 컨트롤러 (API 41-47)
@@ -30,6 +35,9 @@ public class TimeAttackController {
 
     private final TimeAttackService timeAttackService;
 
+    // 스트리밍 응답 최대 유지 시간 (AI 재시도 마감 시간보다 길게)
+    private static final long STREAM_TIMEOUT_MS = 60_000L;
+
     // ==================== 목적 관리 API (41-44) ====================
 
     /**
@@ -120,9 +128,10 @@ public class TimeAttackController {
     /**
      * API 45: AI 기반 단계 추천
      * POST /api/v1/time-attack/recommend-steps
+     * AI 호출이 필요한 경우 요청 스레드를 반납하고 비동기로 응답
      */
     @PostMapping("/recommend-steps")
-    public ResponseEntity<TimeAttackAIDto.RecommendStepsResponse> recommendSteps(
+    public CompletableFuture<ResponseEntity<TimeAttackAIDto.RecommendStepsResponse>> recommendSteps(
             @Valid @RequestBody TimeAttackAIDto.RecommendStepsRequest request,
             @RequestHeader(value = "Accept-Language", defaultValue = "ko") String acceptLanguage,
             @AuthenticationPrincipal CustomUserDetails userDetails) {
@@ -136,9 +145,51 @@ public class TimeAttackController {
         log.debug("Requesting AI step recommendation for goalId: {}, duration: {}s, language: {}, user: {}", 
                  request.getGoalId(), request.getTotalDurationInSeconds(), languageCode, userId);
         
-        TimeAttackAIDto.RecommendStepsResponse response = timeAttackService.recommendSteps(userId, request);
-        
-        return ResponseEntity.ok(response);
+        return timeAttackService.recommendStepsAsync(userId, request)
+                .thenApply(ResponseEntity::ok);
+    }
+
+    /**
+     * API 45-1: AI 기반 단계 추천 (Server-Sent Events)
+     * POST /api/v1/time-attack/recommend-steps/stream
+     * 단계가 완성될 때마다 "step" 이벤트로 전달하고, 마지막에 전체 응답을 "done" 이벤트로 전달한다.
+     * 실패 시 "error" 이벤트({"message": ...}) 후 스트림 종료.
+     */
+    @PostMapping(value = "/recommend-steps/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter recommendStepsStream(
+            @Valid @RequestBody TimeAttackAIDto.RecommendStepsRequest request,
+            @RequestHeader(value = "Accept-Language", defaultValue = "ko") String acceptLanguage,
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Long userId = userDetails.getUser().getId();
+        request.setLanguageCode(extractLanguageCode(acceptLanguage));
+
+        log.debug("Streaming AI step recommendation for goalId: {}, duration: {}s, language: {}, user: {}",
+                 request.getGoalId(), request.getTotalDurationInSeconds(), request.getLanguageCode(), userId);
+
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+        timeAttackService.recommendStepsStream(userId, request, step -> sendEvent(emitter, "step", step))
+                .whenComplete((response, e) -> {
+                    if (e == null) {
+                        sendEvent(emitter, "done", response);
+                    } else {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                        sendEvent(emitter, "error", Map.of("message", String.valueOf(cause.getMessage())));
+                    }
+                    emitter.complete();
+                });
+        return emitter;
+    }
+
+    /**
+     * SSE 이벤트 전송 (클라이언트가 연결을 끊었으면 조용히 무시 - AI 응답은 끝까지 받아 캐시됨)
+     */
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 전송 실패 (연결 종료) - event: {}, error: {}", name, e.getMessage());
+        }
     }
 
     // ==================== 세션 관리 API (46-47) ====================
@@ -164,18 +215,20 @@ public class TimeAttackController {
     }
 
     /**
-     * API 47: 타임어택 세션 기록 조회
-     * GET /api/v1/time-attack/sessions
+     * API 47: 타임어택 세션 기록 조회 (최신순)
+     * GET /api/v1/time-attack/sessions?size=20&cursor={nextCursor}
+     * 첫 요청은 cursor 없이, 이후에는 응답의 nextCursor를 그대로 전달 (page 번호 방식도 계속 지원)
      */
     @GetMapping("/sessions")
     public ResponseEntity<TimeAttackSessionDto.SessionListResponse> getSessionHistory(
             @AuthenticationPrincipal CustomUserDetails userDetails,
+            @RequestParam(required = false) String cursor,
             @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable) {
 
         Long userId = userDetails.getUser().getId();
         log.debug("Getting session history for user: {}", userId);
         
-        TimeAttackSessionDto.SessionListResponse response = timeAttackService.getSessionHistory(userId, pageable);
+        TimeAttackSessionDto.SessionListResponse response = timeAttackService.getSessionHistory(userId, cursor, pageable);
         
         return ResponseEntity.ok(response);
     }
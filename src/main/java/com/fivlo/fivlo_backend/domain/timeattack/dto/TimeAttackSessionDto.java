@@ -131,6 +131,16 @@ public class TimeAttackSessionDto {
          */
         private Long completedCount;
         
+        /**
+         * 다음 페이지 커서 (마지막 페이지면 null) - 다음 요청의 cursor 파라미터로 그대로 전달
+         */
+        private String nextCursor;
+        
+        /**
+         * 다음 페이지 존재 여부
+         */
+        private Boolean hasNext;
+        
         /**
          * 완료율 (%) - 편의를 위한 계산 필드
          */
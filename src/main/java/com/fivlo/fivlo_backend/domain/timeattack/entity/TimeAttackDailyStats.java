@@ -0,0 +1,35 @@
+package com.fivlo.fivlo_backend.domain.timeattack.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 타임어택 일자별 전체 세션 카운터 엔티티
+ * 전체/기간별 완료율을 세션 원본 대신 일자 행(기간의 일 수만큼)만 읽어 계산한다.
+ * 완료는 세션 생성일 행에 반영하므로 기존 created_at 기준 기간 통계와 의미가 같다.
+ * 갱신은 TimeAttackDailyStatsRepository.accumulate()의 upsert와 reconcile()로만 수행한다.
+ */
+@Entity
+@Table(name = "time_attack_daily_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TimeAttackDailyStats {
+
+    @Id
+    @Column(name = "stat_date")
+    private LocalDate statDate;
+
+    @Column(name = "session_count", nullable = false)
+    private Long sessionCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private Long completedCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,33 @@
+package com.fivlo.fivlo_backend.domain.timeattack.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 타임어택 사용자별 세션 카운터 엔티티
+ * 사용자의 세션 수/완료 수를 미리 유지해 완료율과 세션 기록 개수를 PK 조회 한 번으로 제공한다.
+ * 갱신은 TimeAttackUserStatsRepository.accumulate()의 upsert와 reconcile()로만 수행한다.
+ */
+@Entity
+@Table(name = "time_attack_user_stats")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TimeAttackUserStats {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "session_count", nullable = false)
+    private Long sessionCount;
+
+    @Column(name = "completed_count", nullable = false)
+    private Long completedCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
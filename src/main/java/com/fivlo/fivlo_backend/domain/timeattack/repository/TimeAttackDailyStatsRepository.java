@@ -0,0 +1,68 @@
+package com.fivlo.fivlo_backend.domain.timeattack.repository;
+
+import com.fivlo.fivlo_backend.domain.timeattack.entity.TimeAttackDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface TimeAttackDailyStatsRepository extends JpaRepository<TimeAttackDailyStats, LocalDate> {
+
+    /**
+     * 기간 합계 [totalSessions, completedSessions] (행 수 = 기간의 일 수)
+     */
+    @Query("SELECT COALESCE(SUM(d.sessionCount), 0), COALESCE(SUM(d.completedCount), 0) " +
+           "FROM TimeAttackDailyStats d WHERE d.statDate >= :startDate AND d.statDate <= :endDate")
+    List<Object[]> sumByDateRange(@Param("startDate") LocalDate startDate,
+                                  @Param("endDate") LocalDate endDate);
+
+    /**
+     * 전체 합계 [totalSessions, completedSessions]
+     */
+    @Query("SELECT COALESCE(SUM(d.sessionCount), 0), COALESCE(SUM(d.completedCount), 0) FROM TimeAttackDailyStats d")
+    List<Object[]> sumAll();
+
+    /**
+     * 카운터 증분 반영 (upsert)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO time_attack_daily_stats (stat_date, session_count, completed_count, updated_at) " +
+                   "VALUES (:statDate, :sessionDelta, :completedDelta, now()) " +
+                   "ON CONFLICT (stat_date) DO UPDATE SET " +
+                   "session_count = time_attack_daily_stats.session_count + EXCLUDED.session_count, " +
+                   "completed_count = time_attack_daily_stats.completed_count + EXCLUDED.completed_count, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    void accumulate(@Param("statDate") LocalDate statDate,
+                    @Param("sessionDelta") long sessionDelta,
+                    @Param("completedDelta") long completedDelta);
+
+    /**
+     * 세션 원본 기준으로 카운터 재계산 - 값이 달랐던 행 수 반환
+     */
+    @Modifying
+    @Query(value = "INSERT INTO time_attack_daily_stats (stat_date, session_count, completed_count, updated_at) " +
+                   "SELECT CAST(s.created_at AS DATE), COUNT(*), COUNT(*) FILTER (WHERE s.is_completed), now() " +
+                   "FROM time_attack_sessions s GROUP BY CAST(s.created_at AS DATE) " +
+                   "ON CONFLICT (stat_date) DO UPDATE SET " +
+                   "session_count = EXCLUDED.session_count, " +
+                   "completed_count = EXCLUDED.completed_count, " +
+                   "updated_at = now() " +
+                   "WHERE time_attack_daily_stats.session_count <> EXCLUDED.session_count " +
+                   "OR time_attack_daily_stats.completed_count <> EXCLUDED.completed_count",
+           nativeQuery = true)
+    int reconcile();
+
+    /**
+     * 세션이 하나도 남지 않은 날짜의 카운터 삭제 (탈퇴 사용자 세션 삭제 등)
+     */
+    @Modifying
+    @Query(value = "DELETE FROM time_attack_daily_stats d " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM time_attack_sessions s " +
+                   "WHERE s.created_at >= d.stat_date AND s.created_at < d.stat_date + 1)",
+           nativeQuery = true)
+    int deleteOrphans();
+}
@@ -1,10 +1,11 @@
 package com.fivlo.fivlo_backend.domain.timeattack.repository;
 
 import com.fivlo.fivlo_backend.domain.timeattack.entity.TimeAttackSession;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
@@ -13,9 +14,36 @@ import java.util.List;
 @Repository
 public interface TimeAttackSessionRepository extends JpaRepository<TimeAttackSession, Long> {
 
-    // 페이지네이션/정렬은 Pageable로 받기 (컨트롤러 @PageableDefault 사용)
-    @EntityGraph(attributePaths = {"steps", "timeAttackGoal"})
-    Page<TimeAttackSession> findByUser_Id(Long userId, Pageable pageable);
+    // ==================== 세션 기록 조회 (2단계 페이지네이션) ====================
+    // 컬렉션(steps) fetch join + 페이지네이션은 Hibernate가 메모리에서 limit을 적용하므로(HHH90003004)
+    // 1) 세션 ID만 (created_at DESC, id DESC)로 페이지 조회 → 2) ID로 세션+목적, 단계를 따로 일괄 조회
+    // 정렬은 쿼리에 고정되어 있으므로 Pageable은 정렬 없이(PageRequest.of(page, size)) 넘길 것
+
+    /**
+     * 첫 페이지 (또는 커서 없이 page 번호로 요청한 구 클라이언트용 오프셋 조회)
+     */
+    @Query("SELECT s.id FROM TimeAttackSession s " +
+           "WHERE s.user.id = :userId " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Long> findHistoryIds(@Param("userId") Long userId, Pageable pageable);
+
+    /**
+     * 커서 이후 페이지 (키셋) - 마지막으로 받은 (createdAt, id) 다음부터
+     */
+    @Query("SELECT s.id FROM TimeAttackSession s " +
+           "WHERE s.user.id = :userId " +
+           "AND (s.createdAt < :createdAt OR (s.createdAt = :createdAt AND s.id < :id)) " +
+           "ORDER BY s.createdAt DESC, s.id DESC")
+    List<Long> findHistoryIdsAfter(@Param("userId") Long userId,
+                                   @Param("createdAt") LocalDateTime createdAt,
+                                   @Param("id") Long id,
+                                   Pageable pageable);
+
+    /**
+     * ID 목록의 세션 + 목적 조회 (ToOne fetch join이라 행 수가 늘지 않음, 순서는 호출 측에서 복원)
+     */
+    @Query("SELECT s FROM TimeAttackSession s JOIN FETCH s.timeAttackGoal WHERE s.id IN :ids")
+    List<TimeAttackSession> findAllWithGoalByIdIn(@Param("ids") List<Long> ids);
 
     // 리스트 용 정렬 메서드가 따로 필요하면 유지
     List<TimeAttackSession> findByUser_IdOrderByCreatedAtDesc(Long userId);
@@ -51,47 +79,4 @@ public interface TimeAttackSessionRepository extends JpaRepository<TimeAttackSes
         Long timeAttackGoalId, 
         Integer totalDurationInSeconds
     );
-    
-    // ==================== 성능 측정용 통계 쿼리 ====================
-    
-    /**
-     * 전체 완료율 조회 (자소서 검증용)
-     */
-    @org.springframework.data.jpa.repository.Query(
-        "SELECT " +
-        "COUNT(s) as totalSessions, " +
-        "SUM(CASE WHEN s.isCompleted = true THEN 1 ELSE 0 END) as completedSessions, " +
-        "CAST(SUM(CASE WHEN s.isCompleted = true THEN 1.0 ELSE 0.0 END) * 100.0 / COUNT(s) AS double) as completionRate " +
-        "FROM TimeAttackSession s"
-    )
-    java.util.Map<String, Object> getCompletionStatistics();
-    
-    /**
-     * 사용자별 완료율 조회
-     */
-    @org.springframework.data.jpa.repository.Query(
-        "SELECT " +
-        "COUNT(s) as totalSessions, " +
-        "SUM(CASE WHEN s.isCompleted = true THEN 1 ELSE 0 END) as completedSessions, " +
-        "CAST(SUM(CASE WHEN s.isCompleted = true THEN 1.0 ELSE 0.0 END) * 100.0 / COUNT(s) AS double) as completionRate " +
-        "FROM TimeAttackSession s " +
-        "WHERE s.user.id = :userId"
-    )
-    java.util.Map<String, Object> getUserCompletionStatistics(@org.springframework.data.repository.query.Param("userId") Long userId);
-    
-    /**
-     * 기간별 완료율 조회
-     */
-    @org.springframework.data.jpa.repository.Query(
-        "SELECT " +
-        "COUNT(s) as totalSessions, " +
-        "SUM(CASE WHEN s.isCompleted = true THEN 1 ELSE 0 END) as completedSessions, " +
-        "CAST(SUM(CASE WHEN s.isCompleted = true THEN 1.0 ELSE 0.0 END) * 100.0 / COUNT(s) AS double) as completionRate " +
-        "FROM TimeAttackSession s " +
-        "WHERE s.createdAt BETWEEN :startDate AND :endDate"
-    )
-    java.util.Map<String, Object> getCompletionStatisticsByDateRange(
-        @org.springframework.data.repository.query.Param("startDate") LocalDateTime startDate,
-        @org.springframework.data.repository.query.Param("endDate") LocalDateTime endDate
-    );
 }
@@ -0,0 +1,50 @@
+package com.fivlo.fivlo_backend.domain.timeattack.repository;
+
+import com.fivlo.fivlo_backend.domain.timeattack.entity.TimeAttackUserStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TimeAttackUserStatsRepository extends JpaRepository<TimeAttackUserStats, Long> {
+
+    /**
+     * 카운터 증분 반영 (upsert)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO time_attack_user_stats (user_id, session_count, completed_count, updated_at) " +
+                   "VALUES (:userId, :sessionDelta, :completedDelta, now()) " +
+                   "ON CONFLICT (user_id) DO UPDATE SET " +
+                   "session_count = time_attack_user_stats.session_count + EXCLUDED.session_count, " +
+                   "completed_count = time_attack_user_stats.completed_count + EXCLUDED.completed_count, " +
+                   "updated_at = now()",
+           nativeQuery = true)
+    void accumulate(@Param("userId") Long userId,
+                    @Param("sessionDelta") long sessionDelta,
+                    @Param("completedDelta") long completedDelta);
+
+    /**
+     * 세션 원본 기준으로 카운터 재계산 - 값이 달랐던 행 수 반환
+     */
+    @Modifying
+    @Query(value = "INSERT INTO time_attack_user_stats (user_id, session_count, completed_count, updated_at) " +
+                   "SELECT s.user_id, COUNT(*), COUNT(*) FILTER (WHERE s.is_completed), now() " +
+                   "FROM time_attack_sessions s GROUP BY s.user_id " +
+                   "ON CONFLICT (user_id) DO UPDATE SET " +
+                   "session_count = EXCLUDED.session_count, " +
+                   "completed_count = EXCLUDED.completed_count, " +
+                   "updated_at = now() " +
+                   "WHERE time_attack_user_stats.session_count <> EXCLUDED.session_count " +
+                   "OR time_attack_user_stats.completed_count <> EXCLUDED.completed_count",
+           nativeQuery = true)
+    int reconcile();
+
+    /**
+     * 세션이 하나도 남지 않은 사용자의 카운터 삭제
+     */
+    @Modifying
+    @Query(value = "DELETE FROM time_attack_user_stats u " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM time_attack_sessions s WHERE s.user_id = u.user_id)",
+           nativeQuery = true)
+    int deleteOrphans();
+}
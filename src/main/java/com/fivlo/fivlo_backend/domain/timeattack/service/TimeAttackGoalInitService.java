@@ -4,30 +4,83 @@ import com.fivlo.fivlo_backend.domain.timeattack.constants.PredefinedTimeAttackG
 import com.fivlo.fivlo_backend.domain.timeattack.entity.TimeAttackGoal;
 import com.fivlo.fivlo_backend.domain.timeattack.repository.TimeAttackGoalRepository;
 import com.fivlo.fivlo_backend.domain.user.entity.User;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.Set;
 /**
  * 타임어택 목적 초기화 서비스
  * 사용자에게 미리 정의된 목적들을 자동으로 생성하는 역할
+ *
+ * 사용자당 카탈로그 버전마다 한 번만 채운다.
+ * 채운 뒤 "timeattack:goals-seeded:{userId}" = 카탈로그 버전을 Redis에 기록하고 인스턴스 로컬에도 기억하므로,
+ * 이후 목록 조회는 DB 확인이나 별도 트랜잭션 없이 목록 쿼리 하나만 실행한다.
+ * (미리 정의된 목적은 삭제할 수 없으므로 한 번 채운 사용자는 카탈로그가 바뀔 때까지 다시 확인할 필요가 없다)
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 @Transactional
 public class TimeAttackGoalInitService {
 
+    private static final String SEEDED_KEY_PREFIX = "timeattack:goals-seeded:";
+
     private final TimeAttackGoalRepository timeAttackGoalRepository;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final Duration markerTtl;
+
+    // userId → 채운 카탈로그 버전 (Redis 왕복도 생략)
+    private final Cache<Long, String> seededUsers;
+
+    public TimeAttackGoalInitService(TimeAttackGoalRepository timeAttackGoalRepository,
+                                     @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> stringRedisTemplate,
+                                     @Value("${timeattack.goal-seed.marker-ttl-days:30}") long markerTtlDays,
+                                     @Value("${timeattack.goal-seed.local-max-users:100000}") long localMaxUsers) {
+        this.timeAttackGoalRepository = timeAttackGoalRepository;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.markerTtl = Duration.ofDays(markerTtlDays);
+        this.seededUsers = Caffeine.newBuilder()
+                .maximumSize(localMaxUsers)
+                .expireAfterAccess(Duration.ofHours(12))
+                .build();
+    }
+
+    /**
+     * 현재 카탈로그 버전으로 이미 채운 사용자인지 확인 (로컬 → Redis 순)
+     * Redis 오류 시 false (ensureUserHasPredefinedGoals가 DB 기준으로 다시 확인하므로 안전)
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public boolean isSeeded(Long userId) {
+        String version = PredefinedTimeAttackGoals.getCatalogVersion();
+        if (version.equals(seededUsers.getIfPresent(userId))) {
+            return true;
+        }
+        try {
+            if (version.equals(stringRedisTemplate.opsForValue().get(SEEDED_KEY_PREFIX + userId))) {
+                seededUsers.put(userId, version);
+                return true;
+            }
+        } catch (Exception e) {
+            log.debug("목적 초기화 마커 조회 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+        return false;
+    }
 
     /**
      * 사용자에게 미리 정의된 목적들이 있는지 확인하고, 없으면 자동 생성
-     * 
+     * 커밋 후 카탈로그 버전 마커를 남긴다 (호출 측은 isSeeded가 false일 때만 호출)
+     *
      * @param user 목적을 생성할 사용자
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
@@ -51,15 +104,24 @@ public class TimeAttackGoalInitService {
         if (!missingGoals.isEmpty()) {
             timeAttackGoalRepository.saveAll(missingGoals);
             log.info("Created {} predefined goals for user: {}", missingGoals.size(), user.getId());
-            
+
             // 생성된 목적들 로깅
-            missingGoals.forEach(goal -> 
-                log.debug("Created predefined goal: {} (nameKey: {}) for user: {}", 
+            missingGoals.forEach(goal ->
+                log.debug("Created predefined goal: {} (nameKey: {}) for user: {}",
                          goal.getId(), goal.getNameKey(), user.getId())
             );
         } else {
             log.debug("User {} already has all predefined goals", user.getId());
         }
+
+        // 커밋이 끝난 뒤에만 마커 기록 (롤백되면 다음 조회에서 다시 채움)
+        Long userId = user.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                markSeeded(userId);
+            }
+        });
     }
 
     /**
@@ -69,6 +131,19 @@ public class TimeAttackGoalInitService {
         return PredefinedTimeAttackGoals.isPredefinedGoal(nameKey);
     }
 
+    /**
+     * 카탈로그 버전 마커 기록 (Redis 실패 시 로컬만 - 다른 인스턴스는 DB 기준으로 한 번 더 확인)
+     */
+    private void markSeeded(Long userId) {
+        String version = PredefinedTimeAttackGoals.getCatalogVersion();
+        seededUsers.put(userId, version);
+        try {
+            stringRedisTemplate.opsForValue().set(SEEDED_KEY_PREFIX + userId, version, markerTtl);
+        } catch (Exception e) {
+            log.debug("목적 초기화 마커 저장 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
     /**
      * 미리 정의된 목적 엔티티 생성
      */
@@ -81,4 +156,3 @@ public class TimeAttackGoalInitService {
                 .build();
     }
 }
-
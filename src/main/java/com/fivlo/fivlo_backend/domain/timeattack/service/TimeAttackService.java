@@ -2,8 +2,12 @@ package com.fivlo.fivlo_backend.domain.timeattack.service;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fivlo.fivlo_backend.common.ai.AiExecutor;
+import com.fivlo.fivlo_backend.common.ai.AiUnavailableException;
 import com.fivlo.fivlo_backend.common.ai.GeminiService;
+import com.fivlo.fivlo_backend.common.ai.StreamingJsonArrayParser;
 import com.fivlo.fivlo_backend.common.ai.dto.AITimeAttackResponse;
+import com.fivlo.fivlo_backend.common.util.KeysetCursor;
 import com.fivlo.fivlo_backend.domain.timeattack.dto.TimeAttackAIDto;
 import com.fivlo.fivlo_backend.domain.timeattack.dto.TimeAttackGoalDto;
 import com.fivlo.fivlo_backend.domain.timeattack.dto.TimeAttackSessionDto;
@@ -11,6 +15,7 @@ import com.fivlo.fivlo_backend.domain.timeattack.dto.TimeAttackStepDto;
 import com.fivlo.fivlo_backend.domain.timeattack.entity.TimeAttackGoal;
 import com.fivlo.fivlo_backend.domain.timeattack.entity.TimeAttackSession;
 import com.fivlo.fivlo_backend.domain.timeattack.entity.TimeAttackStep;
+import com.fivlo.fivlo_backend.domain.timeattack.entity.TimeAttackUserStats;
 import com.fivlo.fivlo_backend.domain.timeattack.constants.PredefinedTimeAttackGoals;
 import com.fivlo.fivlo_backend.domain.timeattack.repository.TimeAttackGoalRepository;
 import com.fivlo.fivlo_backend.domain.timeattack.repository.TimeAttackSessionRepository;
@@ -19,13 +24,17 @@ import com.fivlo.fivlo_backend.domain.user.entity.User;
 import com.fivlo.fivlo_backend.domain.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.time.LocalDateTime;
@@ -43,6 +52,12 @@ public class TimeAttackService {
     private final GeminiService geminiService;
     private final ObjectMapper objectMapper;
     private final TimeAttackGoalInitService goalInitService;
+    private final AiExecutor aiExecutor;
+    private final TimeAttackWarmUpService warmUpService;
+    private final TimeAttackStatsService statsService;
+
+    // 스트리밍 응답에서 단계를 꺼낼 배열 필드명 (AITimeAttackResponse 별칭과 동일)
+    private static final Set<String> STEP_ARRAY_FIELDS = Set.of("recommended_steps", "recommendedSteps", "steps", "items");
 
     // ==================== 성능 측정 메트릭 ====================
     
@@ -58,15 +73,16 @@ public class TimeAttackService {
     /**
      * 사용자의 모든 타임어택 목적 조회
      * 
-     * NOTE: 미리 정의된 목적이 없으면 생성하므로 readOnly가 아님
+     * NOTE: 미리 정의된 목적은 사용자당 카탈로그 버전마다 한 번만 채움 (별도 REQUIRES_NEW 트랜잭션)
+     *       이미 채운 사용자는 목록 쿼리 하나만 실행
      */
-    @Transactional //  readOnly=false (기본값) - 목적 생성 가능
     public TimeAttackGoalDto.GoalListResponse getAllGoals(Long userId) {
         log.debug("Getting all time attack goals for user: {}", userId);
-        User user = validateUser(userId);
 
-        // 미리 정의된 목적들이 있는지 확인하고 없으면 생성
-        goalInitService.ensureUserHasPredefinedGoals(user);
+        // 아직 현재 카탈로그로 채우지 않은 사용자만 확인 후 생성
+        if (!goalInitService.isSeeded(userId)) {
+            goalInitService.ensureUserHasPredefinedGoals(validateUser(userId));
+        }
 
         List<TimeAttackGoal> goals = timeAttackGoalRepository.findByUser_IdOrderByCreatedAtDesc(userId);
         long totalCount = goals.size();
@@ -202,84 +218,30 @@ public class TimeAttackService {
             
             log.debug("Found goal: {} (ID: {}) for user: {}", goalName, request.getGoalId(), userId);
     
-            // 2. 먼저 DB에서 같은 목표+시간의 이전 세션 찾기 (사용자 수정본 우선)
-            long dbQueryStartTime = System.currentTimeMillis();
-            java.util.Optional<TimeAttackSession> recentSession = timeAttackSessionRepository
-                .findTopByUser_IdAndTimeAttackGoal_IdAndTotalDurationInSecondsOrderByCreatedAtDesc(
-                    userId,
-                    request.getGoalId(),
-                    request.getTotalDurationInSeconds()
-                );
-            long dbQueryTime = System.currentTimeMillis() - dbQueryStartTime;
-            totalDbQueryTime.addAndGet(dbQueryTime);
-            
-            // 3. 이전 세션이 있으면 → 사용자가 저장한 루틴 반환
-            if (recentSession.isPresent()) {
-                dbSessionHits.incrementAndGet(); //  DB 히트 카운트
-                TimeAttackSession session = recentSession.get();
-                List<TimeAttackStep> savedSteps = session.getSteps();
-                
-                long totalTime = System.currentTimeMillis() - methodStartTime;
-                log.info(" 이전 세션 재사용 - sessionId: {}, userId: {}, 단계 수: {}, DB 조회: {}ms, 총 소요: {}ms",
-                         session.getId(), userId, savedSteps.size(), dbQueryTime, totalTime);
-                
-                // DB에서 가져온 단계를 응답 형식으로 변환 ( 정렬 보장)
-                List<TimeAttackAIDto.RecommendedStep> steps = savedSteps.stream()
-                        .sorted(java.util.Comparator.comparingInt(TimeAttackStep::getStepOrder))  //  stepOrder 기준 정렬
-                        .map(step -> new TimeAttackAIDto.RecommendedStep(
-                                step.getContent(),
-                                step.getDurationInSeconds(),
-                                step.getStepOrder()
-                        ))
-                        .toList();
-                
-                return new TimeAttackAIDto.RecommendStepsResponse(
-                        steps,
-                        steps.size(),
-                        steps.stream().mapToInt(TimeAttackAIDto.RecommendedStep::getDurationInSeconds).sum(),
-                        "이전에 저장한 루틴을 불러왔습니다."
-                );
+            // 2~3. 이전 세션이 있으면 → 사용자가 저장한 루틴 반환
+            Optional<TimeAttackAIDto.RecommendStepsResponse> savedRoutine = findSavedRoutine(userId, request, methodStartTime);
+            if (savedRoutine.isPresent()) {
+                return savedRoutine.get();
             }
             
             // 4. 이전 세션이 없으면 → AI 호출 (GeminiService에서 자동으로 Redis 캐싱 처리)
-            dbSessionMisses.incrementAndGet(); //  DB 미스 카운트
-            log.info(" 새로운 AI 추천 시작 - goalId: {}, 이전 세션 없음, DB 조회: {}ms", request.getGoalId(), dbQueryTime);
+            recordPrecomputeDemand(goal, request);
             long aiStartTime = System.currentTimeMillis();
-            String jsonResponse = geminiService.recommendTimeAttackSteps(
-                goalName,  // ← AI에게는 실제 활동 이름 전달
-                request.getTotalDurationInSeconds(),
-                request.getLanguageCode()
-            );
-            long aiCallTime = System.currentTimeMillis() - aiStartTime;
-            log.info(" AI 호출 완료 - 소요 시간: {}ms", aiCallTime);
-    
-            // 5. JSON 파싱
-            AITimeAttackResponse aiResponse = objectMapper.readValue(jsonResponse, AITimeAttackResponse.class);
-    
-            //  AI 추천 단계에 순서 부여 (1부터 시작)
-            List<TimeAttackAIDto.RecommendedStep> steps = java.util.stream.IntStream.range(0, aiResponse.getRecommendedSteps().size())
-                    .mapToObj(i -> {
-                        var step = aiResponse.getRecommendedSteps().get(i);
-                        return new TimeAttackAIDto.RecommendedStep(
-                                step.getContent(),
-                                step.getDurationInSeconds(),
-                                i + 1  //  1부터 시작하는 순서
-                        );
-                    })
-                    .toList();
-    
-            TimeAttackAIDto.RecommendStepsResponse response = new TimeAttackAIDto.RecommendStepsResponse(
-                    steps, 
-                    steps.size(), 
-                    steps.stream().mapToInt(TimeAttackAIDto.RecommendedStep::getDurationInSeconds).sum(),
-                    "AI 단계 추천이 완료되었습니다."
-            );
-    
-            long totalTime = System.currentTimeMillis() - methodStartTime;
-            log.info(" 타임어택 단계 추천 완료 - 총 소요 시간: {}ms (AI: {}ms, 파싱: {}ms)",
-                     totalTime, aiCallTime, totalTime - aiCallTime);
-    
-            return response;
+            String jsonResponse;
+            try {
+                jsonResponse = geminiService.recommendTimeAttackSteps(
+                    goalName,  // ← AI에게는 실제 활동 이름 전달
+                    request.getTotalDurationInSeconds(),
+                    request.getLanguageCode()
+                );
+            } catch (AiUnavailableException e) {
+                // AI 장애/서킷 오픈 시 기본 단계 템플릿으로 대체
+                log.warn(" AI 사용 불가 - 기본 단계 제공, goalId: {}, 원인: {}", request.getGoalId(), e.getMessage());
+                return fallbackSteps(goal.getNameKey(), request);
+            }
+
+            // 5. JSON 파싱 및 응답 변환
+            return toRecommendStepsResponse(jsonResponse, methodStartTime, aiStartTime);
     
         } catch (Exception e) {
             long totalTime = System.currentTimeMillis() - methodStartTime;
@@ -287,6 +249,263 @@ public class TimeAttackService {
             throw new RuntimeException("AI 추천을 가져오는데 실패했습니다: " + e.getMessage());
         }
     }
+
+    /**
+     * AI 기반 단계 추천 (비동기)
+     * 목적 조회/이전 세션 재사용은 요청 스레드에서 처리하고, AI 호출과 파싱은 AI 전용 실행기에서 수행
+     */
+    public CompletableFuture<TimeAttackAIDto.RecommendStepsResponse> recommendStepsAsync(Long userId, TimeAttackAIDto.RecommendStepsRequest request) {
+        long methodStartTime = System.currentTimeMillis();
+        log.info(" 타임어택 단계 추천 시작(비동기) - userId: {}, goalId: {}, duration: {}s",
+                 userId, request.getGoalId(), request.getTotalDurationInSeconds());
+
+        TimeAttackGoal goal;
+        try {
+            validateUser(userId);
+            goal = findGoalByIdAndUserId(request.getGoalId(), userId);
+
+            Optional<TimeAttackAIDto.RecommendStepsResponse> savedRoutine = findSavedRoutine(userId, request, methodStartTime);
+            if (savedRoutine.isPresent()) {
+                return CompletableFuture.completedFuture(savedRoutine.get());
+            }
+        } catch (Exception e) {
+            log.error(" AI 추천 실패 - goalId: {}", request.getGoalId(), e);
+            return CompletableFuture.failedFuture(new RuntimeException("AI 추천을 가져오는데 실패했습니다: " + e.getMessage()));
+        }
+
+        recordPrecomputeDemand(goal, request);
+        long aiStartTime = System.currentTimeMillis();
+        return geminiService.recommendTimeAttackStepsAsync(goal.getDisplayName(), request.getTotalDurationInSeconds(), request.getLanguageCode())
+                .thenApply(jsonResponse -> {
+                    try {
+                        return toRecommendStepsResponse(jsonResponse, methodStartTime, aiStartTime);
+                    } catch (JsonProcessingException e) {
+                        throw new CompletionException(e);
+                    }
+                })
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof AiUnavailableException) {
+                        log.warn(" AI 사용 불가 - 기본 단계 제공, goalId: {}, 원인: {}", request.getGoalId(), cause.getMessage());
+                        return fallbackSteps(goal.getNameKey(), request);
+                    }
+                    long totalTime = System.currentTimeMillis() - methodStartTime;
+                    log.error(" AI 추천 실패 - goalId: {}, 소요 시간: {}ms", request.getGoalId(), totalTime, cause);
+                    throw new RuntimeException("AI 추천을 가져오는데 실패했습니다: " + cause.getMessage());
+                });
+    }
+
+    /**
+     * AI 기반 단계 추천 (스트리밍)
+     * 단계가 하나 완성될 때마다 onStep으로 전달하고, 모든 단계가 끝나면 전체 응답으로 완료되는 future를 반환한다.
+     * 이전 세션/캐시 적중/기본 템플릿 경로도 같은 방식으로 단계를 전달하므로 호출 측은 출처를 구분할 필요가 없다.
+     * onStep은 AI 전용 실행기 스레드에서 호출되며 예외를 던지지 않아야 한다.
+     */
+    public CompletableFuture<TimeAttackAIDto.RecommendStepsResponse> recommendStepsStream(
+            Long userId, TimeAttackAIDto.RecommendStepsRequest request, Consumer<TimeAttackAIDto.RecommendedStep> onStep) {
+        long methodStartTime = System.currentTimeMillis();
+        log.info(" 타임어택 단계 추천 시작(스트리밍) - userId: {}, goalId: {}, duration: {}s",
+                 userId, request.getGoalId(), request.getTotalDurationInSeconds());
+
+        TimeAttackGoal goal;
+        try {
+            validateUser(userId);
+            goal = findGoalByIdAndUserId(request.getGoalId(), userId);
+
+            Optional<TimeAttackAIDto.RecommendStepsResponse> savedRoutine = findSavedRoutine(userId, request, methodStartTime);
+            if (savedRoutine.isPresent()) {
+                savedRoutine.get().getRecommendedSteps().forEach(onStep);
+                return CompletableFuture.completedFuture(savedRoutine.get());
+            }
+        } catch (Exception e) {
+            log.error(" AI 추천 실패 - goalId: {}", request.getGoalId(), e);
+            return CompletableFuture.failedFuture(new RuntimeException("AI 추천을 가져오는데 실패했습니다: " + e.getMessage()));
+        }
+
+        recordPrecomputeDemand(goal, request);
+        return aiExecutor.submit(() -> streamStepsFromModel(goal, request, onStep, methodStartTime));
+    }
+
+    private TimeAttackAIDto.RecommendStepsResponse streamStepsFromModel(TimeAttackGoal goal, TimeAttackAIDto.RecommendStepsRequest request,
+                                                                       Consumer<TimeAttackAIDto.RecommendedStep> onStep, long methodStartTime) {
+        List<TimeAttackAIDto.RecommendedStep> steps = new ArrayList<>();
+        Consumer<AITimeAttackResponse.RecommendedStep> emit = aiStep -> {
+            TimeAttackAIDto.RecommendedStep step = new TimeAttackAIDto.RecommendedStep(
+                    aiStep.getContent(), aiStep.getDurationInSeconds(), steps.size() + 1);
+            steps.add(step);
+            if (steps.size() == 1) {
+                log.info(" 첫 단계 전달 - goalId: {}, 소요 시간: {}ms", request.getGoalId(), System.currentTimeMillis() - methodStartTime);
+            }
+            onStep.accept(step);
+        };
+
+        try {
+            StreamingJsonArrayParser<AITimeAttackResponse.RecommendedStep> parser = new StreamingJsonArrayParser<>(
+                    objectMapper, STEP_ARRAY_FIELDS, AITimeAttackResponse.RecommendedStep.class, emit);
+            boolean[] parseFailed = {false};
+
+            String jsonResponse = geminiService.streamTimeAttackSteps(
+                    goal.getDisplayName(), request.getTotalDurationInSeconds(), request.getLanguageCode(),
+                    chunk -> {
+                        if (parseFailed[0]) {
+                            return;
+                        }
+                        try {
+                            parser.feed(chunk);
+                        } catch (IOException e) {
+                            // 증분 파싱 실패 시 스트림은 끝까지 받고 전체 응답으로 나머지 단계를 전달
+                            parseFailed[0] = true;
+                            log.warn(" 스트리밍 단계 파싱 실패 - goalId: {}, error: {}", request.getGoalId(), e.getMessage());
+                        }
+                    });
+            if (!parseFailed[0]) {
+                parser.finish();
+            }
+
+            // 증분 파서가 놓친 단계가 있으면 전체 응답에서 이어서 전달
+            List<AITimeAttackResponse.RecommendedStep> allSteps =
+                    objectMapper.readValue(jsonResponse, AITimeAttackResponse.class).getRecommendedSteps();
+            if (allSteps != null) {
+                allSteps.stream().skip(steps.size()).forEach(emit);
+            }
+        } catch (AiUnavailableException e) {
+            if (!steps.isEmpty()) {
+                throw new RuntimeException("AI 추천이 중간에 중단되었습니다: " + e.getMessage(), e);
+            }
+            log.warn(" AI 사용 불가 - 기본 단계 제공, goalId: {}, 원인: {}", request.getGoalId(), e.getMessage());
+            TimeAttackAIDto.RecommendStepsResponse fallback = fallbackSteps(goal.getNameKey(), request);
+            fallback.getRecommendedSteps().forEach(onStep);
+            return fallback;
+        } catch (IOException e) {
+            throw new RuntimeException("AI 추천을 가져오는데 실패했습니다: " + e.getMessage(), e);
+        }
+
+        log.info(" 타임어택 단계 추천 완료(스트리밍) - 단계 수: {}, 총 소요 시간: {}ms",
+                 steps.size(), System.currentTimeMillis() - methodStartTime);
+        return new TimeAttackAIDto.RecommendStepsResponse(
+                steps,
+                steps.size(),
+                steps.stream().mapToInt(step -> step.getDurationInSeconds() != null ? step.getDurationInSeconds() : 0).sum(),
+                "AI 단계 추천이 완료되었습니다."
+        );
+    }
+
+    /**
+     * DB에서 같은 목표+시간의 이전 세션 조회 (사용자 수정본 우선)
+     * 있으면 저장된 단계를 응답 형식으로 변환
+     */
+    private Optional<TimeAttackAIDto.RecommendStepsResponse> findSavedRoutine(Long userId, TimeAttackAIDto.RecommendStepsRequest request, long methodStartTime) {
+        long dbQueryStartTime = System.currentTimeMillis();
+        Optional<TimeAttackSession> recentSession = timeAttackSessionRepository
+            .findTopByUser_IdAndTimeAttackGoal_IdAndTotalDurationInSecondsOrderByCreatedAtDesc(
+                userId,
+                request.getGoalId(),
+                request.getTotalDurationInSeconds()
+            );
+        long dbQueryTime = System.currentTimeMillis() - dbQueryStartTime;
+        totalDbQueryTime.addAndGet(dbQueryTime);
+
+        if (recentSession.isEmpty()) {
+            dbSessionMisses.incrementAndGet(); //  DB 미스 카운트
+            log.info(" 새로운 AI 추천 시작 - goalId: {}, 이전 세션 없음, DB 조회: {}ms", request.getGoalId(), dbQueryTime);
+            return Optional.empty();
+        }
+
+        dbSessionHits.incrementAndGet(); //  DB 히트 카운트
+        TimeAttackSession session = recentSession.get();
+        List<TimeAttackStep> savedSteps = session.getSteps();
+        
+        long totalTime = System.currentTimeMillis() - methodStartTime;
+        log.info(" 이전 세션 재사용 - sessionId: {}, userId: {}, 단계 수: {}, DB 조회: {}ms, 총 소요: {}ms",
+                 session.getId(), userId, savedSteps.size(), dbQueryTime, totalTime);
+        
+        // DB에서 가져온 단계를 응답 형식으로 변환 ( 정렬 보장)
+        List<TimeAttackAIDto.RecommendedStep> steps = savedSteps.stream()
+                .sorted(java.util.Comparator.comparingInt(TimeAttackStep::getStepOrder))  //  stepOrder 기준 정렬
+                .map(step -> new TimeAttackAIDto.RecommendedStep(
+                        step.getContent(),
+                        step.getDurationInSeconds(),
+                        step.getStepOrder()
+                ))
+                .toList();
+        
+        return Optional.of(new TimeAttackAIDto.RecommendStepsResponse(
+                steps,
+                steps.size(),
+                steps.stream().mapToInt(TimeAttackAIDto.RecommendedStep::getDurationInSeconds).sum(),
+                "이전에 저장한 루틴을 불러왔습니다."
+        ));
+    }
+
+    /**
+     * 미리 정의된 목적의 AI 요청을 사전 계산 커버리지 리포트에 기록
+     */
+    private void recordPrecomputeDemand(TimeAttackGoal goal, TimeAttackAIDto.RecommendStepsRequest request) {
+        if (Boolean.TRUE.equals(goal.getIsPredefined())) {
+            warmUpService.recordDemand(goal.getNameKey(), request.getTotalDurationInSeconds(), request.getLanguageCode());
+        }
+    }
+
+    /**
+     * AI를 사용할 수 없을 때의 기본 단계 추천
+     * 목적별 템플릿에 총 시간을 균등 분배하고 나머지 초는 마지막 단계에 더한다 (합계 = 요청 시간).
+     */
+    private TimeAttackAIDto.RecommendStepsResponse fallbackSteps(String nameKey, TimeAttackAIDto.RecommendStepsRequest request) {
+        List<String> contents = PredefinedTimeAttackGoals.getFallbackSteps(nameKey, request.getLanguageCode());
+        int totalDuration = request.getTotalDurationInSeconds() != null ? Math.max(0, request.getTotalDurationInSeconds()) : 0;
+        int baseDuration = totalDuration / contents.size();
+        int remainder = totalDuration % contents.size();
+
+        List<TimeAttackAIDto.RecommendedStep> steps = IntStream.range(0, contents.size())
+                .mapToObj(i -> new TimeAttackAIDto.RecommendedStep(
+                        contents.get(i),
+                        baseDuration + (i == contents.size() - 1 ? remainder : 0),
+                        i + 1
+                ))
+                .toList();
+
+        return new TimeAttackAIDto.RecommendStepsResponse(
+                steps,
+                steps.size(),
+                totalDuration,
+                "AI 추천을 일시적으로 사용할 수 없어 기본 단계를 제공합니다."
+        );
+    }
+
+    /**
+     * AI 응답 JSON을 단계 추천 응답으로 변환
+     */
+    private TimeAttackAIDto.RecommendStepsResponse toRecommendStepsResponse(String jsonResponse, long methodStartTime, long aiStartTime) throws JsonProcessingException {
+        long aiCallTime = System.currentTimeMillis() - aiStartTime;
+        log.info(" AI 호출 완료 - 소요 시간: {}ms", aiCallTime);
+
+        AITimeAttackResponse aiResponse = objectMapper.readValue(jsonResponse, AITimeAttackResponse.class);
+
+        //  AI 추천 단계에 순서 부여 (1부터 시작)
+        List<TimeAttackAIDto.RecommendedStep> steps = java.util.stream.IntStream.range(0, aiResponse.getRecommendedSteps().size())
+                .mapToObj(i -> {
+                    var step = aiResponse.getRecommendedSteps().get(i);
+                    return new TimeAttackAIDto.RecommendedStep(
+                            step.getContent(),
+                            step.getDurationInSeconds(),
+                            i + 1  //  1부터 시작하는 순서
+                    );
+                })
+                .toList();
+
+        TimeAttackAIDto.RecommendStepsResponse response = new TimeAttackAIDto.RecommendStepsResponse(
+                steps, 
+                steps.size(), 
+                steps.stream().mapToInt(TimeAttackAIDto.RecommendedStep::getDurationInSeconds).sum(),
+                "AI 단계 추천이 완료되었습니다."
+        );
+
+        long totalTime = System.currentTimeMillis() - methodStartTime;
+        log.info(" 타임어택 단계 추천 완료 - 총 소요 시간: {}ms (AI: {}ms, 파싱: {}ms)",
+                 totalTime, aiCallTime, totalTime - aiCallTime);
+
+        return response;
+    }
         
 
     // ==================== 세션 관리 ====================
@@ -393,6 +612,7 @@ public class TimeAttackService {
                 .build();
 
         TimeAttackSession savedSession = timeAttackSessionRepository.save(session);
+        statsService.recordSessionCreated(userId, savedSession);
 
         // 단계 생성
         List<TimeAttackStep> steps = IntStream.range(0, request.getSteps().size())
@@ -424,32 +644,85 @@ public class TimeAttackService {
     }
 
     /**
-     * 타임어택 세션 기록 조회
+     * 타임어택 세션 기록 조회 (2단계 페이지네이션)
+     * 1) 세션 ID만 한 페이지 조회 (커서가 있으면 키셋, 없으면 page 번호 오프셋)
+     * 2) 세션+목적, 단계를 ID IN으로 각각 일괄 조회 - 컬렉션 fetch join 없이 DB에서 limit 적용
+     *
+     * @param cursor 이전 응답의 nextCursor (없으면 pageable의 page 번호 기준)
      */
-    public TimeAttackSessionDto.SessionListResponse getSessionHistory(Long userId, Pageable pageable) {
-        log.debug("Getting session history for user: {}", userId);
+    public TimeAttackSessionDto.SessionListResponse getSessionHistory(Long userId, String cursor, Pageable pageable) {
+        log.debug("Getting session history for user: {}, cursor: {}", userId, cursor);
         
         validateUser(userId);
-        Page<TimeAttackSession> sessionPage = timeAttackSessionRepository.findByUser_Id(userId, pageable);
 
-        List<TimeAttackSessionDto.SessionResponse> sessionResponses = sessionPage.getContent().stream()
+        int size = pageable.getPageSize();
+        // 개수는 사용자별 카운터 행에서 (세션 COUNT 없이 PK 조회 1건)
+        TimeAttackUserStats userStats = statsService.findUserStats(userId);
+        long totalCount = userStats != null ? userStats.getSessionCount() : 0L;
+        long completedCount = userStats != null ? userStats.getCompletedCount() : 0L;
+
+        List<Long> pageIds;
+        boolean hasNext;
+        if (cursor != null && !cursor.isBlank()) {
+            // 1건 더 조회해서 다음 페이지 존재 여부 판단
+            KeysetCursor position = KeysetCursor.decode(cursor);
+            pageIds = timeAttackSessionRepository.findHistoryIdsAfter(
+                    userId, position.createdAt(), position.id(), PageRequest.of(0, size + 1));
+            hasNext = pageIds.size() > size;
+            if (hasNext) {
+                pageIds = pageIds.subList(0, size);
+            }
+        } else {
+            // 정렬은 쿼리에 고정 (ORDER BY created_at DESC, id DESC)
+            PageRequest pageRequest = PageRequest.of(pageable.getPageNumber(), size);
+            pageIds = timeAttackSessionRepository.findHistoryIds(userId, pageRequest);
+            hasNext = pageRequest.getOffset() + pageIds.size() < totalCount;
+        }
+
+        List<TimeAttackSessionDto.SessionResponse> sessionResponses = loadSessionResponses(pageIds);
+
+        String nextCursor = null;
+        if (hasNext && !sessionResponses.isEmpty()) {
+            TimeAttackSessionDto.SessionResponse last = sessionResponses.get(sessionResponses.size() - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedAt(), last.getId());
+        }
+
+        return new TimeAttackSessionDto.SessionListResponse(
+                sessionResponses,
+                totalCount,
+                completedCount,
+                nextCursor,
+                hasNext
+        );
+    }
+
+    /**
+     * 세션 ID 목록 → 응답 (ID 순서 유지)
+     * 세션+목적 1회, 단계 1회 조회
+     */
+    private List<TimeAttackSessionDto.SessionResponse> loadSessionResponses(List<Long> sessionIds) {
+        if (sessionIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TimeAttackSession> sessionsById = timeAttackSessionRepository.findAllWithGoalByIdIn(sessionIds).stream()
+                .collect(Collectors.toMap(TimeAttackSession::getId, session -> session));
+        Map<Long, List<TimeAttackStep>> stepsBySessionId = timeAttackStepRepository
+                .findByTimeAttackSession_IdInOrderByTimeAttackSession_IdAscStepOrderAsc(sessionIds).stream()
+                .collect(Collectors.groupingBy(step -> step.getTimeAttackSession().getId()));
+
+        return sessionIds.stream()
+                .map(sessionsById::get)
+                .filter(Objects::nonNull) // 두 조회 사이에 삭제된 세션
                 .map(session -> new TimeAttackSessionDto.SessionResponse(
                         session.getId(),
                         session.getTimeAttackGoal().getDisplayName(),  // i18n 키 또는 커스텀 이름
                         session.getTotalDurationInSeconds(),
                         session.getIsCompleted(),
-                        convertToStepResponses(session.getSteps() != null ? session.getSteps() : List.of()), // 단계 포함 (UX 개선)
+                        convertToStepResponses(stepsBySessionId.getOrDefault(session.getId(), List.of())), // 단계 포함 (UX 개선)
                         session.getCreatedAt()
                 ))
                 .toList();
-
-        long completedCount = timeAttackSessionRepository.countByUser_IdAndIsCompleted(userId, true);
-
-        return new TimeAttackSessionDto.SessionListResponse(
-                sessionResponses,
-                sessionPage.getTotalElements(),
-                completedCount
-        );
     }
 
     // ==================== 유틸리티 메서드 ====================
@@ -0,0 +1,141 @@
+package com.fivlo.fivlo_backend.domain.timeattack.service;
+
+import com.fivlo.fivlo_backend.domain.timeattack.entity.TimeAttackSession;
+import com.fivlo.fivlo_backend.domain.timeattack.entity.TimeAttackUserStats;
+import com.fivlo.fivlo_backend.domain.timeattack.repository.TimeAttackDailyStatsRepository;
+import com.fivlo.fivlo_backend.domain.timeattack.repository.TimeAttackUserStatsRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 타임어택 완료율 카운터
+ * 세션 생성 시 호출 측 트랜잭션 안에서 사용자별·일자별 카운터를 증분 갱신하고,
+ * 통계 조회는 카운터 행만 읽는다 (사용자별: PK 1건, 전체/기간: 일자 행 합계).
+ * 세션 원본과 어긋난 값(탈퇴로 인한 세션 삭제, 수동 수정 등)은 매일 새벽 reconcile()이 바로잡는다.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class TimeAttackStatsService {
+
+    private final TimeAttackUserStatsRepository userStatsRepository;
+    private final TimeAttackDailyStatsRepository dailyStatsRepository;
+    private final Counter userDriftCounter;
+    private final Counter dailyDriftCounter;
+
+    public TimeAttackStatsService(TimeAttackUserStatsRepository userStatsRepository,
+                                  TimeAttackDailyStatsRepository dailyStatsRepository,
+                                  MeterRegistry meterRegistry) {
+        this.userStatsRepository = userStatsRepository;
+        this.dailyStatsRepository = dailyStatsRepository;
+        this.userDriftCounter = Counter.builder("fivlo.timeattack.stats.reconciled")
+                .tag("table", "user")
+                .description("재계산으로 바로잡은 타임어택 사용자별 카운터 행 수")
+                .register(meterRegistry);
+        this.dailyDriftCounter = Counter.builder("fivlo.timeattack.stats.reconciled")
+                .tag("table", "daily")
+                .description("재계산으로 바로잡은 타임어택 일자별 카운터 행 수")
+                .register(meterRegistry);
+    }
+
+    // ==================== 카운터 갱신 (호출 측 트랜잭션에 참여) ====================
+
+    /**
+     * 세션 생성 반영 (저장 후 호출 - createdAt 필요)
+     */
+    @Transactional
+    public void recordSessionCreated(Long userId, TimeAttackSession session) {
+        long completedDelta = Boolean.TRUE.equals(session.getIsCompleted()) ? 1 : 0;
+        userStatsRepository.accumulate(userId, 1, completedDelta);
+        dailyStatsRepository.accumulate(statDateOf(session), 1, completedDelta);
+    }
+
+    // ==================== 조회 ====================
+
+    /**
+     * 사용자별 세션 수/완료 수 (카운터 행이 없으면 0)
+     */
+    public TimeAttackUserStats findUserStats(Long userId) {
+        return userStatsRepository.findById(userId).orElse(null);
+    }
+
+    /**
+     * 전체 완료율
+     */
+    public Map<String, Object> getCompletionStatistics() {
+        return toCompletionStatistics(dailyStatsRepository.sumAll());
+    }
+
+    /**
+     * 사용자별 완료율
+     */
+    public Map<String, Object> getUserCompletionStatistics(Long userId) {
+        TimeAttackUserStats stats = findUserStats(userId);
+        return stats != null
+                ? completionStatistics(stats.getSessionCount(), stats.getCompletedCount())
+                : completionStatistics(0, 0);
+    }
+
+    /**
+     * 기간별 완료율 (세션 생성일 기준, 양 끝 포함)
+     */
+    public Map<String, Object> getCompletionStatisticsByDateRange(LocalDate startDate, LocalDate endDate) {
+        return toCompletionStatistics(dailyStatsRepository.sumByDateRange(startDate, endDate));
+    }
+
+    // ==================== 재계산 ====================
+
+    /**
+     * 세션 원본 기준으로 카운터 재계산 (매일 새벽, 멱등)
+     * 값이 같은 행은 갱신하지 않으므로 바로잡은 행 수가 곧 카운터 누락/중복 건수
+     */
+    @Scheduled(cron = "${timeattack.stats.reconcile-cron:0 45 4 * * *}")
+    @Transactional
+    public Map<String, Integer> reconcile() {
+        long startTime = System.currentTimeMillis();
+
+        int userFixed = userStatsRepository.reconcile() + userStatsRepository.deleteOrphans();
+        int dailyFixed = dailyStatsRepository.reconcile() + dailyStatsRepository.deleteOrphans();
+        userDriftCounter.increment(userFixed);
+        dailyDriftCounter.increment(dailyFixed);
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        if (userFixed > 0 || dailyFixed > 0) {
+            log.warn("타임어택 완료율 카운터 재계산 - 사용자 {}행, 일자 {}행 보정 ({}ms)", userFixed, dailyFixed, elapsed);
+        } else {
+            log.info("타임어택 완료율 카운터 재계산 - 보정 없음 ({}ms)", elapsed);
+        }
+        return Map.of("userRowsFixed", userFixed, "dailyRowsFixed", dailyFixed);
+    }
+
+    // ==================== 유틸리티 메서드 ====================
+
+    private static LocalDate statDateOf(TimeAttackSession session) {
+        return session.getCreatedAt() != null ? session.getCreatedAt().toLocalDate() : LocalDate.now();
+    }
+
+    private static Map<String, Object> toCompletionStatistics(List<Object[]> sums) {
+        Object[] row = sums.isEmpty() ? new Object[]{0L, 0L} : sums.get(0);
+        return completionStatistics(((Number) row[0]).longValue(), ((Number) row[1]).longValue());
+    }
+
+    /**
+     * 기존 집계 쿼리와 같은 키 (totalSessions, completedSessions, completionRate)
+     */
+    private static Map<String, Object> completionStatistics(long totalSessions, long completedSessions) {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalSessions", totalSessions);
+        stats.put("completedSessions", completedSessions);
+        stats.put("completionRate", totalSessions > 0 ? completedSessions * 100.0 / totalSessions : 0.0);
+        return stats;
+    }
+}
@@ -0,0 +1,271 @@
+package com.fivlo.fivlo_backend.domain.timeattack.service;
+
+import com.fivlo.fivlo_backend.common.ai.AiExecutor;
+import com.fivlo.fivlo_backend.common.ai.GeminiService;
+import com.fivlo.fivlo_backend.domain.timeattack.constants.PredefinedTimeAttackGoals;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 미리 정의된 타임어택 목적의 AI 단계 추천 사전 계산
+ * (미리 정의된 목적 × 자주 쓰는 시간 × 언어) 조합을 AI 캐시에 미리 채워 첫 요청도 Gemini를 기다리지 않게 한다.
+ * - 기동 직후: 캐시에 없거나 soft TTL이 지난 조합만 채움
+ * - 매일 새벽: 모든 조합을 새로 생성해 TTL 갱신 (캐시 hard TTL 24시간보다 짧은 주기)
+ * - 여러 노드 중 한 곳만 실행 (Redis 리스)
+ * 실제 요청이 사전 계산 범위에 들어오는지(커버리지)와 그때 캐시가 준비돼 있었는지(적중률)를 리포트로 제공한다.
+ */
+@Slf4j
+@Service
+public class TimeAttackWarmUpService {
+
+    private static final String LEASE_KEY = "lock:ai-warmup:time-attack";
+    private static final List<String> LANGUAGES = List.of("ko", "en");
+    private static final int TOP_UNCOVERED_LIMIT = 10;
+
+    private final GeminiService geminiService;
+    private final AiExecutor aiExecutor;
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final List<Integer> durations;
+    private final Duration leaseTtl;
+    private final boolean enabled;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final AtomicBoolean running = new AtomicBoolean(false);
+    private volatile Map<String, Object> lastRun = Map.of();
+
+    // 실제 요청 기준 커버리지/적중률
+    private final LongAdder coveredRequests = new LongAdder();
+    private final LongAdder uncoveredRequests = new LongAdder();
+    private final LongAdder coveredWarmHits = new LongAdder();
+    private final Map<Integer, LongAdder> uncoveredDurations = new ConcurrentHashMap<>();
+
+    private final Counter warmedCounter;
+    private final Counter failedCounter;
+
+    public TimeAttackWarmUpService(GeminiService geminiService, AiExecutor aiExecutor,
+                                   @Qualifier("customStringRedisTemplate") RedisTemplate<String, String> stringRedisTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${ai.warmup.time-attack.durations-seconds:300,600,900,1200,1800,3600}") List<Integer> durations,
+                                   @Value("${ai.warmup.lease-minutes:30}") long leaseMinutes,
+                                   @Value("${ai.warmup.enabled:true}") boolean enabled) {
+        this.geminiService = geminiService;
+        this.aiExecutor = aiExecutor;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.durations = List.copyOf(durations);
+        this.leaseTtl = Duration.ofMinutes(leaseMinutes);
+        this.enabled = enabled;
+        this.warmedCounter = Counter.builder("fivlo.ai.warmup.entries")
+                .tag("result", "warmed")
+                .description("사전 계산으로 채운 타임어택 추천 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("fivlo.ai.warmup.entries")
+                .tag("result", "failed")
+                .description("사전 계산에 실패한 타임어택 추천 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 기동 직후 빠진 조합만 채움 (요청 처리와 무관하게 백그라운드 실행)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpOnStartup() {
+        if (!enabled) {
+            return;
+        }
+        aiExecutor.submitRequest(() -> warmUp(false))
+                .exceptionally(e -> {
+                    log.warn("타임어택 추천 사전 계산 실패(기동): {}", e.getMessage());
+                    return null;
+                });
+    }
+
+    /**
+     * 매일 새벽 전체 조합 갱신
+     */
+    @Scheduled(cron = "${ai.warmup.cron:0 30 3 * * *}")
+    public void refreshNightly() {
+        if (!enabled) {
+            return;
+        }
+        warmUp(true);
+    }
+
+    /**
+     * 사전 계산 실행
+     *
+     * @param force true면 fresh 상태인 조합도 새로 생성
+     * @return 실행 결과 (리스를 얻지 못했거나 이미 실행 중이면 skipped)
+     */
+    public Map<String, Object> warmUp(boolean force) {
+        if (!running.compareAndSet(false, true)) {
+            return Map.of("skipped", "already running");
+        }
+        try {
+            if (!acquireLease()) {
+                log.info("타임어택 추천 사전 계산 건너뜀 - 다른 노드에서 실행 중");
+                return Map.of("skipped", "lease held by another node");
+            }
+            try {
+                return runWarmUp(force);
+            } finally {
+                releaseLease();
+            }
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private Map<String, Object> runWarmUp(boolean force) {
+        long startTime = System.currentTimeMillis();
+        int warmed = 0;
+        int alreadyFresh = 0;
+        int failed = 0;
+
+        for (PredefinedTimeAttackGoals.Goal goal : PredefinedTimeAttackGoals.getAllPredefinedGoals()) {
+            for (Integer duration : durations) {
+                for (String language : LANGUAGES) {
+                    // 미리 정의된 목적은 AI 프롬프트에 i18n 키가 들어가므로 캐시 키도 nameKey 기준
+                    if (!force && geminiService.hasFreshTimeAttackSteps(goal.getNameKey(), duration, language)) {
+                        alreadyFresh++;
+                        continue;
+                    }
+                    try {
+                        geminiService.refreshTimeAttackSteps(goal.getNameKey(), duration, language);
+                        warmed++;
+                        warmedCounter.increment();
+                    } catch (RuntimeException e) {
+                        failed++;
+                        failedCounter.increment();
+                        log.warn("타임어택 추천 사전 계산 실패 - goal: {}, duration: {}s, language: {}, 원인: {}",
+                                goal.getNameKey(), duration, language, e.getMessage());
+                    }
+                }
+            }
+        }
+
+        long elapsed = System.currentTimeMillis() - startTime;
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("finishedAt", LocalDateTime.now().toString());
+        result.put("force", force);
+        result.put("warmed", warmed);
+        result.put("alreadyFresh", alreadyFresh);
+        result.put("failed", failed);
+        result.put("elapsedMs", elapsed);
+        lastRun = result;
+
+        log.info(" 타임어택 추천 사전 계산 완료 - 생성: {}, 유지: {}, 실패: {}, 소요 시간: {}ms",
+                 warmed, alreadyFresh, failed, elapsed);
+        return result;
+    }
+
+    /**
+     * 실제 AI 추천 요청 기록 (미리 정의된 목적만)
+     * 사전 계산 범위에 들어오는지, 들어온다면 그 시점에 캐시가 준비돼 있었는지 집계
+     */
+    public void recordDemand(String nameKey, Integer duration, String languageCode) {
+        String language = "en".equalsIgnoreCase(languageCode) ? "en" : "ko";
+        if (duration == null || !durations.contains(duration)) {
+            uncoveredRequests.increment();
+            if (duration != null) {
+                uncoveredDurations.computeIfAbsent(duration, d -> new LongAdder()).increment();
+            }
+            return;
+        }
+        coveredRequests.increment();
+        if (geminiService.hasFreshTimeAttackSteps(nameKey, duration, language)) {
+            coveredWarmHits.increment();
+        }
+    }
+
+    /**
+     * 커버리지/적중률 리포트 (GET /api/v1/metrics/ai-warmup)
+     */
+    public Map<String, Object> getReport() {
+        int total = 0;
+        int fresh = 0;
+        for (PredefinedTimeAttackGoals.Goal goal : PredefinedTimeAttackGoals.getAllPredefinedGoals()) {
+            for (Integer duration : durations) {
+                for (String language : LANGUAGES) {
+                    total++;
+                    if (geminiService.hasFreshTimeAttackSteps(goal.getNameKey(), duration, language)) {
+                        fresh++;
+                    }
+                }
+            }
+        }
+
+        long covered = coveredRequests.sum();
+        long uncovered = uncoveredRequests.sum();
+        long warmHits = coveredWarmHits.sum();
+
+        Map<String, Object> precomputed = new HashMap<>();
+        precomputed.put("durationsSeconds", durations);
+        precomputed.put("languages", LANGUAGES);
+        precomputed.put("combinations", total);
+        precomputed.put("fresh", fresh);
+        precomputed.put("freshRate", percent(fresh, total));
+
+        Map<String, Object> demand = new HashMap<>();
+        demand.put("coveredRequests", covered);
+        demand.put("uncoveredRequests", uncovered);
+        demand.put("coverageRate", percent(covered, covered + uncovered));
+        demand.put("warmHitRate", percent(warmHits, covered));
+        // 범위 밖 요청이 많은 시간 → durations-seconds에 추가할 후보
+        Map<Integer, Long> topUncovered = new LinkedHashMap<>();
+        uncoveredDurations.entrySet().stream()
+                .sorted(Comparator.comparingLong((Map.Entry<Integer, LongAdder> e) -> e.getValue().sum()).reversed())
+                .limit(TOP_UNCOVERED_LIMIT)
+                .forEach(e -> topUncovered.put(e.getKey(), e.getValue().sum()));
+        demand.put("topUncoveredDurations", topUncovered);
+
+        Map<String, Object> report = new HashMap<>();
+        report.put("precomputed", precomputed);
+        report.put("demand", demand);
+        report.put("lastRun", lastRun);
+        return report;
+    }
+
+    private boolean acquireLease() {
+        try {
+            return Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LEASE_KEY, nodeId, leaseTtl));
+        } catch (Exception e) {
+            log.warn("사전 계산 리스 획득 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void releaseLease() {
+        try {
+            if (nodeId.equals(stringRedisTemplate.opsForValue().get(LEASE_KEY))) {
+                stringRedisTemplate.delete(LEASE_KEY);
+            }
+        } catch (Exception e) {
+            // 리스 TTL이 지나면 자연히 풀림
+            log.debug("사전 계산 리스 해제 실패: {}", e.getMessage());
+        }
+    }
+
+    private static String percent(long part, long total) {
+        return String.format("%.1f%%", total > 0 ? (double) part / total * 100.0 : 0.0);
+    }
+}
@@ -1,9 +1,12 @@
 package com.fivlo.fivlo_backend.domain.user.notification.controller;
 
 import com.fivlo.fivlo_backend.domain.user.notification.dto.NotificationDto;
+import com.fivlo.fivlo_backend.domain.user.notification.service.LocationPingIngestor;
 import com.fivlo.fivlo_backend.domain.user.notification.service.NotificationService;
 import com.fivlo.fivlo_backend.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -17,6 +20,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class NotificationController {
 
     private final NotificationService notificationService;
+    private final LocationPingIngestor locationPingIngestor;
 
     // FCM 토큰 등록 및 업데이트 API
     @PostMapping("/token")
@@ -27,13 +31,18 @@ public class NotificationController {
         return ResponseEntity.ok(notificationService.updateFcmToken(userDetails.getUser().getId(), request));
     }
 
-    // 위치정보 업데이트 및 알림 확인 API
+    // 위치정보 업데이트 API (접수만 하고 알림 확인은 비동기 배치로 처리, 대기열 포화 시 429)
     @PostMapping("/location")
     public ResponseEntity<Void> checkLocation(
             @AuthenticationPrincipal CustomUserDetails userDetails,
             @RequestBody NotificationDto.LocationUpdateRequest request) {
 
-        notificationService.checkLocationAndSendReminder(userDetails.getUser().getId(), request);
-        return ResponseEntity.ok().build();
+        boolean accepted = locationPingIngestor.offer(userDetails.getUser().getId(), request.latitude(), request.longitude());
+        if (!accepted) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+        return ResponseEntity.accepted().build();
     }
 }
@@ -0,0 +1,299 @@
+package com.fivlo.fivlo_backend.domain.user.notification.service;
+
+import com.fivlo.fivlo_backend.domain.user.repository.UserRepository;
+import com.fivlo.fivlo_backend.security.PrincipalCache;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.Notification;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FCM 비동기 배치 전송기
+ * - enqueue(): 호출 스레드에서는 제한된 큐에 넣기만 하고 바로 반환 (가득 차면 false)
+ * - flush(): flush-interval마다 큐를 최대 500건(sendEach 한도)씩 묶어 전송 실행기에 제출
+ * - 일시적 오류(UNAVAILABLE, INTERNAL, QUOTA_EXCEEDED, 네트워크 오류)는 지수 백오프로 재시도 (max-attempts까지)
+ * - UNREGISTERED 응답을 받은 토큰은 사용자에게서 제거해 다시 보내지 않는다
+ * 최종 실패한 메시지는 enqueue 때 넘긴 onFailure를 실행한다 (중복 방지 선점 해제 등).
+ * 노드별 메모리 큐이므로 종료 시 아직 보내지 못한 메시지는 버려진다.
+ */
+@Slf4j
+@Component
+public class FcmDispatcher {
+
+    // FirebaseMessaging.sendEach 한 번에 보낼 수 있는 최대 메시지 수
+    static final int MAX_BATCH_SIZE = 500;
+
+    private static final Set<MessagingErrorCode> TRANSIENT_ERRORS = Set.of(
+            MessagingErrorCode.UNAVAILABLE,
+            MessagingErrorCode.INTERNAL,
+            MessagingErrorCode.QUOTA_EXCEEDED);
+
+    /**
+     * 전송 대기 메시지 (재시도 시 attempt를 올린 새 인스턴스로 교체)
+     */
+    private static final class Outgoing implements Delayed {
+        private final Long userId;
+        private final String token;
+        private final Message message;
+        private final Runnable onFailure;
+        private final long enqueuedNanos;
+        private final int attempt;
+        private final long dueNanos;
+
+        private Outgoing(Long userId, String token, Message message, Runnable onFailure,
+                         long enqueuedNanos, int attempt, long dueNanos) {
+            this.userId = userId;
+            this.token = token;
+            this.message = message;
+            this.onFailure = onFailure;
+            this.enqueuedNanos = enqueuedNanos;
+            this.attempt = attempt;
+            this.dueNanos = dueNanos;
+        }
+
+        private Outgoing retryAfter(long delayMillis) {
+            return new Outgoing(userId, token, message, onFailure, enqueuedNanos, attempt + 1,
+                    System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis));
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueNanos, ((Outgoing) other).dueNanos);
+        }
+    }
+
+    private final FirebaseMessaging firebaseMessaging;
+    private final ThreadPoolTaskExecutor executor;
+    private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
+    private final int maxAttempts;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+
+    private final BlockingQueue<Outgoing> queue;
+    private final DelayQueue<Outgoing> retryQueue = new DelayQueue<>();
+
+    private final Counter sentCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Counter invalidTokenCounter;
+    private final Counter rejectedCounter;
+    private final Timer latencyTimer;
+    private final Timer batchTimer;
+
+    public FcmDispatcher(FirebaseMessaging firebaseMessaging,
+                         @Qualifier("fcmDispatchExecutor") ThreadPoolTaskExecutor executor,
+                         UserRepository userRepository,
+                         PrincipalCache principalCache,
+                         MeterRegistry meterRegistry,
+                         @Value("${notification.fcm.queue-capacity:10000}") int queueCapacity,
+                         @Value("${notification.fcm.max-attempts:4}") int maxAttempts,
+                         @Value("${notification.fcm.backoff-base-ms:1000}") long backoffBaseMillis,
+                         @Value("${notification.fcm.backoff-max-ms:30000}") long backoffMaxMillis) {
+        this.firebaseMessaging = firebaseMessaging;
+        this.executor = executor;
+        this.userRepository = userRepository;
+        this.principalCache = principalCache;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffBaseMillis = backoffBaseMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+        this.queue = new LinkedBlockingQueue<>(queueCapacity);
+
+        this.sentCounter = messageCounter(meterRegistry, "sent", "전송에 성공한 FCM 메시지 수");
+        this.retriedCounter = messageCounter(meterRegistry, "retried", "일시적 오류로 재시도 예약한 FCM 메시지 수");
+        this.failedCounter = messageCounter(meterRegistry, "failed", "최종 전송에 실패한 FCM 메시지 수");
+        this.invalidTokenCounter = messageCounter(meterRegistry, "invalid_token", "만료된 토큰이라 제거한 FCM 메시지 수");
+        this.rejectedCounter = messageCounter(meterRegistry, "rejected", "전송 큐 포화로 거절한 FCM 메시지 수");
+        this.latencyTimer = Timer.builder("fivlo.fcm.delivery.latency")
+                .description("FCM 메시지 enqueue부터 전송 성공까지 지연 (재시도 포함)")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("fivlo.fcm.batch.duration")
+                .description("FCM sendEach 호출 한 번의 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("fivlo.fcm.queue.depth", queue, BlockingQueue::size)
+                .description("전송을 기다리는 FCM 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("fivlo.fcm.retry.depth", retryQueue, DelayQueue::size)
+                .description("재시도를 기다리는 FCM 메시지 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter messageCounter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("fivlo.fcm.messages")
+                .tag("result", result)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 알림 전송 예약 (호출 스레드는 대기하지 않음)
+     *
+     * @param onFailure 최종 실패 시 실행 (없으면 null)
+     * @return false면 큐 포화로 거절 (onFailure는 실행되지 않음 - 호출 측이 처리)
+     */
+    public boolean enqueue(Long userId, String token, String title, String body, Runnable onFailure) {
+        Message message = Message.builder()
+                .setNotification(Notification.builder()
+                        .setTitle(title)
+                        .setBody(body)
+                        .build())
+                .setToken(token) // 알림을 보낼 기기의 주소 (FCM 토큰)
+                .build();
+
+        long now = System.nanoTime();
+        if (!queue.offer(new Outgoing(userId, token, message, onFailure, now, 1, now))) {
+            rejectedCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 재시도 시각이 된 메시지와 새 메시지를 배치로 묶어 전송 실행기에 제출
+     */
+    @Scheduled(fixedDelayString = "${notification.fcm.flush-interval-ms:500}")
+    public void flush() {
+        while (true) {
+            List<Outgoing> batch = new ArrayList<>();
+            retryQueue.drainTo(batch, MAX_BATCH_SIZE); // 지연이 끝난 항목만 꺼냄
+            queue.drainTo(batch, MAX_BATCH_SIZE - batch.size());
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                executor.execute(() -> dispatch(batch));
+            } catch (RejectedExecutionException e) {
+                // 전송 워커가 밀려 있으면 다음 주기로 (시도 횟수는 그대로)
+                retryQueue.addAll(batch);
+                return;
+            }
+            if (batch.size() < MAX_BATCH_SIZE) {
+                return;
+            }
+        }
+    }
+
+    private void dispatch(List<Outgoing> batch) {
+        List<Message> messages = batch.stream().map(outgoing -> outgoing.message).toList();
+        long startTime = System.nanoTime();
+        try {
+            BatchResponse response = firebaseMessaging.sendEach(messages);
+            batchTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+
+            List<SendResponse> responses = response.getResponses();
+            for (int i = 0; i < batch.size(); i++) {
+                SendResponse sendResponse = responses.get(i);
+                if (sendResponse.isSuccessful()) {
+                    onSent(batch.get(i));
+                } else {
+                    onError(batch.get(i), sendResponse.getException());
+                }
+            }
+            if (response.getFailureCount() > 0) {
+                log.info("FCM 배치 전송 - 성공: {}, 실패: {}", response.getSuccessCount(), response.getFailureCount());
+            }
+        } catch (FirebaseMessagingException e) {
+            // 배치 호출 자체가 실패 (인증, 네트워크 등) - 메시지별로 같은 오류로 처리
+            batchTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            log.warn("FCM 배치 전송 실패 - size: {}, code: {}, error: {}", batch.size(), e.getMessagingErrorCode(), e.getMessage());
+            batch.forEach(outgoing -> onError(outgoing, e));
+        } catch (RuntimeException e) {
+            batchTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            log.warn("FCM 배치 전송 실패 - size: {}, error: {}", batch.size(), e.getMessage());
+            batch.forEach(this::retryOrFail);
+        }
+    }
+
+    private void onSent(Outgoing outgoing) {
+        sentCounter.increment();
+        latencyTimer.record(System.nanoTime() - outgoing.enqueuedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private void onError(Outgoing outgoing, FirebaseMessagingException exception) {
+        MessagingErrorCode code = exception != null ? exception.getMessagingErrorCode() : null;
+        if (code == MessagingErrorCode.UNREGISTERED) {
+            invalidTokenCounter.increment();
+            clearToken(outgoing);
+            fail(outgoing);
+        } else if (code == null || TRANSIENT_ERRORS.contains(code)) {
+            // 오류 코드가 없으면 네트워크 오류로 보고 재시도
+            retryOrFail(outgoing);
+        } else {
+            log.warn("FCM 메시지 전송 실패 - userId: {}, code: {}", outgoing.userId, code);
+            fail(outgoing);
+        }
+    }
+
+    private void retryOrFail(Outgoing outgoing) {
+        if (outgoing.attempt >= maxAttempts) {
+            log.warn("FCM 메시지 재시도 한도 초과 - userId: {}, attempts: {}", outgoing.userId, outgoing.attempt);
+            fail(outgoing);
+            return;
+        }
+        retriedCounter.increment();
+        retryQueue.add(outgoing.retryAfter(backoffMillis(outgoing.attempt)));
+    }
+
+    /**
+     * 지수 백오프 + 지터 (base × 2^(attempt-1), 최대 backoff-max, 절반~전체 구간에서 무작위)
+     */
+    private long backoffMillis(int attempt) {
+        long exponential = backoffBaseMillis << Math.min(attempt - 1, 20);
+        long capped = Math.min(backoffMaxMillis, exponential);
+        return capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1);
+    }
+
+    private void fail(Outgoing outgoing) {
+        failedCounter.increment();
+        if (outgoing.onFailure != null) {
+            try {
+                outgoing.onFailure.run();
+            } catch (RuntimeException e) {
+                log.debug("FCM 실패 후처리 오류 - userId: {}, error: {}", outgoing.userId, e.getMessage());
+            }
+        }
+    }
+
+    private void clearToken(Outgoing outgoing) {
+        if (outgoing.userId == null) {
+            return;
+        }
+        try {
+            if (userRepository.clearFcmToken(outgoing.userId, outgoing.token) > 0) {
+                principalCache.evict(outgoing.userId);
+                log.info("만료된 FCM 토큰 제거 - userId: {}", outgoing.userId);
+            }
+        } catch (RuntimeException e) {
+            log.warn("만료된 FCM 토큰 제거 실패 - userId: {}, error: {}", outgoing.userId, e.getMessage());
+        }
+    }
+}
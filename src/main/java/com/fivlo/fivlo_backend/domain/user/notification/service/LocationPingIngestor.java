@@ -0,0 +1,171 @@
+package com.fivlo.fivlo_backend.domain.user.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 위치 ping 수집 파이프라인
+ * - offer(): 요청 스레드에서는 사용자별 최신 좌표만 메모리에 기록하고 바로 응답 (DB 접근 없음)
+ * - flush(): flush-interval마다 쌓인 ping을 꺼내 batch-size 단위로 지오펜스 평가 (같은 사용자 ping은 최신 1건으로 병합)
+ * - 배압: 대기 사용자 수가 max-pending-users에 도달하면 새 사용자의 ping은 거절(429),
+ *         평가 워커가 밀려 있으면 배치를 다음 주기로 미룸 (그 사이 들어온 최신 좌표가 우선)
+ * 대기 중인 사용자 수, 병합/거절 수, 수신부터 평가 완료까지의 지연(lag)을 메트릭으로 노출한다.
+ * 노드별 메모리 버퍼이므로 재시작 시 아직 평가하지 않은 ping은 버려진다 (다음 ping으로 다시 평가됨).
+ */
+@Slf4j
+@Component
+public class LocationPingIngestor {
+
+    /**
+     * 평가 대기 중인 ping (firstReceivedNanos: 병합된 ping 중 가장 먼저 받은 시각 - 지연 측정 기준)
+     */
+    public record Ping(Long userId, BigDecimal latitude, BigDecimal longitude, long firstReceivedNanos) {
+    }
+
+    private final NotificationService notificationService;
+    private final ThreadPoolTaskExecutor executor;
+    private final int maxPendingUsers;
+    private final int batchSize;
+
+    private final Map<Long, Ping> pending = new ConcurrentHashMap<>();
+
+    private final Counter acceptedCounter;
+    private final Counter coalescedCounter;
+    private final Counter rejectedCounter;
+    private final Counter deferredCounter;
+    private final Counter failedCounter;
+    private final Timer lagTimer;
+    private final Timer batchTimer;
+
+    public LocationPingIngestor(NotificationService notificationService,
+                                @Qualifier("locationPingExecutor") ThreadPoolTaskExecutor executor,
+                                MeterRegistry meterRegistry,
+                                @Value("${notification.location.max-pending-users:50000}") int maxPendingUsers,
+                                @Value("${notification.location.batch-size:100}") int batchSize) {
+        this.notificationService = notificationService;
+        this.executor = executor;
+        this.maxPendingUsers = maxPendingUsers;
+        this.batchSize = Math.max(1, batchSize);
+
+        this.acceptedCounter = pingCounter(meterRegistry, "accepted", "평가 대기열에 새로 들어간 위치 ping 수");
+        this.coalescedCounter = pingCounter(meterRegistry, "coalesced", "대기 중인 같은 사용자 ping에 병합된 위치 ping 수");
+        this.rejectedCounter = pingCounter(meterRegistry, "rejected", "대기열 포화로 거절된 위치 ping 수");
+        this.deferredCounter = Counter.builder("fivlo.location.batch.deferred")
+                .description("평가 워커 포화로 다음 주기로 미룬 위치 ping 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("fivlo.location.batch.failed")
+                .description("평가 중 오류가 난 위치 ping 배치 수")
+                .register(meterRegistry);
+        this.lagTimer = Timer.builder("fivlo.location.ping.lag")
+                .description("위치 ping 수신부터 지오펜스 평가 완료까지 지연")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("fivlo.location.batch.duration")
+                .description("위치 ping 배치 하나의 지오펜스 평가 시간")
+                .register(meterRegistry);
+        Gauge.builder("fivlo.location.pending", pending, Map::size)
+                .description("평가를 기다리는 사용자 수")
+                .register(meterRegistry);
+        Gauge.builder("fivlo.location.executor.queue.depth", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("위치 평가 실행기 큐에서 대기 중인 배치 수")
+                .register(meterRegistry);
+    }
+
+    private static Counter pingCounter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("fivlo.location.pings")
+                .tag("result", result)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 위치 ping 접수 (요청 스레드)
+     *
+     * @return false면 대기열 포화로 거절 (클라이언트는 잠시 후 재전송)
+     */
+    public boolean offer(Long userId, BigDecimal latitude, BigDecimal longitude) {
+        if (latitude == null || longitude == null) {
+            return true; // 평가할 좌표 없음
+        }
+        if (pending.size() >= maxPendingUsers && !pending.containsKey(userId)) {
+            rejectedCounter.increment();
+            return false;
+        }
+
+        Ping latest = new Ping(userId, latitude, longitude, System.nanoTime());
+        Ping previous = pending.put(userId, latest);
+        if (previous != null) {
+            // 최신 좌표만 남기되 지연은 처음 받은 시각 기준으로 측정
+            pending.computeIfPresent(userId, (id, current) -> current == latest
+                    ? new Ping(id, latitude, longitude, previous.firstReceivedNanos())
+                    : current);
+            coalescedCounter.increment();
+        } else {
+            acceptedCounter.increment();
+        }
+        return true;
+    }
+
+    /**
+     * 대기 중인 ping을 배치로 나눠 평가 실행기에 제출
+     */
+    @Scheduled(fixedDelayString = "${notification.location.flush-interval-ms:2000}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+
+        List<Ping> drained = new ArrayList<>(pending.size());
+        for (Long userId : pending.keySet()) {
+            Ping ping = pending.remove(userId);
+            if (ping != null) {
+                drained.add(ping);
+            }
+        }
+
+        for (int from = 0; from < drained.size(); from += batchSize) {
+            List<Ping> batch = List.copyOf(drained.subList(from, Math.min(drained.size(), from + batchSize)));
+            try {
+                executor.execute(() -> evaluate(batch));
+            } catch (RejectedExecutionException e) {
+                // 워커가 밀려 있으면 다음 주기로 (그 사이 새 ping이 왔으면 새 좌표 + 처음 받은 시각 유지)
+                deferredCounter.increment(batch.size());
+                for (Ping ping : batch) {
+                    pending.merge(ping.userId(), ping, (newer, deferred) ->
+                            new Ping(newer.userId(), newer.latitude(), newer.longitude(), deferred.firstReceivedNanos()));
+                }
+            }
+        }
+    }
+
+    private void evaluate(List<Ping> batch) {
+        long startTime = System.nanoTime();
+        try {
+            notificationService.checkLocationBatch(batch);
+        } catch (Exception e) {
+            failedCounter.increment();
+            log.warn("위치 ping 배치 평가 실패 - size: {}, error: {}", batch.size(), e.getMessage());
+        } finally {
+            long now = System.nanoTime();
+            batchTimer.record(now - startTime, TimeUnit.NANOSECONDS);
+            for (Ping ping : batch) {
+                lagTimer.record(now - ping.firstReceivedNanos(), TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+}
@@ -5,10 +5,7 @@ import com.fivlo.fivlo_backend.domain.reminder.repository.ReminderRepository;
 import com.fivlo.fivlo_backend.domain.user.entity.User;
 import com.fivlo.fivlo_backend.domain.user.notification.dto.NotificationDto;
 import com.fivlo.fivlo_backend.domain.user.repository.UserRepository;
-import com.google.firebase.messaging.FirebaseMessaging;
-import com.google.firebase.messaging.FirebaseMessagingException;
-import com.google.firebase.messaging.Message;
-import com.google.firebase.messaging.Notification;
+import com.fivlo.fivlo_backend.security.PrincipalCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -16,7 +13,10 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +25,12 @@ public class NotificationService {
 
     private final UserRepository userRepository;
     private final ReminderRepository reminderRepository;
+    private final PrincipalCache principalCache;
+    private final ReminderDedupStore reminderDedupStore;
+    private final FcmDispatcher fcmDispatcher;
+
+    // 설정 위치에서 이 거리 이상 벗어나면 알림
+    private static final double LEAVE_RADIUS_METERS = 100.0;
 
     @Transactional
     public String updateFcmToken(Long userId, NotificationDto.FcmTokenRequest request) {
@@ -32,72 +38,64 @@ public class NotificationService {
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
 
         user.updateFcmToken(request.token());
+        principalCache.evict(userId);
         return "FCM 토큰이 업데이트 되었습니다.";
     }
 
+    /**
+     * 위치 ping 배치 평가 (LocationPingIngestor가 호출)
+     * 사용자는 한 번에 조회하고, 사용자별로 설정 위치에서 벗어난 위치 알림만 DB(PostGIS)에서 조회해 전송
+     */
     @Transactional(readOnly = true)
-    public void checkLocationAndSendReminder(Long userId, NotificationDto.LocationUpdateRequest request) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다."));
-
-        if(!user.getIsPremium() || !user.getAlarmStatus()) {
-            log.info("사용자 {}는 프리미엄이 아니거나 알림이 비활성화 되어 있어 위치 기반 알림을 보내지 않습니다.", userId);
-            return;
-        }
-
-        // 사용자의 위치 기반 알림 조회
-        List<ForgettingPreventionReminder> locationReminders = reminderRepository.findByUserAndLocationNameIsNotNull(user);
-
-        for (ForgettingPreventionReminder reminder : locationReminders) {
-            double distance = calculateDistanceInMeters(
-                    reminder.getLocationLatitude(),
-                    reminder.getLocationLongitude(),
-                    request.latitude(),
-                    request.longitude()
-            );
-
-            if(distance > 100) {
-                // TODO: 오늘 이미 이 알림을 보냈는지 확인하는 로직 추가 (중복 방지)
-                log.info("사용자 {}가 설정 위치 '{}'에서 100m 이상 벗어남. 알림 전송.", userId, reminder.getLocationName());
-                sendFcmNotification(user.getFcmToken(), reminder.getTitle(), "무언가 놓고 가신 건 없으신가요?");
+    public void checkLocationBatch(List<LocationPingIngestor.Ping> pings) {
+        List<Long> userIds = pings.stream().map(LocationPingIngestor.Ping::userId).toList();
+        Map<Long, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getId, Function.identity()));
+
+        for (LocationPingIngestor.Ping ping : pings) {
+            User user = users.get(ping.userId());
+            if (user == null) {
+                continue; // 그 사이 탈퇴한 사용자
+            }
+            if (!Boolean.TRUE.equals(user.getIsPremium()) || !Boolean.TRUE.equals(user.getAlarmStatus())) {
+                log.debug("사용자 {}는 프리미엄이 아니거나 알림이 비활성화 되어 있어 위치 기반 알림을 보내지 않습니다.", user.getId());
+                continue;
             }
+            checkLocationAndSendReminder(user, ping.latitude(), ping.longitude());
         }
     }
 
-    private void sendFcmNotification(String deviceToken, String title, String body) {
-        if (deviceToken == null || deviceToken.isEmpty()) {
+    private void checkLocationAndSendReminder(User user, BigDecimal latitude, BigDecimal longitude) {
+        // 설정 위치에서 벗어난 위치 알림만 DB(PostGIS)에서 조회
+        List<ForgettingPreventionReminder> leftReminders = reminderRepository.findLocationRemindersOutsideRadius(
+                user.getId(),
+                latitude.doubleValue(),
+                longitude.doubleValue(),
+                LEAVE_RADIUS_METERS
+        );
+
+        if (leftReminders.isEmpty()) {
+            return;
+        }
+        if (user.getFcmToken() == null || user.getFcmToken().isEmpty()) {
             log.warn("FCM 토큰이 없어 알림을 보낼 수 없습니다.");
             return;
         }
 
-        Notification notification = Notification.builder()
-                .setTitle(title)
-                .setBody(body)
-                .build();
-
-        Message message = Message.builder()
-                .setNotification(notification)
-                .setToken(deviceToken) // 알림을 보낼 기기의 주소 (FCM 토큰)
-                .build();
-
-        try {
-            String response = FirebaseMessaging.getInstance().send(message);
-            log.info("Successfully sent FCM message: {}", response);
-        } catch (FirebaseMessagingException e) {
-            log.error("Failed to send FCM message.", e);
+        for (ForgettingPreventionReminder reminder : leftReminders) {
+            // 오늘 이미 보낸 알림은 Firebase 호출 없이 건너뜀
+            if (!reminderDedupStore.tryClaim(user.getId(), reminder.getId())) {
+                continue;
+            }
+            log.info("사용자 {}가 설정 위치 '{}'에서 {}m 이상 벗어남. 알림 전송.", user.getId(), reminder.getLocationName(), (int) LEAVE_RADIUS_METERS);
+            Long userId = user.getId();
+            Long reminderId = reminder.getId();
+            // 전송은 FcmDispatcher가 비동기 배치로 처리, 최종 실패하면 선점을 풀어 다음 ping에서 다시 시도
+            boolean queued = fcmDispatcher.enqueue(userId, user.getFcmToken(), reminder.getTitle(),
+                    "무언가 놓고 가신 건 없으신가요?", () -> reminderDedupStore.release(userId, reminderId));
+            if (!queued) {
+                reminderDedupStore.release(userId, reminderId);
+            }
         }
     }
-
-    private double calculateDistanceInMeters(BigDecimal lat1, BigDecimal lon1, BigDecimal lat2, BigDecimal lon2) {
-        if (lat1 == null || lon1 == null || lat2 == null || lon2 == null) return 0;
-
-        final int R = 6371; // 지구 반지름 (km)
-        double latDistance = Math.toRadians(lat2.doubleValue() - lat1.doubleValue());
-        double lonDistance = Math.toRadians(lon2.doubleValue() - lon1.doubleValue());
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1.doubleValue())) * Math.cos(Math.toRadians(lat2.doubleValue()))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c * 1000; // meter로 변환
-    }
 }
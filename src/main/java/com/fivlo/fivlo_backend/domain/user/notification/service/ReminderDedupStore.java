@@ -0,0 +1,87 @@
+package com.fivlo.fivlo_backend.domain.user.notification.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 위치 알림 일별 중복 전송 방지
+ * "notification:location-sent:{userId}:{yyyyMMdd}" Redis Set에 오늘 보낸 알림 ID를 담고, 다음 자정(Asia/Seoul)에 만료시킨다.
+ * SADD 결과로 "처음 보내는 알림인지" 확인과 선점을 한 번에 하므로, 여러 노드/배치가 동시에 평가해도 하루 한 번만 전송된다.
+ * Redis 장애 시에는 알림을 놓치지 않도록 전송을 허용한다 (중복 가능).
+ */
+@Slf4j
+@Component
+public class ReminderDedupStore {
+
+    private static final String KEY_PREFIX = "notification:location-sent:";
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final RedisTemplate<String, String> stringRedisTemplate;
+    private final Counter firstCounter;
+    private final Counter duplicateCounter;
+    private final Counter errorCounter;
+
+    public ReminderDedupStore(@Qualifier("customStringRedisTemplate") RedisTemplate<String, String> stringRedisTemplate,
+                              MeterRegistry meterRegistry) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.firstCounter = dedupCounter(meterRegistry, "first", "오늘 처음 보내는 위치 알림 수");
+        this.duplicateCounter = dedupCounter(meterRegistry, "duplicate", "오늘 이미 보내 건너뛴 위치 알림 수");
+        this.errorCounter = dedupCounter(meterRegistry, "error", "Redis 오류로 중복 확인 없이 보낸 위치 알림 수");
+    }
+
+    private static Counter dedupCounter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder("fivlo.notification.location.dedup")
+                .tag("result", result)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 오늘 이 알림을 보낼 권리 선점
+     *
+     * @return true면 전송 (오늘 처음이거나 Redis 오류), false면 이미 보낸 알림
+     */
+    public boolean tryClaim(Long userId, Long reminderId) {
+        ZonedDateTime now = ZonedDateTime.now(ZONE);
+        String key = key(userId, now.toLocalDate());
+        try {
+            Long added = stringRedisTemplate.opsForSet().add(key, String.valueOf(reminderId));
+            if (added == null || added == 0) {
+                duplicateCounter.increment();
+                return false;
+            }
+            stringRedisTemplate.expireAt(key, now.toLocalDate().plusDays(1).atStartOfDay(ZONE).toInstant());
+            firstCounter.increment();
+            return true;
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.debug("위치 알림 중복 확인 실패 - userId: {}, reminderId: {}, error: {}", userId, reminderId, e.getMessage());
+            return true;
+        }
+    }
+
+    /**
+     * 전송 실패 시 선점 해제 (다음 위치 ping에서 다시 시도)
+     */
+    public void release(Long userId, Long reminderId) {
+        try {
+            stringRedisTemplate.opsForSet().remove(key(userId, LocalDate.now(ZONE)), String.valueOf(reminderId));
+        } catch (Exception e) {
+            log.debug("위치 알림 선점 해제 실패 - userId: {}, reminderId: {}, error: {}", userId, reminderId, e.getMessage());
+        }
+    }
+
+    private static String key(Long userId, LocalDate date) {
+        return KEY_PREFIX + userId + ":" + date.format(DATE_FORMAT);
+    }
+}
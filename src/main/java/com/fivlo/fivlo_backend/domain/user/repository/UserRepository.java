@@ -2,9 +2,11 @@ package com.fivlo.fivlo_backend.domain.user.repository;
 
 import com.fivlo.fivlo_backend.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -69,4 +71,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     @Query("SELECT u FROM User u WHERE u.totalCoins >= :minCoins ORDER BY u.totalCoins DESC")
     java.util.List<User> findUsersWithMinCoins(@Param("minCoins") Integer minCoins);
+
+    /**
+     * 만료된 FCM 토큰 제거 (그 사이 새 토큰으로 바뀌었으면 그대로 둠)
+     * @param userId 사용자 ID
+     * @param token 전송에 실패한 토큰
+     * @return 갱신된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE User u SET u.fcmToken = NULL WHERE u.id = :userId AND u.fcmToken = :token")
+    int clearFcmToken(@Param("userId") Long userId, @Param("token") String token);
 }
@@ -9,6 +9,7 @@ import com.fivlo.fivlo_backend.domain.user.entity.User;
 import com.fivlo.fivlo_backend.domain.user.repository.UserRepository;
 import com.fivlo.fivlo_backend.security.CustomUserDetails;
 import com.fivlo.fivlo_backend.security.JwtTokenProvider;
+import com.fivlo.fivlo_backend.security.PrincipalCache;
 import com.fivlo.fivlo_backend.security.oauth2.OAuth2TokenVerifier;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -36,6 +37,7 @@ public class UserService {
     private final List<OAuth2TokenVerifier> tokenVerifiers;
     private final CoinTransactionService coinTransactionService;
     private final RefreshRepository refreshRepository;
+    private final PrincipalCache principalCache;
 
     private static final Logger logger = LoggerFactory.getLogger(UserService.class);
 
@@ -99,6 +101,7 @@ public class UserService {
 
         // DB에 업데이트, 더티체킹으로 자동 저장
         user.updateOnboardingType(onboardingType);
+        principalCache.evict(user.getId());
 
         return user.getOnboardingType();
     }
@@ -113,6 +116,7 @@ public class UserService {
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. ID : " + id));
 
         user.updateLanguage(language);
+        principalCache.evict(user.getId());
 
         return user.getLanguage();
     }
@@ -127,6 +131,7 @@ public class UserService {
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. ID : " + id));
 
         user.updateAlarmStatus();
+        principalCache.evict(user.getId());
 
         return "알림 상태 변경 완료! (현재 상태 : " + user.getAlarmStatus() + ")";
     }
@@ -159,6 +164,7 @@ public class UserService {
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. Email : " + userDetails.getUsername()));
 
         user.updateProfile(dto.nickname(), dto.profileImageUrl());
+        principalCache.evict(user.getId());
         return "프로필 정보가 성공적으로 수정되었습니다.";
     }
 
@@ -171,6 +177,7 @@ public class UserService {
                 .orElseThrow(() -> new NoSuchElementException("사용자를 찾을 수 없습니다. ID : " + id));
 
         user.deactivate();
+        principalCache.evict(user.getId());
         return "회원 탈퇴 요청이 성공적으로 처리되었습니다.";
     }
 
@@ -199,6 +206,7 @@ public class UserService {
             }
             else {
                 user.restore();
+                principalCache.evict(user.getId());
             }
         }
         else if(user.getStatus() == User.Status.DELETED) {
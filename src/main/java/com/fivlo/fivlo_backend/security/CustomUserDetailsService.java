@@ -27,6 +27,7 @@ public class CustomUserDetailsService implements UserDetailsService {
     private static final Logger logger = LoggerFactory.getLogger(CustomUserDetailsService.class);
 
     private final UserRepository userRepository;
+    private final PrincipalCache principalCache;
 
     /**
      * 사용자명(이메일)으로 사용자 정보 로드
@@ -57,6 +58,7 @@ public class CustomUserDetailsService implements UserDetailsService {
             else {
                 logger.info("계정을 복구했습니다. email: {}", email);
                 user.restore();
+                principalCache.evict(user.getId());
             }
         }
         else if(user.getStatus() == User.Status.DELETED) {
@@ -70,6 +72,7 @@ public class CustomUserDetailsService implements UserDetailsService {
 
     /**
      * 사용자 ID로 UserDetails 로드 (JWT 토큰 검증 시 사용)
+     * 요청마다 DB를 조회하지 않도록 PrincipalCache를 거쳐 조회
      * @param userId 사용자 ID
      * @return UserDetails 구현체
      * @throws UsernameNotFoundException 사용자를 찾을 수 없을 때
@@ -77,15 +80,18 @@ public class CustomUserDetailsService implements UserDetailsService {
     public UserDetails loadUserById(Long userId) throws UsernameNotFoundException {
         logger.debug("Loading user by ID: {}", userId);
 
+        User user = principalCache.get(userId, this::findUserById);
+        logger.debug("User found by ID: Email={}, Premium={}", user.getEmail(), user.getIsPremium());
+
+        return new CustomUserDetails(user);
+    }
+
+    private User findUserById(Long userId) {
         Optional<User> userOptional = userRepository.findById(userId);
         if (userOptional.isEmpty()) {
             logger.warn("User not found with ID: {}", userId);
             throw new UsernameNotFoundException("User not found with ID: " + userId);
         }
-        
-        User user = userOptional.get();
-        logger.debug("User found by ID: Email={}, Premium={}", user.getEmail(), user.getIsPremium());
-        
-        return new CustomUserDetails(user);
+        return userOptional.get();
     }
 }
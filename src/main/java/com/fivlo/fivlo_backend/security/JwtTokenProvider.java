@@ -3,31 +3,106 @@ package com.fivlo.fivlo_backend.security;
 import com.fivlo.fivlo_backend.config.JwtConfig;
 import com.fivlo.fivlo_backend.domain.user.auth.dto.TokenResponseDto;
 import io.jsonwebtoken.*;
+import io.jsonwebtoken.security.InvalidKeyException;
 import io.jsonwebtoken.security.Keys;
-import lombok.RequiredArgsConstructor;
+import io.jsonwebtoken.security.SignatureException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.Authentication;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
     private final JwtConfig jwtConfig;
 
-    private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtConfig.getJwtSecret().getBytes(java.nio.charset.StandardCharsets.UTF_8));
+    // 기동 시 한 번만 만들어 재사용 (SecretKey / JwtParser 모두 불변, thread-safe)
+    private final String signingKeyId;
+    private final SecretKey signingKey;
+    private final Map<String, SecretKey> verificationKeys;
+    private final JwtParser parser;
+    // kid가 없는 기존 토큰용 - 이전 키마다 하나씩 (현재 키로 서명 검증에 실패했을 때만 순서대로 시도)
+    private final List<JwtParser> legacyParsers;
+
+    public JwtTokenProvider(JwtConfig jwtConfig) {
+        this.jwtConfig = jwtConfig;
+
+        Map<String, SecretKey> keys = new LinkedHashMap<>();
+        jwtConfig.getJwtKeyring().forEach((kid, secret) ->
+                keys.put(kid, Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8))));
+
+        this.signingKeyId = jwtConfig.getJwtKeyId();
+        this.signingKey = keys.get(signingKeyId);
+        this.verificationKeys = Map.copyOf(keys);
+
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return resolveVerificationKey(header.getKeyId());
+                    }
+                })
+                .build();
+
+        List<JwtParser> legacy = new ArrayList<>();
+        keys.forEach((kid, key) -> {
+            if (!kid.equals(signingKeyId)) {
+                legacy.add(Jwts.parser()
+                        .keyLocator(new LocatorAdapter<Key>() {
+                            @Override
+                            protected Key locate(JwsHeader header) {
+                                if (header.getKeyId() != null) {
+                                    throw new InvalidKeyException("Legacy key lookup requires a token without kid");
+                                }
+                                return key;
+                            }
+                        })
+                        .build());
+            }
+        });
+        this.legacyParsers = List.copyOf(legacy);
     }
 
-    // 공통 파서 (0.12.x)
-    private JwtParser getParser() {
-        return Jwts.parser()
-                .verifyWith(getSigningKey()) // setSigningKey 대체
-                .build();
+    /** kid 헤더로 검증 키 선택 (kid가 없는 기존 토큰은 현재 키로 먼저 검증) */
+    private SecretKey resolveVerificationKey(String kid) {
+        if (kid == null) {
+            return signingKey;
+        }
+        SecretKey key = verificationKeys.get(kid);
+        if (key == null) {
+            throw new InvalidKeyException("Unknown JWT key id: " + kid);
+        }
+        return key;
+    }
+
+    /**
+     * 서명/만료 검증 후 Claims 반환
+     * kid가 없는 토큰(키 ID 도입 이전 발급)이 현재 키로 검증되지 않으면 jwt.previous-keys의 키로 차례로 재시도
+     * - 키를 교체해도 만료 전의 기존 리프레시 토큰이 계속 통과하도록
+     */
+    private Jws<Claims> parseSignedClaims(String token) {
+        try {
+            return parser.parseSignedClaims(token);
+        } catch (SignatureException ex) {
+            for (JwtParser legacyParser : legacyParsers) {
+                try {
+                    return legacyParser.parseSignedClaims(token);
+                } catch (SignatureException | InvalidKeyException ignored) {
+                    // 다음 이전 키로 시도 (kid가 있는 토큰은 InvalidKeyException으로 바로 넘어감)
+                }
+            }
+            throw ex;
+        }
     }
 
     /** 사용자 ID로 JWT Access 토큰 생성 */
@@ -36,10 +111,11 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + jwtConfig.getJwtExpiration());
 
         return Jwts.builder()
+                .header().keyId(signingKeyId).and()
                 .subject(String.valueOf(userId))
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey(), Jwts.SIG.HS256) // 0.12 스타일
+                .signWith(signingKey, Jwts.SIG.HS256) // 0.12 스타일
                 .compact();
     }
 
@@ -48,10 +124,11 @@ public class JwtTokenProvider {
         Date expiryDate = new Date(now.getTime() + jwtConfig.getJwtRefreshExpiration());
 
         return Jwts.builder()
+                .header().keyId(signingKeyId).and()
                 .subject(String.valueOf(userId))
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey(), Jwts.SIG.HS256)
+                .signWith(signingKey, Jwts.SIG.HS256)
                 .compact();
     }
 
@@ -63,33 +140,29 @@ public class JwtTokenProvider {
 
     /** 토큰에서 사용자 ID 추출 */
     public Long getUserIdFromToken(String token) {
-        Claims claims = getParser()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parseSignedClaims(token).getPayload();
         return Long.valueOf(claims.getSubject());
     }
 
     /** 토큰에서 이메일 추출 */
     public String getUserEmailFromToken(String token) {
-        Claims claims = getParser()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parseSignedClaims(token).getPayload();
         return claims.getSubject();
     }
 
     /** 토큰에서 만료일 추출 */
     public Date getExpirationDateFromToken(String token) {
-        Claims claims = getParser()
-                .parseSignedClaims(token)
-                .getPayload();
+        Claims claims = parseSignedClaims(token).getPayload();
         return claims.getExpiration();
     }
 
-    /** 토큰 유효성 검증 */
-    public boolean validateToken(String token) {
+    /**
+     * 토큰을 한 번만 파싱하여 서명/만료가 검증된 Claims 반환
+     * 검증에 실패하면 Optional.empty()
+     */
+    public Optional<Claims> parseVerifiedClaims(String token) {
         try {
-            getParser().parseSignedClaims(token);
-            return true;
+            return Optional.of(parseSignedClaims(token).getPayload());
         } catch (io.jsonwebtoken.security.SecurityException ex) {
             log.error("Invalid JWT signature: {}", ex.getMessage());
         } catch (MalformedJwtException ex) {
@@ -101,7 +174,17 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty: {}", ex.getMessage());
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /** 검증된 Claims에서 사용자 ID 추출 */
+    public Long getUserId(Claims claims) {
+        return Long.valueOf(claims.getSubject());
+    }
+
+    /** 토큰 유효성 검증 */
+    public boolean validateToken(String token) {
+        return parseVerifiedClaims(token).isPresent();
     }
 
     /** 토큰 만료 여부 확인 */
@@ -0,0 +1,166 @@
+package com.fivlo.fivlo_backend.security;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fivlo.fivlo_backend.domain.user.entity.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * JWT 인증 주체(User) 캐시
+ * 요청마다 users 테이블을 조회하지 않도록 userId -> User 를 짧은 TTL로 보관한다.
+ * - L1: Caffeine 로컬 캐시 (크기/TTL 제한)
+ * - L2: Redis (선택, security.principal-cache.redis-enabled=true 일 때만 사용)
+ * 사용자 정보가 바뀌는 곳에서는 evict()를 호출해 트랜잭션 커밋 이후 캐시를 비운다.
+ * 다른 인스턴스의 L1은 TTL 만큼 이전 값을 볼 수 있으므로 TTL은 짧게 유지한다.
+ */
+@Slf4j
+@Component
+public class PrincipalCache {
+
+    private static final String REDIS_KEY_PREFIX = "auth:principal:";
+
+    private final Cache<Long, User> localCache;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper principalMapper;
+    private final boolean redisEnabled;
+    private final Duration ttl;
+
+    private final Counter redisHitCounter;
+    private final Counter redisMissCounter;
+
+    public PrincipalCache(@Qualifier("customStringRedisTemplate") RedisTemplate<String, String> redisTemplate,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${security.principal-cache.max-size:10000}") long maxSize,
+                          @Value("${security.principal-cache.ttl-seconds:60}") long ttlSeconds,
+                          @Value("${security.principal-cache.redis-enabled:false}") boolean redisEnabled) {
+        this.redisTemplate = redisTemplate;
+        this.redisEnabled = redisEnabled;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+
+        this.localCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(this.ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localCache, "principalCache");
+
+        // 엔티티는 getter 기준 직렬화 시 필드명이 어긋나므로(isPremium 등) 필드 기준으로 직렬화하고, 비밀번호는 제외
+        this.principalMapper = objectMapper.copy()
+                .setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE)
+                .setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .addMixIn(User.class, PrincipalMixin.class);
+
+        this.redisHitCounter = Counter.builder("fivlo.auth.principal.cache.redis")
+                .tag("result", "hit")
+                .description("Redis 인증 주체 캐시 적중 수")
+                .register(meterRegistry);
+        this.redisMissCounter = Counter.builder("fivlo.auth.principal.cache.redis")
+                .tag("result", "miss")
+                .description("Redis 인증 주체 캐시 미스 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캐시에서 사용자 조회, 없으면 loader(DB 조회)로 채운다.
+     * 같은 userId에 대한 동시 미스는 Caffeine이 한 번만 loader를 호출하도록 묶어준다.
+     */
+    public User get(Long userId, Function<Long, User> loader) {
+        return localCache.get(userId, id -> {
+            User cached = readFromRedis(id);
+            if (cached != null) {
+                return cached;
+            }
+            User loaded = loader.apply(id);
+            writeToRedis(id, loaded);
+            return loaded;
+        });
+    }
+
+    /**
+     * 사용자 정보 변경 시 캐시 무효화
+     * 트랜잭션 안이라면 커밋 이후에 비워서, 커밋 전 값이 다시 캐시되는 것을 막는다.
+     */
+    public void evict(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(userId);
+                }
+            });
+            return;
+        }
+        evictNow(userId);
+    }
+
+    private void evictNow(Long userId) {
+        localCache.invalidate(userId);
+        if (redisEnabled) {
+            try {
+                redisTemplate.delete(REDIS_KEY_PREFIX + userId);
+            } catch (Exception e) {
+                log.warn("Redis 인증 주체 캐시 삭제 실패 - userId: {}, error: {}", userId, e.getMessage());
+            }
+        }
+        log.debug("인증 주체 캐시 무효화 - userId: {}", userId);
+    }
+
+    private User readFromRedis(Long userId) {
+        if (!redisEnabled) {
+            return null;
+        }
+        try {
+            String json = redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + userId);
+            if (json == null) {
+                redisMissCounter.increment();
+                return null;
+            }
+            redisHitCounter.increment();
+            return principalMapper.readValue(json, User.class);
+        } catch (Exception e) {
+            // Redis 장애/역직렬화 실패 시 DB 조회로 대체
+            log.warn("Redis 인증 주체 캐시 조회 실패 - userId: {}, error: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeToRedis(Long userId, User user) {
+        if (!redisEnabled || user == null) {
+            return;
+        }
+        try {
+            redisTemplate.opsForValue().set(REDIS_KEY_PREFIX + userId, principalMapper.writeValueAsString(user), ttl);
+        } catch (JsonProcessingException e) {
+            log.warn("인증 주체 직렬화 실패 - userId: {}, error: {}", userId, e.getMessage());
+        } catch (Exception e) {
+            log.warn("Redis 인증 주체 캐시 저장 실패 - userId: {}, error: {}", userId, e.getMessage());
+        }
+    }
+
+    @JsonIgnoreProperties({"password"})
+    private abstract static class PrincipalMixin {
+    }
+}
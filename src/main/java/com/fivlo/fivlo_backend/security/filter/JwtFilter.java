@@ -4,6 +4,7 @@ import com.fivlo.fivlo_backend.common.Routes;
 import com.fivlo.fivlo_backend.security.CustomUserDetails;
 import com.fivlo.fivlo_backend.security.CustomUserDetailsService;
 import com.fivlo.fivlo_backend.security.JwtTokenProvider;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +16,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 import org.springframework.util.StringUtils;
 import java.io.IOException;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
@@ -50,16 +52,17 @@ public class JwtFilter extends OncePerRequestFilter {
             return;
         }
 
-        // 토큰 유효성 검증
-        if (!jwtTokenProvider.validateToken(token)) {
+        // 토큰 유효성 검증 및 Claims 추출 (한 번만 파싱)
+        Optional<Claims> claims = jwtTokenProvider.parseVerifiedClaims(token);
+        if (claims.isEmpty()) {
             filterChain.doFilter(request, response);
             return;
         }
 
         // 1. 토큰에서 사용자 id 추출
-        Long userId = jwtTokenProvider.getUserIdFromToken(token);
+        Long userId = jwtTokenProvider.getUserId(claims.get());
 
-        // 2. 사용자 조회
+        // 2. 사용자 조회 (PrincipalCache 경유, 캐시 미스 시에만 DB 조회)
         CustomUserDetails userDetails = (CustomUserDetails) userDetailsService.loadUserById(userId);
 
         // 3. 조회한 userDetails로 인증 객체 생성
@@ -0,0 +1,12 @@
+-- V10: 타임어택 세션 기록 키셋 페이지네이션용 인덱스
+-- 목적: 세션 기록 조회를 (created_at DESC, id DESC) 키셋으로 바꾸면서
+--       사용자별 최신순 ID 페이지를 인덱스만으로 찾기 위함
+
+-- TimeAttackSessionRepository.findHistoryIds / findHistoryIdsAfter
+-- WHERE user_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC LIMIT ?
+CREATE INDEX IF NOT EXISTS idx_time_attack_sessions_user_created_id
+ON time_attack_sessions(user_id, created_at DESC, id DESC);
+
+-- 설명:
+-- 기존 idx_time_attack_sessions_user_id(user_id) 로는 사용자의 세션을 모두 읽고 정렬한 뒤 잘라야 했지만,
+-- 이 인덱스는 커서 위치부터 LIMIT 건만 스캔한다 (세션 수와 무관하게 페이지당 일정한 비용).
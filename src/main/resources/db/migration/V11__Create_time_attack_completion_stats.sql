@@ -0,0 +1,43 @@
+-- V11__Create_time_attack_completion_stats.sql
+-- 타임어택 완료율 통계를 세션 전체 집계(COUNT/SUM CASE) 대신 미리 유지하는 카운터 행에서 읽기 위한 테이블
+-- TimeAttackStatsService에서 세션 생성/완료 시 같은 트랜잭션으로 증분 갱신하고,
+-- 매일 새벽 reconcile()이 세션 원본 기준으로 다시 맞춘다. 기존 세션은 아래에서 한 번에 백필한다.
+
+-- ==================== 사용자별 카운터 ====================
+
+CREATE TABLE time_attack_user_stats (
+    user_id BIGINT PRIMARY KEY REFERENCES users(id) ON DELETE CASCADE,
+    session_count BIGINT NOT NULL DEFAULT 0,
+    completed_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE time_attack_user_stats IS '타임어택 세션 사용자별 누적 개수 (완료율 통계용)';
+
+-- ==================== 일자별 전체 카운터 ====================
+
+CREATE TABLE time_attack_daily_stats (
+    stat_date DATE PRIMARY KEY,
+    session_count BIGINT NOT NULL DEFAULT 0,
+    completed_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+COMMENT ON TABLE time_attack_daily_stats IS '타임어택 세션 일자별 전체 개수 (완료율 통계용)';
+COMMENT ON COLUMN time_attack_daily_stats.stat_date IS '세션 생성일 (created_at 기준, Asia/Seoul) - 완료도 생성일에 반영';
+
+-- ==================== 기존 세션 백필 ====================
+
+INSERT INTO time_attack_user_stats (user_id, session_count, completed_count)
+SELECT s.user_id,
+       COUNT(*),
+       COUNT(*) FILTER (WHERE s.is_completed)
+FROM time_attack_sessions s
+GROUP BY s.user_id;
+
+INSERT INTO time_attack_daily_stats (stat_date, session_count, completed_count)
+SELECT CAST(s.created_at AS DATE),
+       COUNT(*),
+       COUNT(*) FILTER (WHERE s.is_completed)
+FROM time_attack_sessions s
+GROUP BY CAST(s.created_at AS DATE);
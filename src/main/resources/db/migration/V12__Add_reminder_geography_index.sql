@@ -0,0 +1,20 @@
+-- V12: 위치 알림 지오펜스 조회를 DB(PostGIS)에서 수행하기 위한 보정/인덱스
+-- ReminderRepository.findLocationRemindersOutsideRadius
+-- NOT ST_DWithin(CAST(location AS geography), ..., 미터) 비교
+
+-- 좌표는 있지만 geometry 포인트가 비어 있는 행 보정 (SRID 4326)
+UPDATE forgetting_prevention_reminders
+SET location = ST_SetSRID(
+    ST_MakePoint(
+        location_longitude::double precision,
+        location_latitude::double precision
+    ), 4326)
+WHERE location IS NULL
+  AND location_latitude IS NOT NULL
+  AND location_longitude IS NOT NULL;
+
+-- 사용자별 위치 알림 후보 (이탈 판정은 반경 밖 = NOT ST_DWithin 이라 공간 인덱스로 좁힐 수 없으므로
+-- 사용자 단위 부분 인덱스로 후보를 줄인 뒤 DB에서 거리 계산)
+CREATE INDEX IF NOT EXISTS idx_forgetting_prevention_reminders_user_location
+ON forgetting_prevention_reminders(user_id)
+WHERE location IS NOT NULL AND location_name IS NOT NULL;
@@ -0,0 +1,42 @@
+-- V9__Create_focus_daily_rollup.sql
+-- 집중도 분석(일간/주간/월간)을 세션 원본 대신 일자·시간대·목표 단위 집계 테이블에서 조회하기 위한 롤업 테이블
+-- PomodoroService.endSession()에서 증분 갱신되며, 기존 세션은 아래에서 한 번에 백필한다.
+
+-- ==================== focus_daily_rollup 테이블 ====================
+
+CREATE TABLE focus_daily_rollup (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    rollup_date DATE NOT NULL,
+    hour_bucket SMALLINT NOT NULL CHECK (hour_bucket BETWEEN 0 AND 23),
+    pomodoro_goal_id BIGINT NOT NULL REFERENCES pomodoro_goals(id) ON DELETE CASCADE,
+    total_seconds BIGINT NOT NULL DEFAULT 0,
+    session_count INTEGER NOT NULL DEFAULT 0,
+    completed_count INTEGER NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_focus_daily_rollup UNIQUE (user_id, rollup_date, hour_bucket, pomodoro_goal_id)
+);
+
+COMMENT ON TABLE focus_daily_rollup IS '포모도로 세션 일자/시간대/목표별 집계 (집중도 분석용)';
+COMMENT ON COLUMN focus_daily_rollup.rollup_date IS '세션 시작일 (created_at 기준, Asia/Seoul)';
+COMMENT ON COLUMN focus_daily_rollup.hour_bucket IS '세션 시작 시간대 (0~23)';
+
+-- 유니크 제약의 인덱스(user_id, rollup_date, ...)가 기간 조회에 그대로 사용됨
+CREATE INDEX idx_focus_daily_rollup_goal_id ON focus_daily_rollup(pomodoro_goal_id);
+
+-- ==================== 기존 세션 백필 ====================
+-- created_at은 TIMESTAMP(Asia/Seoul 로컬 시각)로 저장되어 있으므로 별도 변환 없이 날짜/시간을 추출
+-- 아직 종료되지 않은(duration 0) 세션은 endSession에서 반영되므로 제외
+
+INSERT INTO focus_daily_rollup (user_id, rollup_date, hour_bucket, pomodoro_goal_id,
+                                total_seconds, session_count, completed_count)
+SELECT s.user_id,
+       CAST(s.created_at AS DATE),
+       CAST(EXTRACT(HOUR FROM s.created_at) AS SMALLINT),
+       s.pomodoro_goal_id,
+       SUM(s.duration_in_seconds),
+       COUNT(*),
+       COUNT(*) FILTER (WHERE s.is_cycle_completed)
+FROM pomodoro_sessions s
+WHERE s.duration_in_seconds > 0
+GROUP BY s.user_id, CAST(s.created_at AS DATE), EXTRACT(HOUR FROM s.created_at), s.pomodoro_goal_id;
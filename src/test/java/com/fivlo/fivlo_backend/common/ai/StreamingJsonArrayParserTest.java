@@ -0,0 +1,116 @@
+package com.fivlo.fivlo_backend.common.ai;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fivlo.fivlo_backend.common.ai.dto.AITimeAttackResponse.RecommendedStep;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class StreamingJsonArrayParserTest {
+
+    private static final Set<String> STEP_ARRAY_FIELDS = Set.of("recommended_steps", "recommendedSteps", "steps", "items");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<RecommendedStep> emitted;
+    private StreamingJsonArrayParser<RecommendedStep> parser;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        emitted = new ArrayList<>();
+        parser = new StreamingJsonArrayParser<>(objectMapper, STEP_ARRAY_FIELDS, RecommendedStep.class, emitted::add);
+    }
+
+    @Test
+    void 토큰과_문자열_중간에서_잘린_조각도_원소_단위로_즉시_전달한다() throws IOException {
+        parser.feed("{\"recommended_st");
+        parser.feed("eps\": [{\"content\": \"책상 정");
+        parser.feed("리\", \"duration_in_sec");
+        parser.feed("onds\": 3");
+        assertThat(emitted).isEmpty();
+
+        parser.feed("00}, {\"content\": \"자료 ");
+        // 첫 원소가 닫히는 순간 바로 전달
+        assertThat(emitted).hasSize(1);
+
+        parser.feed("찾기\", \"seconds\": 1");
+        parser.feed("20}]}");
+        parser.finish();
+
+        assertThat(emitted)
+                .extracting(RecommendedStep::getContent, RecommendedStep::getDurationInSeconds)
+                .containsExactly(tuple("책상 정리", 300), tuple("자료 찾기", 120));
+        assertThat(parser.isCompleted()).isTrue();
+        assertThat(parser.getEmittedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void 한_글자씩_들어와도_전체_파싱과_같은_결과를_낸다() throws IOException {
+        String json = "{\"steps\":[{\"content\":\"준비 \\\"운동\\\"\",\"duration\":60},"
+                + "{\"content\":\"본 운동\",\"duration\":1200},{\"content\":\"정리\",\"duration\":300}]}";
+
+        for (int i = 0; i < json.length(); i++) {
+            parser.feed(json.substring(i, i + 1));
+        }
+        parser.finish();
+
+        assertThat(emitted)
+                .extracting(RecommendedStep::getContent, RecommendedStep::getDurationInSeconds)
+                .containsExactly(tuple("준비 \"운동\"", 60), tuple("본 운동", 1200), tuple("정리", 300));
+    }
+
+    @Test
+    void 마크다운_펜스_접두어는_무시한다() throws IOException {
+        parser.feed("```");
+        parser.feed("json\n");
+        parser.feed("{\"items\": [{\"title\": \"빨래 개기\", \"time_seconds\": 180}]}\n```");
+        parser.finish();
+
+        assertThat(emitted)
+                .extracting(RecommendedStep::getContent, RecommendedStep::getDurationInSeconds)
+                .containsExactly(tuple("빨래 개기", 180));
+        assertThat(parser.isCompleted()).isTrue();
+    }
+
+    @Test
+    void 별칭_배열_필드만_꺼내고_다른_배열은_무시한다() throws IOException {
+        parser.feed("{\"tips\": [{\"content\": \"무시\"}], "
+                + "\"steps\": [{\"name\": \"설거지\", \"seconds\": 600}], "
+                + "\"summary\": {\"items\": [{\"content\": \"중첩된 별칭도 무시\"}]}}");
+        parser.finish();
+
+        assertThat(emitted)
+                .extracting(RecommendedStep::getContent, RecommendedStep::getDurationInSeconds)
+                .containsExactly(tuple("설거지", 600));
+    }
+
+    @Test
+    void 단계_안의_중첩_객체와_배열은_원소의_일부로_처리한다() throws IOException {
+        parser.feed("{\"recommendedSteps\": [{\"content\": \"청소\", \"meta\": {\"area\": {\"room\": \"거실\"}}, ");
+        parser.feed("\"tags\": [{\"k\": 1}, {\"k\": 2}], \"duration_in_seconds\": 900}, ");
+        parser.feed("{\"content\": \"환기\", \"duration_in_seconds\": 60}]}");
+        parser.finish();
+
+        assertThat(emitted)
+                .extracting(RecommendedStep::getContent, RecommendedStep::getDurationInSeconds)
+                .containsExactly(tuple("청소", 900), tuple("환기", 60));
+    }
+
+    @Test
+    void 최상위_객체가_닫힌_뒤의_텍스트는_무시한다() throws IOException {
+        parser.feed("{\"steps\": [{\"content\": \"독서\", \"seconds\": 1800}]}\n```\n추가 설명: {\"steps\": [");
+        parser.feed("{\"content\": \"무시\", \"seconds\": 1}]}");
+        parser.finish();
+
+        assertThat(emitted)
+                .extracting(RecommendedStep::getContent)
+                .containsExactly("독서");
+        assertThat(parser.isCompleted()).isTrue();
+    }
+}
@@ -0,0 +1,87 @@
+package com.fivlo.fivlo_backend.domain.reminder.service;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class AlarmTimeWheelTest {
+
+    private static final int SLOTS = 60;
+
+    private final AlarmTimeWheel wheel = new AlarmTimeWheel(SLOTS);
+
+    @Test
+    void 첫_advance_전에_적재한_기동_분_항목도_발송한다() {
+        // 기동 직후 적재가 먼저 돌고 (현재 분 100 포함), 첫 발송 틱은 다음 분
+        wheel.schedule(1L, 100);
+        wheel.schedule(2L, 101);
+
+        assertThat(wheel.advance(101))
+                .extracting(AlarmTimeWheel.Entry::reminderId)
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 같은_칸의_다음_바퀴_항목은_남겨_두었다가_한_바퀴_뒤에_발송한다() {
+        wheel.advance(60);
+        wheel.schedule(1L, 70);
+        wheel.schedule(2L, 70 + SLOTS); // 같은 칸 (70 mod 60 == 130 mod 60)
+
+        assertThat(wheel.advance(70))
+                .extracting(AlarmTimeWheel.Entry::reminderId)
+                .containsExactly(1L);
+        assertThat(wheel.size()).isEqualTo(1);
+
+        for (long minute = 71; minute < 70 + SLOTS; minute++) {
+            assertThat(wheel.advance(minute)).isEmpty();
+        }
+        assertThat(wheel.advance(70 + SLOTS))
+                .extracting(AlarmTimeWheel.Entry::reminderId)
+                .containsExactly(2L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 틱이_밀리면_지나간_칸을_모두_훑는다() {
+        wheel.advance(100);
+        wheel.schedule(1L, 101);
+        wheel.schedule(2L, 102);
+        wheel.schedule(3L, 103);
+        wheel.schedule(4L, 106);
+
+        assertThat(wheel.advance(105))
+                .extracting(AlarmTimeWheel.Entry::reminderId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+        assertThat(wheel.advance(106))
+                .extracting(AlarmTimeWheel.Entry::reminderId)
+                .containsExactly(4L);
+    }
+
+    @Test
+    void 한_바퀴보다_오래_밀려도_발송_분이_지난_항목은_모두_꺼낸다() {
+        wheel.advance(100);
+        wheel.schedule(1L, 101);
+        wheel.schedule(2L, 150);
+
+        assertThat(wheel.advance(100 + SLOTS * 3))
+                .extracting(AlarmTimeWheel.Entry::fireMinute)
+                .containsExactlyInAnyOrder(101L, 150L);
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    void 이미_지나간_분은_다음_advance에서_발송하고_발송_분은_그대로_둔다() {
+        wheel.advance(100);
+        wheel.schedule(1L, 95);
+        wheel.schedule(2L, 100);
+
+        assertThat(wheel.advance(101))
+                .extracting(AlarmTimeWheel.Entry::reminderId, AlarmTimeWheel.Entry::fireMinute)
+                .containsExactlyInAnyOrder(
+                        tuple(1L, 95L),
+                        tuple(2L, 100L));
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,117 @@
+package com.fivlo.fivlo_backend.domain.reminder.service;
+
+import com.fivlo.fivlo_backend.domain.reminder.repository.ReminderRepository;
+import com.fivlo.fivlo_backend.domain.user.notification.service.FcmDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ReminderAlarmSchedulerTest {
+
+    // 2026-10-19(월) 09:00 Asia/Seoul - 5분 구간의 시작
+    private static final ZonedDateTime WINDOW_START = ZonedDateTime.of(2026, 10, 19, 9, 0, 0, 0, ZoneId.of("Asia/Seoul"));
+    private static final long T0 = TimeUnit.SECONDS.toMinutes(WINDOW_START.toEpochSecond());
+    private static final LocalTime ALARM_TIME = LocalTime.of(9, 3);
+
+    private ReminderRepository reminderRepository;
+    private FcmDispatcher fcmDispatcher;
+    private ReminderAlarmScheduler scheduler;
+
+    /** DB에 있는 알림 (id, 알림 시각) - 테스트 중간에 추가 */
+    private final List<Object[]> reminders = new ArrayList<>();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        reminderRepository = mock(ReminderRepository.class);
+        fcmDispatcher = mock(FcmDispatcher.class);
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        ZSetOperations<String, String> zSetOperations = mock(ZSetOperations.class);
+        ValueOperations<String, String> valueOperations = mock(ValueOperations.class);
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(zSetOperations.zCard(anyString())).thenReturn(1L);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+
+        // 구간 [fromTime, toTime] 안의 알림만 반환 (샤드 1개라 모두 이 노드 몫)
+        when(reminderRepository.findDueAlarmIds(any(), any(), anyString(), anyInt(), anyCollection()))
+                .thenAnswer(invocation -> {
+                    LocalTime from = invocation.getArgument(0);
+                    LocalTime to = invocation.getArgument(1);
+                    return reminders.stream()
+                            .filter(row -> {
+                                LocalTime alarmTime = (LocalTime) row[1];
+                                return !alarmTime.isBefore(from) && !alarmTime.isAfter(to);
+                            })
+                            .map(row -> new Object[]{row[0], ((LocalTime) row[1]).toSecondOfDay() / 60})
+                            .toList();
+                });
+        when(reminderRepository.findAlarmsToFire(any(), any(), any(), anyString(), any()))
+                .thenAnswer(invocation -> {
+                    Collection<Long> ids = invocation.getArgument(0);
+                    return ids.stream()
+                            .map(id -> new Object[]{id, 7L, "우산 챙기기", "token-7"})
+                            .toList();
+                });
+        when(fcmDispatcher.enqueue(any(), any(), any(), any(), any())).thenReturn(true);
+
+        scheduler = new ReminderAlarmScheduler(reminderRepository, fcmDispatcher, redisTemplate,
+                new SimpleMeterRegistry(), 1, 5, 2, true);
+    }
+
+    @Test
+    void 구간_적재_이후_생성된_알림도_다음_분_재조회로_발송한다() {
+        scheduler.loadUpcoming(T0);   // 09:00 구간 적재 시점에는 알림 없음
+        scheduler.fireDue(T0 + 1);
+
+        reminders.add(new Object[]{42L, ALARM_TIME}); // 09:01에 09:03 알림 생성
+
+        scheduler.loadUpcoming(T0 + 1);
+        scheduler.fireDue(T0 + 2);
+        verify(fcmDispatcher, never()).enqueue(any(), any(), any(), any(), any());
+
+        scheduler.loadUpcoming(T0 + 2); // 이미 휠에 있는 알림은 다시 넣지 않음
+        scheduler.fireDue(T0 + 3);
+
+        verify(fcmDispatcher, times(1)).enqueue(eq(7L), eq("token-7"), eq("우산 챙기기"), anyString(), isNull());
+    }
+
+    @Test
+    void 다음_구간을_미리_적재한_뒤_생성된_알림도_발송한다() {
+        long previousWindow = T0 - 5;
+        scheduler.loadUpcoming(previousWindow); // 08:55에 09:00 구간(다음 구간)까지 미리 적재
+
+        reminders.add(new Object[]{43L, LocalTime.of(9, 1)}); // 08:57에 09:01 알림 생성
+        scheduler.loadUpcoming(previousWindow + 2);
+
+        for (long minute = previousWindow + 1; minute <= T0 + 1; minute++) {
+            scheduler.fireDue(minute);
+        }
+
+        verify(fcmDispatcher, times(1)).enqueue(eq(7L), eq("token-7"), eq("우산 챙기기"), anyString(), isNull());
+    }
+}
@@ -0,0 +1,218 @@
+package com.fivlo.fivlo_backend.domain.user.notification.service;
+
+import com.fivlo.fivlo_backend.domain.user.repository.UserRepository;
+import com.fivlo.fivlo_backend.security.PrincipalCache;
+import com.google.firebase.messaging.BatchResponse;
+import com.google.firebase.messaging.FirebaseMessaging;
+import com.google.firebase.messaging.FirebaseMessagingException;
+import com.google.firebase.messaging.Message;
+import com.google.firebase.messaging.MessagingErrorCode;
+import com.google.firebase.messaging.SendResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.stubbing.Answer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FcmDispatcherTest {
+
+    private FirebaseMessaging firebaseMessaging;
+    private ThreadPoolTaskExecutor executor;
+    private UserRepository userRepository;
+    private PrincipalCache principalCache;
+    private SimpleMeterRegistry meterRegistry;
+    private SendResponse success;
+
+    /** 제출된 작업을 호출 스레드에서 바로 실행 (flush 한 번 = 전송 한 번) */
+    private static final Answer<Void> RUN_INLINE = invocation -> {
+        invocation.<Runnable>getArgument(0).run();
+        return null;
+    };
+
+    @BeforeEach
+    void setUp() {
+        firebaseMessaging = mock(FirebaseMessaging.class);
+        executor = mock(ThreadPoolTaskExecutor.class);
+        userRepository = mock(UserRepository.class);
+        principalCache = mock(PrincipalCache.class);
+        meterRegistry = new SimpleMeterRegistry();
+        doAnswer(RUN_INLINE).when(executor).execute(any(Runnable.class));
+        success = mock(SendResponse.class);
+        when(success.isSuccessful()).thenReturn(true);
+    }
+
+    /** 백오프 0 - 재시도가 바로 다음 flush에서 나간다 */
+    private FcmDispatcher dispatcher(int queueCapacity, int maxAttempts) {
+        return new FcmDispatcher(firebaseMessaging, executor, userRepository, principalCache, meterRegistry,
+                queueCapacity, maxAttempts, 0, 0);
+    }
+
+    @Test
+    void flush는_큐를_최대_500건씩_나눠_sendEach로_보낸다() throws Exception {
+        when(firebaseMessaging.sendEach(anyList())).thenAnswer(invocation ->
+                allSucceeded(invocation.<List<Message>>getArgument(0).size()));
+        FcmDispatcher dispatcher = dispatcher(10_000, 4);
+        for (long userId = 1; userId <= 1200; userId++) {
+            assertThat(dispatcher.enqueue(userId, "token-" + userId, "제목", "내용", null)).isTrue();
+        }
+
+        dispatcher.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+        verify(firebaseMessaging, times(3)).sendEach(captor.capture());
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactly(500, 500, 200);
+        assertThat(messageCount("sent")).isEqualTo(1200);
+        assertThat(gauge("fivlo.fcm.queue.depth")).isZero();
+    }
+
+    @Test
+    void UNREGISTERED_응답이면_토큰을_지우고_인증_캐시를_비운다() throws Exception {
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(failedWith(MessagingErrorCode.UNREGISTERED));
+        when(userRepository.clearFcmToken(7L, "stale-token")).thenReturn(1);
+        AtomicInteger failures = new AtomicInteger();
+        FcmDispatcher dispatcher = dispatcher(100, 4);
+        dispatcher.enqueue(7L, "stale-token", "제목", "내용", failures::incrementAndGet);
+
+        dispatcher.flush();
+        dispatcher.flush();
+
+        verify(userRepository).clearFcmToken(7L, "stale-token");
+        verify(principalCache).evict(7L);
+        // 재시도 없이 바로 최종 실패
+        verify(firebaseMessaging, times(1)).sendEach(anyList());
+        assertThat(failures).hasValue(1);
+        assertThat(messageCount("invalid_token")).isEqualTo(1);
+        assertThat(messageCount("retried")).isZero();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = MessagingErrorCode.class, names = {"UNAVAILABLE", "INTERNAL"})
+    void 일시적_오류는_max_attempts까지_재시도한_뒤_onFailure를_실행한다(MessagingErrorCode code) throws Exception {
+        when(firebaseMessaging.sendEach(anyList())).thenReturn(failedWith(code));
+        AtomicInteger failures = new AtomicInteger();
+        FcmDispatcher dispatcher = dispatcher(100, 3);
+        dispatcher.enqueue(1L, "token", "제목", "내용", failures::incrementAndGet);
+
+        dispatcher.flush();
+        dispatcher.flush();
+        assertThat(failures).hasValue(0);
+        assertThat(gauge("fivlo.fcm.retry.depth")).isEqualTo(1);
+
+        dispatcher.flush();
+        dispatcher.flush(); // 한도를 넘긴 메시지는 다시 보내지 않음
+
+        verify(firebaseMessaging, times(3)).sendEach(anyList());
+        verify(userRepository, never()).clearFcmToken(any(), any());
+        assertThat(failures).hasValue(1);
+        assertThat(messageCount("retried")).isEqualTo(2);
+        assertThat(messageCount("failed")).isEqualTo(1);
+        assertThat(gauge("fivlo.fcm.retry.depth")).isZero();
+    }
+
+    @Test
+    void 큐가_가득_차면_enqueue가_false를_반환한다() throws Exception {
+        AtomicInteger failures = new AtomicInteger();
+        FcmDispatcher dispatcher = dispatcher(2, 4);
+
+        assertThat(dispatcher.enqueue(1L, "token-1", "제목", "내용", failures::incrementAndGet)).isTrue();
+        assertThat(dispatcher.enqueue(2L, "token-2", "제목", "내용", failures::incrementAndGet)).isTrue();
+        assertThat(dispatcher.enqueue(3L, "token-3", "제목", "내용", failures::incrementAndGet)).isFalse();
+
+        // 거절된 메시지의 onFailure는 호출 측 책임
+        assertThat(failures).hasValue(0);
+        assertThat(messageCount("rejected")).isEqualTo(1);
+        assertThat(gauge("fivlo.fcm.queue.depth")).isEqualTo(2);
+        verify(firebaseMessaging, never()).sendEach(anyList());
+    }
+
+    @Test
+    void 실행기가_거절하면_배치를_되돌려_다음_flush에서_보낸다() throws Exception {
+        when(firebaseMessaging.sendEach(anyList())).thenAnswer(invocation ->
+                allSucceeded(invocation.<List<Message>>getArgument(0).size()));
+        doThrow(new RejectedExecutionException("full")).doAnswer(RUN_INLINE)
+                .when(executor).execute(any(Runnable.class));
+        FcmDispatcher dispatcher = dispatcher(100, 1);
+        dispatcher.enqueue(1L, "token-1", "제목", "내용", null);
+        dispatcher.enqueue(2L, "token-2", "제목", "내용", null);
+
+        dispatcher.flush();
+
+        verify(firebaseMessaging, never()).sendEach(anyList());
+        assertThat(gauge("fivlo.fcm.queue.depth")).isZero();
+        assertThat(gauge("fivlo.fcm.retry.depth")).isEqualTo(2);
+
+        dispatcher.flush();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Message>> captor = ArgumentCaptor.forClass(List.class);
+        verify(firebaseMessaging).sendEach(captor.capture());
+        assertThat(captor.getValue()).hasSize(2);
+        // 거절은 시도 횟수로 치지 않음 (max-attempts=1이어도 전송됨)
+        assertThat(messageCount("sent")).isEqualTo(2);
+        assertThat(messageCount("retried")).isZero();
+        assertThat(gauge("fivlo.fcm.retry.depth")).isZero();
+    }
+
+    // ==================== 유틸리티 메서드 ====================
+
+    private BatchResponse allSucceeded(int size) {
+        return batchResponse(Collections.nCopies(size, success));
+    }
+
+    private static BatchResponse failedWith(MessagingErrorCode code) {
+        FirebaseMessagingException exception = mock(FirebaseMessagingException.class);
+        when(exception.getMessagingErrorCode()).thenReturn(code);
+        SendResponse failure = mock(SendResponse.class);
+        when(failure.isSuccessful()).thenReturn(false);
+        when(failure.getException()).thenReturn(exception);
+        return batchResponse(List.of(failure));
+    }
+
+    private static BatchResponse batchResponse(List<SendResponse> responses) {
+        int successCount = (int) responses.stream().filter(SendResponse::isSuccessful).count();
+        return new BatchResponse() {
+            @Override
+            public List<SendResponse> getResponses() {
+                return responses;
+            }
+
+            @Override
+            public int getSuccessCount() {
+                return successCount;
+            }
+
+            @Override
+            public int getFailureCount() {
+                return responses.size() - successCount;
+            }
+        };
+    }
+
+    private double messageCount(String result) {
+        return meterRegistry.get("fivlo.fcm.messages").tag("result", result).counter().count();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).gauge().value();
+    }
+}